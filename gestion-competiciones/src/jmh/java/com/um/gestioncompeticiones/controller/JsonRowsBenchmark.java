@@ -0,0 +1,84 @@
+package com.um.gestioncompeticiones.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.um.gestioncompeticiones.dto.MatchDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la serialización de {@code matchCount} partidos con {@link JsonRowsHttpMessageConverter}
+ * frente a Jackson por introspección, escribiendo en un flujo que descarta los bytes.
+ * Con {@code -Djmh.args="JsonRows -f 1 -prof gc"} se ve además la memoria reservada por operación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class JsonRowsBenchmark {
+
+    private static final Type MATCH_LIST = new ParameterizedTypeReference<List<MatchDTO>>() {}.getType();
+
+    @Param({"1000", "100000"})
+    private int matchCount;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET) // el flujo se reutiliza entre operaciones
+            .build();
+    private final ObjectWriter matchListWriter = objectMapper.writerFor(
+            objectMapper.getTypeFactory().constructCollectionType(List.class, MatchDTO.class));
+    private final JsonRowsHttpMessageConverter converter = new JsonRowsHttpMessageConverter(objectMapper);
+    private final OutputStream out = OutputStream.nullOutputStream();
+    private final HttpHeaders headers = new HttpHeaders();
+    private final HttpOutputMessage outputMessage = new HttpOutputMessage() {
+        @Override
+        public OutputStream getBody() {
+            return out;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    };
+    private List<MatchDTO> matches;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        matches = new ArrayList<>(matchCount);
+        for (int i = 0; i < matchCount; i++) {
+            matches.add(new MatchDTO((long) i + 1, 1L, 2L * i + 1, "Equipo " + (2 * i + 1),
+                    2L * i + 2, "Equipo " + (2 * i + 2), start.plusDays(i % 365), i % 4 + 1,
+                    i % 8, i / 500 + 1, i % 3 == 0 ? null : 2L * i + 1, i % 5, i % 3));
+        }
+    }
+
+    @Benchmark
+    public void jsonRowsConverter() throws IOException {
+        converter.write(matches, MATCH_LIST, MediaType.APPLICATION_JSON, outputMessage);
+    }
+
+    @Benchmark
+    public void jacksonObjectMapper() throws IOException {
+        matchListWriter.writeValue(out, matches);
+    }
+}
@@ -0,0 +1,88 @@
+package com.um.gestioncompeticiones.mapper;
+
+import com.um.gestioncompeticiones.dto.MatchDTO;
+import com.um.gestioncompeticiones.model.Competition;
+import com.um.gestioncompeticiones.model.Match;
+import com.um.gestioncompeticiones.model.Team;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Mide {@link DtoMapper#toMatchDTOList} sobre los partidos de una ronda completa
+ * ({@code teamCount / 2} partidos), frente al mapeo anterior con builder y {@code Collectors.toList()}.
+ * Para comparar la memoria reservada por partido ({@code gc.alloc.rate.norm} dividido entre
+ * {@code teamCount / 2}) se ejecuta con el perfilador de GC:
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="DtoMapper -f 1 -prof gc"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class DtoMapperBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    private int teamCount;
+
+    private final DtoMapper dtoMapper = new DtoMapper();
+    private List<Match> matches;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Competition competition = Competition.builder()
+                .id(1L)
+                .name("Benchmark")
+                .sport("Fútbol")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 12, 31))
+                .numberOfCourts(4)
+                .build();
+
+        matches = new ArrayList<>(teamCount / 2);
+        for (int i = 0; i < teamCount / 2; i++) {
+            Team team1 = Team.builder().id(2L * i + 1).name("Equipo " + (2 * i + 1)).build();
+            Team team2 = Team.builder().id(2L * i + 2).name("Equipo " + (2 * i + 2)).build();
+            matches.add(Match.builder()
+                    .id((long) i + 1)
+                    .competition(competition)
+                    .team1(team1)
+                    .team2(team2)
+                    .matchDate(competition.getStartDate().plusDays(i % 365))
+                    .courtNumber(i % 4 + 1)
+                    .round(1)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<MatchDTO> toMatchDTOList() {
+        return dtoMapper.toMatchDTOList(matches);
+    }
+
+    // Referencia: un builder por fila y una lista que crece mientras se recoge el stream
+    @Benchmark
+    public List<MatchDTO> toMatchDTOListWithBuilder() {
+        return matches.stream().map(match -> MatchDTO.builder()
+                        .id(match.getId())
+                        .competitionId(match.getCompetition().getId())
+                        .team1Id(match.getTeam1().getId())
+                        .team1Name(match.getTeam1().getName())
+                        .team2Id(match.getTeam2().getId())
+                        .team2Name(match.getTeam2().getName())
+                        .matchDate(match.getMatchDate())
+                        .courtNumber(match.getCourtNumber())
+                        .timeSlot(match.getTimeSlot())
+                        .round(match.getRound())
+                        .winnerId(match.getWinner() != null ? match.getWinner().getId() : null)
+                        .homeScore(match.getHomeScore())
+                        .awayScore(match.getAwayScore())
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,58 @@
+package com.um.gestioncompeticiones.service;
+
+import com.um.gestioncompeticiones.model.Competition;
+import com.um.gestioncompeticiones.model.Match;
+import com.um.gestioncompeticiones.model.Team;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide {@link MatchServiceImpl#assignMatches} (emparejamiento de la primera ronda) sin base de datos.
+ * El número de pistas se ajusta para que el límite diario no recorte los partidos generados.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class AssignMatchesBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    private int teamCount;
+
+    private MatchServiceImpl matchService;
+    private Competition competition;
+    private List<Team> teams;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // assignMatches no usa ninguna dependencia
+        matchService = new MatchServiceImpl(null, null, null, null, null, null, null, null);
+
+        competition = Competition.builder()
+                .id(1L)
+                .name("Benchmark")
+                .sport("Fútbol")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 12, 31))
+                .numberOfCourts(Math.max(1, teamCount / 4))
+                .build();
+
+        teams = new ArrayList<>(teamCount);
+        for (int i = 0; i < teamCount; i++) {
+            teams.add(Team.builder().id((long) i + 1).name("Equipo " + (i + 1)).build());
+        }
+    }
+
+    @Benchmark
+    public List<Match> assignMatches() {
+        List<Match> matches = new ArrayList<>();
+        matchService.assignMatches(competition, teams, matches);
+        return matches;
+    }
+}
@@ -0,0 +1,97 @@
+package com.um.gestioncompeticiones.service;
+
+import com.um.gestioncompeticiones.GestionCompeticionesApplication;
+import com.um.gestioncompeticiones.model.Competition;
+import com.um.gestioncompeticiones.model.Team;
+import com.um.gestioncompeticiones.repository.CompetitionRepository;
+import com.um.gestioncompeticiones.repository.CompetitionTeamJdbcRepository;
+import com.um.gestioncompeticiones.repository.MatchBatchRepository;
+import com.um.gestioncompeticiones.repository.MatchRowBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Mide {@link MatchService#getUnassignedTeams} contra H2 con el contexto completo de Spring.
+ * La competición tiene {@code teamCount} equipos inscritos y la mitad de ellos ya tiene partido,
+ * así que la consulta devuelve {@code teamCount / 2} equipos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class UnassignedTeamsBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    private int teamCount;
+
+    private ConfigurableApplicationContext context;
+    private MatchService matchService;
+    private Long competitionId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(GestionCompeticionesApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_ON_EXIT=FALSE",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        matchService = context.getBean(MatchService.class);
+
+        Competition competition = context.getBean(CompetitionRepository.class).save(Competition.builder()
+                .name("Benchmark " + teamCount)
+                .sport("Fútbol")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 12, 31))
+                .numberOfCourts(4)
+                .build());
+        competitionId = competition.getId();
+
+        // Equipos e inscripciones por JDBC: cargarlos con JPA dominaría el tiempo de preparación
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        String prefix = "Benchmark-" + teamCount + "-";
+        jdbcTemplate.batchUpdate("INSERT INTO teams (name) VALUES (?)",
+                IntStream.range(0, teamCount).mapToObj(i -> prefix + i).toList(),
+                MatchBatchRepository.DEFAULT_BATCH_SIZE,
+                (ps, name) -> ps.setString(1, name));
+        long[] teamIds = jdbcTemplate.queryForList("SELECT id FROM teams WHERE name LIKE ? ORDER BY id",
+                        Long.class, prefix + "%")
+                .stream().mapToLong(Long::longValue).toArray();
+        context.getBean(CompetitionTeamJdbcRepository.class).insert(competitionId, teamIds);
+
+        // La primera mitad de los equipos juega un partido entre sí
+        MatchBatchRepository matchBatchRepository = context.getBean(MatchBatchRepository.class);
+        MatchRowBuffer buffer = new MatchRowBuffer(MatchBatchRepository.DEFAULT_BATCH_SIZE);
+        for (int i = 0; i + 1 < teamCount / 2; i += 2) {
+            buffer.add(teamIds[i], teamIds[i + 1], competition.getStartDate(), 1, 0, 1, -1);
+            if (buffer.isFull()) {
+                matchBatchRepository.insert(competitionId, buffer);
+                buffer.clear();
+            }
+        }
+        if (!buffer.isEmpty()) {
+            matchBatchRepository.insert(competitionId, buffer);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Team> getUnassignedTeams() {
+        return matchService.getUnassignedTeams(competitionId);
+    }
+}
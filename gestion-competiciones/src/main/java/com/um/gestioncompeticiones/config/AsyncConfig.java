@@ -0,0 +1,32 @@
+package com.um.gestioncompeticiones.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Ejecutor acotado para los trabajos de generación de partidos. Tiene sus propios hilos y una
+ * cola limitada, de modo que las generaciones pesadas no ocupan hilos de Tomcat y, si se
+ * acumulan demasiadas, se rechazan en lugar de crecer sin límite.
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String GENERATION_EXECUTOR = "generationExecutor";
+
+    @Bean(name = GENERATION_EXECUTOR)
+    public ThreadPoolTaskExecutor generationExecutor(
+            @Value("${app.jobs.pool-size:2}") int poolSize,
+            @Value("${app.jobs.queue-capacity:50}") int queueCapacity) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("generation-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
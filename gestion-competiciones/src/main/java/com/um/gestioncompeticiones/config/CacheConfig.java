@@ -0,0 +1,32 @@
+package com.um.gestioncompeticiones.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Activa la caché de lectura. Los tamaños y la caducidad se configuran en
+ * {@code application.properties} ({@code spring.cache.caffeine.spec}), salvo las tablas de
+ * clasificación, que tienen su propia especificación ({@code app.cache.standings-spec}).
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String COMPETITIONS = "competitions";
+    public static final String TEAMS = "teams";
+    // Tablas de clasificación en memoria, actualizadas con cada resultado (ver StandingsServiceImpl)
+    public static final String STANDINGS = "standings";
+
+    // Las tablas se actualizan en sitio y su entrada no se vuelve a escribir: con la caducidad
+    // por escritura de las demás cachés se tirarían cada pocos minutos aunque estén al día
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> standingsCacheCustomizer(
+            @Value("${app.cache.standings-spec:maximumSize=1000,recordStats}") String standingsSpec) {
+        return cacheManager -> cacheManager.registerCustomCache(STANDINGS, Caffeine.from(standingsSpec).build());
+    }
+}
@@ -10,6 +10,7 @@ import com.um.gestioncompeticiones.service.TeamService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -17,7 +18,10 @@ import java.time.LocalDate;
 @Configuration
 public class DataLoader {
 
+    public static final int ORDER = 0;
+
     @Bean
+    @Order(ORDER)
     @Transactional
     CommandLineRunner loadData(CompetitionService competitionService, TeamService teamService) {
         return args -> {
@@ -0,0 +1,60 @@
+package com.um.gestioncompeticiones.config;
+
+import com.um.gestioncompeticiones.dto.ImportResultDTO;
+import com.um.gestioncompeticiones.importer.ImportFormat;
+import com.um.gestioncompeticiones.service.ImportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.BiFunction;
+
+/**
+ * Importación desde la línea de comandos al arrancar la aplicación:
+ * {@code java -jar app.jar --app.import.competitions-file=competiciones.csv --app.import.teams-file=equipos.ndjson}.
+ * El formato se deduce de la extensión ({@code .csv}, {@code .ndjson} o {@code .jsonl}).
+ */
+@Slf4j
+@Component
+@Order(DataLoader.ORDER + 1) // después de los datos de prueba: los nombres repetidos se rechazan fila a fila
+public class ImportRunner implements CommandLineRunner {
+
+    private final ImportService importService;
+    private final String competitionsFile;
+    private final String teamsFile;
+
+    public ImportRunner(ImportService importService,
+                        @Value("${app.import.competitions-file:}") String competitionsFile,
+                        @Value("${app.import.teams-file:}") String teamsFile) {
+        this.importService = importService;
+        this.competitionsFile = competitionsFile;
+        this.teamsFile = teamsFile;
+    }
+
+    @Override
+    public void run(String... args) throws IOException {
+        importFile("competiciones", competitionsFile, importService::importCompetitions);
+        importFile("equipos", teamsFile, importService::importTeams);
+    }
+
+    private void importFile(String what, String file, BiFunction<InputStream, ImportFormat, ImportResultDTO> importer)
+            throws IOException {
+        if (file.isBlank()) {
+            return;
+        }
+        ImportResultDTO result;
+        try (InputStream in = Files.newInputStream(Path.of(file))) {
+            result = importer.apply(in, ImportFormat.fromFilename(file));
+        }
+        log.info("Importación de {} desde {}: {} filas, {} importadas, {} rechazadas",
+                what, file, result.getRows(), result.getImported(), result.getFailed());
+        result.getErrors().forEach(error ->
+                log.warn("Importación de {} desde {}, línea {} rechazada: {}", what, file, error.getLine(), error.getMessage()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.um.gestioncompeticiones.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.um.gestioncompeticiones.controller.JsonRowsHttpMessageConverter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Antes que Jackson: solo acepta listas de partidos y equipos, que escribe sin introspección
+        converters.add(0, new JsonRowsHttpMessageConverter(objectMapper));
+    }
+}
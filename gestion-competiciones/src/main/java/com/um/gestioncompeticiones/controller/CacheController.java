@@ -0,0 +1,34 @@
+package com.um.gestioncompeticiones.controller;
+
+import com.um.gestioncompeticiones.dto.CacheStatsDTO;
+import com.um.gestioncompeticiones.service.CacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final CacheService cacheService;
+
+    // -------------------------------
+    // Estadísticas de la caché
+    // -------------------------------
+    @GetMapping("/stats")
+    @Operation(summary = "Estadísticas de la caché", description = "Devuelve aciertos, fallos, tasa de acierto y tamaño de las cachés de competiciones y equipos.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Estadísticas devueltas correctamente")
+    })
+    public ResponseEntity<List<CacheStatsDTO>> getCacheStats() {
+        return ResponseEntity.ok(cacheService.getCacheStats());
+    }
+}
@@ -1,22 +1,38 @@
 package com.um.gestioncompeticiones.controller;
 
 import com.um.gestioncompeticiones.dto.*;
+import com.um.gestioncompeticiones.exception.competition.CompetitionNotFoundException;
+import com.um.gestioncompeticiones.importer.ImportFormat;
 import com.um.gestioncompeticiones.mapper.DtoMapper;
+import com.um.gestioncompeticiones.model.BracketType;
 import com.um.gestioncompeticiones.model.Competition;
 import com.um.gestioncompeticiones.model.Match;
 import com.um.gestioncompeticiones.model.Team;
+import com.um.gestioncompeticiones.service.BracketService;
 import com.um.gestioncompeticiones.service.CompetitionService;
+import com.um.gestioncompeticiones.service.IdempotencyService;
+import com.um.gestioncompeticiones.service.ImportService;
+import com.um.gestioncompeticiones.service.JobService;
 import com.um.gestioncompeticiones.service.MatchService;
+import com.um.gestioncompeticiones.service.StandingsService;
 import com.um.gestioncompeticiones.service.TeamService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.net.URI;
 import java.util.List;
 
 @RestController
@@ -24,10 +40,24 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CompetitionController {
 
+    // Cabecera con la que el cliente marca los reintentos de una misma generación
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    private static final String[] MATCH_CSV_HEADER = {
+            "id", "round", "matchDate", "timeSlot", "courtNumber",
+            "team1Id", "team1Name", "team2Id", "team2Name", "homeScore", "awayScore", "winnerId"};
+
     private final CompetitionService competitionService;
     private final TeamService teamService;
     private final MatchService matchService;
+    private final BracketService bracketService;
+    private final JobService jobService;
+    private final StandingsService standingsService;
     private final DtoMapper mapper;
+    private final NdjsonWriter ndjsonWriter;
+    private final CsvWriter csvWriter;
+    private final IdempotencyService idempotencyService;
+    private final ImportService importService;
 
     // -------------------------------
     // Crear nueva competición
@@ -46,19 +76,47 @@ public class CompetitionController {
                 .body(mapper.toCompetitionDTO(competition));
     }
 
+    // -------------------------------
+    // Importar competiciones en bloque
+    // -------------------------------
+    @PostMapping(value = "/import", consumes = {CsvWriter.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Importar competiciones (CSV/NDJSON)", description = "Crea competiciones a partir de un fichero CSV con cabecera (name,sport,startDate,endDate,numberOfCourts,minRestDays) o NDJSON con esos campos. El fichero se procesa en streaming y por bloques; las filas inválidas o con nombre repetido se devuelven con su número de línea sin detener la importación.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Importación terminada, con el recuento de filas importadas y rechazadas"),
+            @ApiResponse(responseCode = "415", description = "Formato no soportado")
+    })
+    public ResponseEntity<ImportResultDTO> importCompetitions(HttpServletRequest request) throws IOException {
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        return ResponseEntity.ok(importService.importCompetitions(request.getInputStream(), format));
+    }
+
     // -------------------------------
     // Listar todas las competiciones
     // -------------------------------
     @GetMapping
-    @Operation(summary = "Listar todas las competiciones", description = "Devuelve todas las competiciones existentes en el sistema.")
+    @Operation(summary = "Listar todas las competiciones", description = "Devuelve todas las competiciones existentes en el sistema. Con afterId/limit devuelve una página ordenada por ID y la cabecera X-Next-After-Id si hay más.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Lista de competiciones devuelta correctamente")
     })
-    public ResponseEntity<List<CompetitionDTO>> getAllCompetitions() {
+    public ResponseEntity<List<CompetitionDTO>> getAllCompetitions(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer limit) {
+
+        if (KeysetPagination.isRequested(afterId, limit)) {
+            int pageSize = KeysetPagination.limit(limit);
+            List<CompetitionDTO> page = competitionService.getCompetitionsAfter(KeysetPagination.afterId(afterId), pageSize);
+            return KeysetPagination.page(page, pageSize, CompetitionDTO::id);
+        }
         List<Competition> competitions = competitionService.getAllCompetitions();
         return ResponseEntity.ok(mapper.toCompetitionDTOList(competitions));
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar todas las competiciones (NDJSON)", description = "Devuelve todas las competiciones en formato NDJSON, leídas y escritas fila a fila.")
+    public ResponseEntity<StreamingResponseBody> streamAllCompetitions() {
+        return ndjsonWriter.stream(competitionService::forEachCompetition);
+    }
+
     // -------------------------------
     // Obtener una competición por id
     // -------------------------------
@@ -69,24 +127,44 @@ public class CompetitionController {
             @ApiResponse(responseCode = "404", description = "No se encontró la competición con el ID proporcionado")
     })
     public ResponseEntity<CompetitionDTO> getCompetitionById(@PathVariable Long competitionId) {
-        Competition competition = competitionService.getCompetitionById(competitionId);
-        return ResponseEntity.ok(mapper.toCompetitionDTO(competition));
+        return ResponseEntity.ok(competitionService.getCompetitionById(competitionId));
     }
 
     // -------------------------------
     // Consultar equipos de una competición
     // -------------------------------
     @GetMapping("/{competitionId}/teams")
-    @Operation(summary = "Listar equipos de una competición", description = "Devuelve todos los equipos registrados en una competición específica.")
+    @Operation(summary = "Listar equipos de una competición", description = "Devuelve todos los equipos registrados en una competición específica. Con afterId/limit devuelve una página ordenada por ID y la cabecera X-Next-After-Id si hay más.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Lista de equipos devuelta correctamente"),
             @ApiResponse(responseCode = "404", description = "No se encontró la competición con el ID proporcionado")
     })
-    public ResponseEntity<List<TeamDTO>> getTeamsByCompetition(@PathVariable Long competitionId) {
+    public ResponseEntity<List<TeamDTO>> getTeamsByCompetition(
+            @PathVariable Long competitionId,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer limit) {
+
+        if (KeysetPagination.isRequested(afterId, limit)) {
+            int pageSize = KeysetPagination.limit(limit);
+            List<TeamDTO> page = competitionService.getTeamsByCompetitionAfter(
+                    competitionId, KeysetPagination.afterId(afterId), pageSize);
+            return KeysetPagination.page(page, pageSize, TeamDTO::id);
+        }
         List<Team> teams = competitionService.getTeamsByCompetition(competitionId);
         return ResponseEntity.ok(mapper.toTeamDTOList(teams));
     }
 
+    @GetMapping(value = "/{competitionId}/teams", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar equipos de una competición (NDJSON)", description = "Devuelve los equipos de la competición en formato NDJSON, leídos y escritos fila a fila.")
+    public ResponseEntity<?> streamTeamsByCompetition(@PathVariable Long competitionId) {
+        try {
+            competitionService.getCompetitionById(competitionId); // 404 antes de empezar a escribir
+        } catch (CompetitionNotFoundException ex) {
+            return StreamingErrors.notFound("CompetitionNotFound", ex);
+        }
+        return ndjsonWriter.<TeamDTO>stream(action -> competitionService.forEachTeamByCompetition(competitionId, action));
+    }
+
 
     // -----------------------------------------
     // Registrar equipo en una competición
@@ -107,33 +185,291 @@ public class CompetitionController {
     }
 
 
+    // -----------------------------------------
+    // Registrar varios equipos en una competición
+    // -----------------------------------------
+    @PostMapping("/{competitionId}/teams/bulk")
+    @Operation(summary = "Registrar equipos en bloque", description = "Registra de una vez una lista de equipos en la competición. Los equipos ya inscritos o inexistentes se indican en la respuesta sin detener el registro del resto.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Registro procesado; la respuesta detalla los equipos registrados, repetidos y no encontrados"),
+            @ApiResponse(responseCode = "400", description = "Lista de equipos vacía o inválida"),
+            @ApiResponse(responseCode = "404", description = "No se encontró la competición")
+    })
+    public ResponseEntity<BulkRegistrationResultDTO> registerTeamsInCompetition(
+            @PathVariable Long competitionId,
+            @RequestBody @Valid TeamBulkRegistrationDTO teamBulkRegistrationDTO) {
+
+        BulkRegistrationResultDTO result = teamService.registerTeamsToCompetition(
+                competitionId, teamBulkRegistrationDTO.getTeamIds());
+        return ResponseEntity.ok(result);
+    }
+
+
     // --------------------------------------------------------
     // Generar partidos de la primera jornada (first round)
     // --------------------------------------------------------
     @PostMapping("/{competitionId}/matches/first-round")
-    @Operation(summary = "Generar primera jornada", description = "Genera automáticamente los partidos de la primera jornada para la competición indicada.")
+    @Operation(summary = "Generar primera jornada", description = "Genera automáticamente los partidos de la primera jornada para la competición indicada. Si ya existe se devuelve la misma. Con la cabecera Idempotency-Key los reintentos reciben la respuesta original.")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Partidos generados correctamente"),
             @ApiResponse(responseCode = "404", description = "No se encontró la competición"),
-            @ApiResponse(responseCode = "400", description = "No hay suficientes equipos para generar partidos")
+            @ApiResponse(responseCode = "400", description = "No hay suficientes equipos para generar partidos"),
+            @ApiResponse(responseCode = "409", description = "Una petición con la misma Idempotency-Key sigue en curso")
+    })
+    public ResponseEntity<List<MatchDTO>> generateFirstRound(
+            @PathVariable Long competitionId,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+
+        List<MatchDTO> matches = idempotencyService.execute("first-round:" + competitionId, idempotencyKey,
+                () -> mapper.toMatchDTOList(matchService.generateFirstRound(competitionId)));
+        return ResponseEntity.status(HttpStatus.CREATED).body(matches);
+    }
+
+    // --------------------------------------------------------
+    // Generar calendario completo (todos contra todos)
+    // --------------------------------------------------------
+    @PostMapping("/{competitionId}/matches/round-robin")
+    @Operation(summary = "Generar calendario completo", description = "Genera todas las jornadas de una liga todos contra todos entre la fecha de inicio y fin de la competición. Con la cabecera Idempotency-Key los reintentos reciben la respuesta original.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Calendario generado correctamente"),
+            @ApiResponse(responseCode = "404", description = "No se encontró la competición"),
+            @ApiResponse(responseCode = "400", description = "No hay suficientes equipos, la competición ya tiene partidos o el calendario no cabe en las fechas de la competición"),
+            @ApiResponse(responseCode = "409", description = "Una petición con la misma Idempotency-Key sigue en curso")
+    })
+    public ResponseEntity<ScheduleSummaryDTO> generateFullSchedule(
+            @PathVariable Long competitionId,
+            @RequestParam(defaultValue = "false") boolean doubleRound,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+
+        // doubleRound forma parte del ámbito: la misma clave con otro valor no recibe el calendario anterior
+        ScheduleSummaryDTO summary = idempotencyService.execute(
+                "round-robin:" + competitionId + ":" + doubleRound, idempotencyKey,
+                () -> matchService.generateFullSchedule(competitionId, doubleRound));
+        return ResponseEntity.status(HttpStatus.CREATED).body(summary);
+    }
+
+    // --------------------------------------------------------
+    // Generar siguiente ronda de sistema suizo
+    // --------------------------------------------------------
+    @PostMapping("/{competitionId}/matches/swiss")
+    @Operation(summary = "Generar ronda de sistema suizo", description = "Empareja la siguiente ronda por puntuación sin repetir enfrentamientos. Todos los partidos anteriores deben tener ganador. Con la cabecera Idempotency-Key los reintentos reciben la respuesta original.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Ronda generada correctamente"),
+            @ApiResponse(responseCode = "404", description = "No se encontró la competición"),
+            @ApiResponse(responseCode = "400", description = "Hay partidos sin resultado, la ronda no cabe en las fechas o no hay emparejamiento sin revanchas")
+    })
+    public ResponseEntity<SwissRoundDTO> generateSwissRound(
+            @PathVariable Long competitionId,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+
+        SwissRoundDTO swissRound = idempotencyService.execute("swiss:" + competitionId, idempotencyKey,
+                () -> matchService.generateSwissRound(competitionId));
+        return ResponseEntity.status(HttpStatus.CREATED).body(swissRound);
+    }
+
+    // --------------------------------------------------------
+    // Generación asíncrona (?async=true): devuelve 202 y el trabajo se consulta en /api/jobs/{id}
+    // --------------------------------------------------------
+    @PostMapping(value = "/{competitionId}/matches/first-round", params = "async=true")
+    @Operation(summary = "Generar primera jornada en segundo plano", description = "Encola la generación de la primera jornada y devuelve el trabajo para consultar su progreso y resultado.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Trabajo encolado correctamente"),
+            @ApiResponse(responseCode = "404", description = "No se encontró la competición"),
+            @ApiResponse(responseCode = "503", description = "Hay demasiados trabajos de generación en cola")
+    })
+    public ResponseEntity<JobDTO> generateFirstRoundAsync(@PathVariable Long competitionId) {
+        competitionService.getCompetitionById(competitionId);
+        JobDTO job = jobService.submit("first-round", competitionId,
+                progress -> mapper.toMatchDTOList(matchService.generateFirstRound(competitionId)));
+        return accepted(job);
+    }
+
+    @PostMapping(value = "/{competitionId}/matches/round-robin", params = "async=true")
+    @Operation(summary = "Generar calendario completo en segundo plano", description = "Encola la generación del calendario todos contra todos y devuelve el trabajo para consultar su progreso y resultado.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Trabajo encolado correctamente"),
+            @ApiResponse(responseCode = "404", description = "No se encontró la competición"),
+            @ApiResponse(responseCode = "503", description = "Hay demasiados trabajos de generación en cola")
+    })
+    public ResponseEntity<JobDTO> generateFullScheduleAsync(
+            @PathVariable Long competitionId,
+            @RequestParam(defaultValue = "false") boolean doubleRound) {
+
+        competitionService.getCompetitionById(competitionId);
+        JobDTO job = jobService.submit("round-robin", competitionId,
+                progress -> matchService.generateFullSchedule(competitionId, doubleRound, progress));
+        return accepted(job);
+    }
+
+    @PostMapping(value = "/{competitionId}/matches/swiss", params = "async=true")
+    @Operation(summary = "Generar ronda de sistema suizo en segundo plano", description = "Encola el emparejamiento de la siguiente ronda suiza y devuelve el trabajo para consultar su progreso y resultado.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Trabajo encolado correctamente"),
+            @ApiResponse(responseCode = "404", description = "No se encontró la competición"),
+            @ApiResponse(responseCode = "503", description = "Hay demasiados trabajos de generación en cola")
+    })
+    public ResponseEntity<JobDTO> generateSwissRoundAsync(@PathVariable Long competitionId) {
+        competitionService.getCompetitionById(competitionId);
+        JobDTO job = jobService.submit("swiss", competitionId,
+                progress -> matchService.generateSwissRound(competitionId, progress));
+        return accepted(job);
+    }
+
+    private ResponseEntity<JobDTO> accepted(JobDTO job) {
+        return ResponseEntity.accepted().location(URI.create("/api/jobs/" + job.getId())).body(job);
+    }
+
+    // --------------------------------------------------------
+    // Registrar ganador de un partido
+    // --------------------------------------------------------
+    @PutMapping("/{competitionId}/matches/{matchId}/winner")
+    @Operation(summary = "Registrar ganador de un partido", description = "Registra el ganador de un partido que no pertenece al cuadro eliminatorio.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Resultado registrado correctamente"),
+            @ApiResponse(responseCode = "404", description = "No se encontró el partido en la competición"),
+            @ApiResponse(responseCode = "400", description = "El partido es del cuadro, ya tiene ganador o el equipo no lo juega")
+    })
+    public ResponseEntity<MatchDTO> recordMatchWinner(
+            @PathVariable Long competitionId,
+            @PathVariable Long matchId,
+            @RequestBody @Valid MatchWinnerDTO matchWinnerDTO) {
+
+        Match match = matchService.recordWinner(competitionId, matchId, matchWinnerDTO.getWinnerId());
+        return ResponseEntity.ok(mapper.toMatchDTO(match));
+    }
+
+    // --------------------------------------------------------
+    // Registrar marcador de un partido
+    // --------------------------------------------------------
+    @PutMapping("/{competitionId}/matches/{matchId}/score")
+    @Operation(summary = "Registrar marcador de un partido", description = "Registra el marcador de un partido que no pertenece al cuadro eliminatorio. El ganador se deduce del marcador y el resultado se suma a la clasificación.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Marcador registrado correctamente"),
+            @ApiResponse(responseCode = "404", description = "No se encontró el partido en la competición"),
+            @ApiResponse(responseCode = "400", description = "Marcador inválido, el partido es del cuadro o ya tiene resultado")
+    })
+    public ResponseEntity<MatchDTO> recordMatchScore(
+            @PathVariable Long competitionId,
+            @PathVariable Long matchId,
+            @RequestBody @Valid MatchScoreDTO matchScoreDTO) {
+
+        Match match = matchService.recordScore(competitionId, matchId,
+                matchScoreDTO.getHomeScore(), matchScoreDTO.getAwayScore());
+        return ResponseEntity.ok(mapper.toMatchDTO(match));
+    }
+
+    // --------------------------------------------------------
+    // Clasificación
+    // --------------------------------------------------------
+    @GetMapping("/{competitionId}/standings")
+    @Operation(summary = "Consultar clasificación", description = "Devuelve la clasificación de la competición (3 puntos por victoria y 1 por empate) ordenada por puntos, diferencia de goles y goles a favor. No incluye los partidos del cuadro eliminatorio.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Clasificación devuelta correctamente"),
+            @ApiResponse(responseCode = "404", description = "No se encontró la competición")
+    })
+    public ResponseEntity<List<StandingDTO>> getStandings(@PathVariable Long competitionId) {
+        return ResponseEntity.ok(standingsService.getStandings(competitionId));
+    }
+
+    // --------------------------------------------------------
+    // Generar cuadro eliminatorio
+    // --------------------------------------------------------
+    @PostMapping("/{competitionId}/bracket")
+    @Operation(summary = "Generar cuadro eliminatorio", description = "Genera un cuadro de eliminación simple o doble con los equipos inscritos. Los descansos se asignan a los mejores cabezas de serie y se crean los partidos de primera ronda.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Cuadro generado correctamente"),
+            @ApiResponse(responseCode = "404", description = "No se encontró la competición"),
+            @ApiResponse(responseCode = "400", description = "No hay suficientes equipos o la competición ya tiene cuadro")
+    })
+    public ResponseEntity<BracketDTO> createBracket(
+            @PathVariable Long competitionId,
+            @RequestParam(defaultValue = "SINGLE_ELIMINATION") BracketType type,
+            @RequestParam(defaultValue = "false") boolean shuffle) {
+
+        BracketDTO bracket = bracketService.createBracket(competitionId, type, shuffle);
+        return ResponseEntity.status(HttpStatus.CREATED).body(bracket);
+    }
+
+    @GetMapping("/{competitionId}/bracket")
+    @Operation(summary = "Consultar cuadro eliminatorio", description = "Devuelve el resumen del cuadro eliminatorio de la competición y su campeón si ya se conoce.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Cuadro devuelto correctamente"),
+            @ApiResponse(responseCode = "404", description = "La competición no tiene cuadro")
     })
-    public ResponseEntity<List<MatchDTO>> generateFirstRound(@PathVariable Long competitionId) {
-        List<Match> matches = matchService.generateFirstRound(competitionId);
-        return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toMatchDTOList(matches));
+    public ResponseEntity<BracketDTO> getBracket(@PathVariable Long competitionId) {
+        return ResponseEntity.ok(bracketService.getBracket(competitionId));
+    }
+
+    // --------------------------------------------------------
+    // Registrar ganador de un partido del cuadro
+    // --------------------------------------------------------
+    @PutMapping("/{competitionId}/bracket/matches/{matchId}/winner")
+    @Operation(summary = "Registrar ganador de un partido del cuadro", description = "Registra el ganador de un partido eliminatorio y crea los partidos de la siguiente ronda que quedan completos.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Resultado registrado correctamente"),
+            @ApiResponse(responseCode = "404", description = "No se encontró el cuadro o el partido"),
+            @ApiResponse(responseCode = "400", description = "El partido no es del cuadro, ya tiene ganador o el equipo no lo juega")
+    })
+    public ResponseEntity<BracketDTO> recordWinner(
+            @PathVariable Long competitionId,
+            @PathVariable Long matchId,
+            @RequestBody @Valid MatchWinnerDTO matchWinnerDTO) {
+
+        return ResponseEntity.ok(bracketService.recordWinner(competitionId, matchId, matchWinnerDTO.getWinnerId()));
     }
 
     // ----------------------------------------------
     // Consultar partidos de la primera jornada
     // ----------------------------------------------
     @GetMapping("/{competitionId}/matches")
-    @Operation(summary = "Listar partidos de la primera jornada", description = "Devuelve todos los partidos de la primera jornada de la competición indicada.")
+    @Operation(summary = "Listar partidos de la primera jornada", description = "Devuelve todos los partidos de la competición indicada, escritos en JSON a medida que se leen. Con afterId/limit devuelve una página ordenada por ID y la cabecera X-Next-After-Id si hay más.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "Lista de partidos devuelta correctamente"),
+            @ApiResponse(responseCode = "200", description = "Lista de partidos devuelta correctamente",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = MatchDTO.class)))),
             @ApiResponse(responseCode = "404", description = "No se encontró la competición")
     })
-    public ResponseEntity<List<MatchDTO>> getMatches(@PathVariable Long competitionId) {
-        List<Match> matches = matchService.getMatchesByCompetition(competitionId);
-        return ResponseEntity.ok(mapper.toMatchDTOList(matches));
+    public ResponseEntity<?> getMatches(
+            @PathVariable Long competitionId,
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer limit) {
+
+        if (KeysetPagination.isRequested(afterId, limit)) {
+            int pageSize = KeysetPagination.limit(limit);
+            List<MatchDTO> page = matchService.getMatchesByCompetitionAfter(
+                    competitionId, KeysetPagination.afterId(afterId), pageSize);
+            return KeysetPagination.page(page, pageSize, MatchDTO::id);
+        }
+        // Una competición inexistente falla antes de la primera fila, con la respuesta aún sin enviar
+        return ResponseEntity.ok(new RowStream<>(MatchDTO.class,
+                action -> matchService.forEachMatchByCompetition(competitionId, action)));
+    }
+
+    @GetMapping(value = "/{competitionId}/matches", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar partidos de una competición (NDJSON)", description = "Devuelve los partidos de la competición en formato NDJSON, leídos y escritos fila a fila.")
+    public ResponseEntity<?> streamMatches(@PathVariable Long competitionId) {
+        try {
+            competitionService.getCompetitionById(competitionId); // 404 antes de empezar a escribir
+        } catch (CompetitionNotFoundException ex) {
+            return StreamingErrors.notFound("CompetitionNotFound", ex);
+        }
+        return ndjsonWriter.<MatchDTO>stream(action -> matchService.forEachMatchByCompetition(competitionId, action));
+    }
+
+    @GetMapping(value = "/{competitionId}/matches", produces = CsvWriter.TEXT_CSV_VALUE)
+    @Operation(summary = "Exportar partidos de una competición (CSV)", description = "Descarga el calendario completo de la competición en CSV, leído y escrito fila a fila.")
+    public ResponseEntity<?> exportMatchesCsv(@PathVariable Long competitionId) {
+        try {
+            competitionService.getCompetitionById(competitionId); // 404 antes de empezar a escribir
+        } catch (CompetitionNotFoundException ex) {
+            return StreamingErrors.notFound("CompetitionNotFound", ex);
+        }
+        return csvWriter.<MatchDTO>stream("competition-" + competitionId + "-matches.csv", MATCH_CSV_HEADER,
+                match -> new Object[]{
+                        match.id(), match.round(), match.matchDate(), match.timeSlot(), match.courtNumber(),
+                        match.team1Id(), match.team1Name(), match.team2Id(), match.team2Name(),
+                        match.homeScore(), match.awayScore(), match.winnerId()},
+                action -> matchService.forEachMatchByCompetition(competitionId, action));
     }
 
     // --------------------------------------------------------
@@ -0,0 +1,108 @@
+package com.um.gestioncompeticiones.controller;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Construye respuestas CSV (RFC 4180, UTF-8) que se escriben a medida que se leen las filas,
+ * igual que {@link NdjsonWriter}: la memoria usada no depende del número de filas.
+ * <p>
+ * Los textos que una hoja de cálculo interpretaría como fórmula (empiezan por {@code =}, {@code +},
+ * {@code -}, {@code @}, tabulador o retorno de carro) se escriben precedidos de {@code '}, de modo
+ * que un nombre de equipo no se ejecuta al abrir el fichero. Los números no se alteran.
+ * </p>
+ */
+@Component
+public class CsvWriter {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
+    static final int FLUSH_EVERY = 500;
+
+    /**
+     * @param filename nombre del fichero que se propone al cliente al descargar
+     * @param header   nombres de las columnas
+     * @param columns  valores de cada fila, en el mismo orden que {@code header}
+     * @param source   función que recorre las filas y entrega cada una al consumidor recibido
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(String filename, String[] header,
+                                                            Function<T, Object[]> columns,
+                                                            Consumer<Consumer<T>> source) {
+        StreamingResponseBody body = out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writeRow(writer, header);
+            int[] written = {0};
+            source.accept(row -> {
+                try {
+                    writeRow(writer, columns.apply(row));
+                    if (++written[0] % FLUSH_EVERY == 0) {
+                        writer.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    static void writeRow(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(writer, values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    // Los valores con coma, comillas o saltos de línea van entre comillas, con las comillas duplicadas
+    private static void writeValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (!(value instanceof Number) && isFormulaStart(text)) {
+            text = "'" + text;
+        }
+        boolean quote = false;
+        for (int i = 0; i < text.length() && !quote; i++) {
+            char c = text.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean isFormulaStart(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
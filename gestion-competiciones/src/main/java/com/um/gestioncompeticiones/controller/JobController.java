@@ -0,0 +1,34 @@
+package com.um.gestioncompeticiones.controller;
+
+import com.um.gestioncompeticiones.dto.JobDTO;
+import com.um.gestioncompeticiones.service.JobService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+public class JobController {
+
+    private final JobService jobService;
+
+    // -------------------------------
+    // Consultar trabajo de generación
+    // -------------------------------
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Consultar trabajo de generación", description = "Devuelve el estado, el progreso y, cuando termina, el resultado o el error de un trabajo de generación asíncrono.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Trabajo devuelto correctamente"),
+            @ApiResponse(responseCode = "404", description = "El trabajo no existe o ha caducado")
+    })
+    public ResponseEntity<JobDTO> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(jobService.getJob(jobId));
+    }
+}
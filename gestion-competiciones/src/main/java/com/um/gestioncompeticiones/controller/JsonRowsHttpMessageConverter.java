@@ -0,0 +1,252 @@
+package com.um.gestioncompeticiones.controller;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.um.gestioncompeticiones.dto.MatchDTO;
+import com.um.gestioncompeticiones.dto.TeamDTO;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Escribe listas de partidos y equipos en JSON con el {@link JsonGenerator} de Jackson, campo a
+ * campo y sin introspección: se aplica a los cuerpos {@code List<MatchDTO>}, {@code List<TeamDTO>} y
+ * {@link RowStream}. La salida es la misma que la de Jackson para esos DTO; el resto de cuerpos
+ * siguen pasando por {@code MappingJackson2HttpMessageConverter}.
+ */
+public class JsonRowsHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    // Nombres ya escapados y codificados, para no repetir el trabajo en cada fila
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString COMPETITION_ID = new SerializedString("competitionId");
+    private static final SerializedString TEAM1_ID = new SerializedString("team1Id");
+    private static final SerializedString TEAM1_NAME = new SerializedString("team1Name");
+    private static final SerializedString TEAM2_ID = new SerializedString("team2Id");
+    private static final SerializedString TEAM2_NAME = new SerializedString("team2Name");
+    private static final SerializedString MATCH_DATE = new SerializedString("matchDate");
+    private static final SerializedString COURT_NUMBER = new SerializedString("courtNumber");
+    private static final SerializedString TIME_SLOT = new SerializedString("timeSlot");
+    private static final SerializedString ROUND = new SerializedString("round");
+    private static final SerializedString WINNER_ID = new SerializedString("winnerId");
+    private static final SerializedString HOME_SCORE = new SerializedString("homeScore");
+    private static final SerializedString AWAY_SCORE = new SerializedString("awayScore");
+
+    private static final int DATE_LENGTH = "yyyy-MM-dd".length();
+
+    private static final Map<Class<?>, RowWriter<?>> ROW_WRITERS = Map.of(
+            MatchDTO.class, (RowWriter<MatchDTO>) JsonRowsHttpMessageConverter::writeMatch,
+            TeamDTO.class, (RowWriter<TeamDTO>) JsonRowsHttpMessageConverter::writeTeam);
+
+    private final ObjectMapper objectMapper;
+
+    public JsonRowsHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return RowStream.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(@Nullable MediaType mediaType) {
+        return false;
+    }
+
+    // Las listas solo se reconocen si el tipo declarado del cuerpo indica el tipo de sus elementos
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        return supports(clazz) || (Collection.class.isAssignableFrom(clazz) && rowWriter(elementType(type)) != null);
+    }
+
+    @Override
+    protected void writeInternal(Object body, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        JsonGenerator generator = objectMapper.getFactory()
+                .createGenerator(StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8);
+        try {
+            if (body instanceof RowStream<?> rows) {
+                writeRows(generator, rows);
+            } else {
+                writeRows(generator, (Collection<?>) body, elementType(type));
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        // Solo se cierra si se ha escrito todo: close() completaría el array y, si la fuente falla a
+        // mitad, el cliente recibiría un 200 con un JSON bien formado pero truncado. Sin cerrar, lo que
+        // queda en el buffer se descarta y el error llega al contenedor, que responde con el error si
+        // aún no se ha enviado nada o corta la respuesta
+        generator.close();
+    }
+
+    private <T> void writeRows(JsonGenerator generator, RowStream<T> rows) throws IOException {
+        RowWriter<T> writer = requireRowWriter(rows.type());
+        char[] buffer = new char[DATE_LENGTH];
+        generator.writeStartArray();
+        rows.source().accept(row -> {
+            try {
+                writer.write(generator, row, buffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.writeEndArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void writeRows(JsonGenerator generator, Collection<?> rows, @Nullable Class<T> type) throws IOException {
+        RowWriter<T> writer = requireRowWriter(type);
+        char[] buffer = new char[DATE_LENGTH];
+        generator.writeStartArray(rows, rows.size());
+        for (Object row : rows) {
+            writer.write(generator, (T) row, buffer);
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeMatch(JsonGenerator generator, MatchDTO match, char[] buffer) throws IOException {
+        generator.writeStartObject();
+        writeNumber(generator, ID, match.id());
+        writeNumber(generator, COMPETITION_ID, match.competitionId());
+        writeNumber(generator, TEAM1_ID, match.team1Id());
+        writeString(generator, TEAM1_NAME, match.team1Name());
+        writeNumber(generator, TEAM2_ID, match.team2Id());
+        writeString(generator, TEAM2_NAME, match.team2Name());
+        writeDate(generator, MATCH_DATE, match.matchDate(), buffer);
+        generator.writeFieldName(COURT_NUMBER);
+        generator.writeNumber(match.courtNumber());
+        writeNumber(generator, TIME_SLOT, match.timeSlot());
+        writeNumber(generator, ROUND, match.round());
+        writeNumber(generator, WINNER_ID, match.winnerId());
+        writeNumber(generator, HOME_SCORE, match.homeScore());
+        writeNumber(generator, AWAY_SCORE, match.awayScore());
+        generator.writeEndObject();
+    }
+
+    private static void writeTeam(JsonGenerator generator, TeamDTO team, char[] buffer) throws IOException {
+        generator.writeStartObject();
+        writeNumber(generator, ID, team.id());
+        writeString(generator, NAME, team.name());
+        generator.writeEndObject();
+    }
+
+    private static void writeNumber(JsonGenerator generator, SerializedString name, @Nullable Long value)
+            throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator generator, SerializedString name, @Nullable Integer value)
+            throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    private static void writeString(JsonGenerator generator, SerializedString name, @Nullable String value)
+            throws IOException {
+        generator.writeFieldName(name);
+        generator.writeString(value);
+    }
+
+    // Mismo formato que Jackson con WRITE_DATES_AS_TIMESTAMPS desactivado (el valor por defecto en Spring Boot).
+    // Las fechas de cuatro cifras se componen en el buffer de la respuesta en lugar de crear un String por fila
+    private static void writeDate(JsonGenerator generator, SerializedString name, @Nullable LocalDate value,
+                                  char[] buffer) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            generator.writeString(value.toString());
+            return;
+        }
+        writeDigits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, value.getDayOfMonth(), 2);
+        generator.writeString(buffer, 0, DATE_LENGTH);
+    }
+
+    private static void writeDigits(char[] buffer, int offset, int value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    @Nullable
+    private static Class<?> elementType(@Nullable Type type) {
+        if (type instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments().length == 1
+                && parameterized.getActualTypeArguments()[0] instanceof Class<?> element) {
+            return element;
+        }
+        return null;
+    }
+
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static <T> RowWriter<T> rowWriter(@Nullable Class<T> type) {
+        return type != null ? (RowWriter<T>) ROW_WRITERS.get(type) : null;
+    }
+
+    private static <T> RowWriter<T> requireRowWriter(@Nullable Class<T> type) {
+        RowWriter<T> writer = rowWriter(type);
+        if (writer == null) {
+            throw new HttpMessageNotWritableException("No JSON row writer for " + type);
+        }
+        return writer;
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Reading is not supported", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Reading is not supported", inputMessage);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(JsonGenerator generator, T row, char[] buffer) throws IOException;
+    }
+}
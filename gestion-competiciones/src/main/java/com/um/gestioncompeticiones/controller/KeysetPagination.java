@@ -0,0 +1,47 @@
+package com.um.gestioncompeticiones.controller;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Utilidades comunes para los listados con paginación por clave ({@code afterId} + {@code limit}).
+ * <p>
+ * Cada página devuelve los elementos con ID mayor que {@code afterId}. Si la página viene llena se
+ * añade la cabecera {@value #NEXT_AFTER_ID_HEADER} con el valor a usar en la siguiente petición.
+ * </p>
+ */
+final class KeysetPagination {
+
+    static final int DEFAULT_LIMIT = 100;
+    static final int MAX_LIMIT = 1000;
+    static final String NEXT_AFTER_ID_HEADER = "X-Next-After-Id";
+
+    private KeysetPagination() {
+    }
+
+    // Sin parámetros se mantiene el listado completo clásico
+    static boolean isRequested(Long afterId, Integer limit) {
+        return afterId != null || limit != null;
+    }
+
+    static long afterId(Long afterId) {
+        return afterId == null ? 0L : afterId;
+    }
+
+    static int limit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    static <T> ResponseEntity<List<T>> page(List<T> rows, int limit, ToLongFunction<T> idExtractor) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (rows.size() == limit) {
+            response.header(NEXT_AFTER_ID_HEADER, String.valueOf(idExtractor.applyAsLong(rows.get(rows.size() - 1))));
+        }
+        return response.body(rows);
+    }
+}
@@ -0,0 +1,13 @@
+package com.um.gestioncompeticiones.controller;
+
+import java.util.function.Consumer;
+
+/**
+ * Cuerpo de respuesta JSON que se escribe como array fila a fila con
+ * {@link JsonRowsHttpMessageConverter}, sin reunir antes las filas en una lista.
+ *
+ * @param type   tipo de las filas; debe tener un escritor en {@link JsonRowsHttpMessageConverter}
+ * @param source función que recorre las filas y entrega cada una al consumidor recibido
+ */
+public record RowStream<T>(Class<T> type, Consumer<Consumer<T>> source) {
+}
@@ -0,0 +1,31 @@
+package com.um.gestioncompeticiones.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Errores de los endpoints de exportación. Su cliente pide text/csv o application/x-ndjson, así que
+ * el cuerpo se marca como application/json aquí mismo en lugar de pasar por la negociación de
+ * contenido, que acabaría en un 406.
+ */
+final class StreamingErrors {
+
+    private StreamingErrors() {
+    }
+
+    static ResponseEntity<Map<String, Object>> notFound(String error, RuntimeException ex) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.NOT_FOUND.value());
+        body.put("error", error);
+        body.put("message", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+}
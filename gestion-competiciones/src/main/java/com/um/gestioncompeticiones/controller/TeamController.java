@@ -1,20 +1,31 @@
 package com.um.gestioncompeticiones.controller;
 
+import com.um.gestioncompeticiones.dto.ImportResultDTO;
+import com.um.gestioncompeticiones.dto.MatchDTO;
 import com.um.gestioncompeticiones.dto.TeamCreateDTO;
 import com.um.gestioncompeticiones.dto.TeamDTO;
+import com.um.gestioncompeticiones.importer.ImportFormat;
 import com.um.gestioncompeticiones.mapper.DtoMapper;
 import com.um.gestioncompeticiones.model.Team;
+import com.um.gestioncompeticiones.service.ImportService;
+import com.um.gestioncompeticiones.service.MatchService;
 import com.um.gestioncompeticiones.service.TeamService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -23,7 +34,10 @@ import java.util.List;
 public class TeamController {
 
     private final TeamService teamService;
+    private final MatchService matchService;
+    private final ImportService importService;
     private final DtoMapper mapper;
+    private final NdjsonWriter ndjsonWriter;
 
     // -------------------------------
     // Crear nuevo equipo
@@ -39,19 +53,47 @@ public class TeamController {
         return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toTeamDTO(team));
     }
 
+    // -------------------------------
+    // Importar equipos en bloque
+    // -------------------------------
+    @PostMapping(value = "/import", consumes = {CsvWriter.TEXT_CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Importar equipos (CSV/NDJSON)", description = "Crea equipos a partir de un fichero CSV con cabecera 'name' o NDJSON con objetos {\"name\": ...}. El fichero se procesa en streaming y por bloques; las filas inválidas se devuelven con su número de línea sin detener la importación.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Importación terminada, con el recuento de filas importadas y rechazadas"),
+            @ApiResponse(responseCode = "415", description = "Formato no soportado")
+    })
+    public ResponseEntity<ImportResultDTO> importTeams(HttpServletRequest request) throws IOException {
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+        return ResponseEntity.ok(importService.importTeams(request.getInputStream(), format));
+    }
+
     // -------------------------------
     // Listar todos los equipos
     // -------------------------------
     @GetMapping
-    @Operation(summary = "Listar todos los equipos", description = "Obtiene la lista de todos los equipos registrados en el sistema.")
+    @Operation(summary = "Listar todos los equipos", description = "Obtiene la lista de todos los equipos registrados en el sistema. Con afterId/limit devuelve una página ordenada por ID y la cabecera X-Next-After-Id si hay más.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Lista de equipos obtenida correctamente")
     })
-    public ResponseEntity<List<TeamDTO>> getAllTeams() {
+    public ResponseEntity<List<TeamDTO>> getAllTeams(
+            @RequestParam(required = false) Long afterId,
+            @RequestParam(required = false) Integer limit) {
+
+        if (KeysetPagination.isRequested(afterId, limit)) {
+            int pageSize = KeysetPagination.limit(limit);
+            List<TeamDTO> page = teamService.getTeamsAfter(KeysetPagination.afterId(afterId), pageSize);
+            return KeysetPagination.page(page, pageSize, TeamDTO::id);
+        }
         List<TeamDTO> teams = mapper.toTeamDTOList(teamService.getAllTeams());
         return ResponseEntity.ok(teams);
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar todos los equipos (NDJSON)", description = "Devuelve todos los equipos en formato NDJSON, leídos y escritos fila a fila.")
+    public ResponseEntity<StreamingResponseBody> streamAllTeams() {
+        return ndjsonWriter.stream(teamService::forEachTeam);
+    }
+
     // -------------------------------
     // Obtener equipo por id
     // -------------------------------
@@ -62,8 +104,24 @@ public class TeamController {
             @ApiResponse(responseCode = "404", description = "Equipo no encontrado")
     })
     public ResponseEntity<TeamDTO> getTeamById(@PathVariable Long teamId) {
-        Team team = teamService.getTeamById(teamId);
-        return ResponseEntity.ok(mapper.toTeamDTO(team));
+        return ResponseEntity.ok(teamService.getTeamById(teamId));
+    }
+
+    // -------------------------------
+    // Calendario de un equipo
+    // -------------------------------
+    @GetMapping("/{teamId}/matches")
+    @Operation(summary = "Calendario de un equipo", description = "Devuelve los partidos del equipo como local o visitante en todas sus competiciones, ordenados por fecha. Con from/to (yyyy-MM-dd, ambos incluidos) se limita a ese intervalo.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Calendario devuelto correctamente"),
+            @ApiResponse(responseCode = "404", description = "Equipo no encontrado")
+    })
+    public ResponseEntity<List<MatchDTO>> getTeamMatches(
+            @PathVariable Long teamId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        return ResponseEntity.ok(matchService.getMatchesByTeam(teamId, from, to));
     }
 
 }
@@ -0,0 +1,17 @@
+package com.um.gestioncompeticiones.dto;
+
+import com.um.gestioncompeticiones.model.BracketType;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BracketDTO {
+    private Long competitionId;
+    private BracketType type;
+    private int teams;
+    private int bracketSize;
+    private int rounds;
+    private Long championId;
+}
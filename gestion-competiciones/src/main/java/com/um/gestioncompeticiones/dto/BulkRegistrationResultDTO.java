@@ -0,0 +1,16 @@
+package com.um.gestioncompeticiones.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkRegistrationResultDTO {
+    private Long competitionId;
+    private List<Long> registered;
+    private List<Long> alreadyRegistered;
+    private List<Long> notFound;
+}
@@ -27,4 +27,7 @@ public class CompetitionCreateDTO {
 
     @Min(value = 1, message = "There must be at least one court")
     private int numberOfCourts;
+
+    @Min(value = 0, message = "Minimum rest days cannot be negative")
+    private int minRestDays;
 }
\ No newline at end of file
@@ -1,18 +1,17 @@
 package com.um.gestioncompeticiones.dto;
 
-import lombok.*;
+import lombok.Builder;
 
 import java.time.LocalDate;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+// Inmutable: se construye directamente con el constructor canónico en DtoMapper
 @Builder
-public class CompetitionDTO {
-    private Long id;
-    private String name;
-    private String sport;
-    private LocalDate startDate;
-    private LocalDate endDate;
-    private int numberOfCourts;
+public record CompetitionDTO(
+        Long id,
+        String name,
+        String sport,
+        LocalDate startDate,
+        LocalDate endDate,
+        int numberOfCourts,
+        int minRestDays) {
 }
@@ -0,0 +1,12 @@
+package com.um.gestioncompeticiones.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportErrorDTO {
+    private long line;
+    private String message;
+}
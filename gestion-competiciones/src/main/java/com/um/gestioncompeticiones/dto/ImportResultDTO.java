@@ -0,0 +1,17 @@
+package com.um.gestioncompeticiones.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportResultDTO {
+    private long rows;
+    private long imported;
+    private long failed;
+    // Solo los primeros errores (app.import.max-errors); failed cuenta todos
+    private List<ImportErrorDTO> errors;
+}
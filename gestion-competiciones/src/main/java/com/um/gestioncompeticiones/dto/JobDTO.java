@@ -0,0 +1,25 @@
+package com.um.gestioncompeticiones.dto;
+
+import com.um.gestioncompeticiones.job.JobStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobDTO {
+    private String id;
+    private String type;
+    private Long competitionId;
+    private JobStatus status;
+    private long processed;
+    private long total;
+    private double progress;
+    private Object result;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
@@ -1,20 +1,23 @@
 package com.um.gestioncompeticiones.dto;
 
-import lombok.*;
+import lombok.Builder;
 
 import java.time.LocalDate;
 
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
+// Inmutable: el orden de los componentes es el que usan DtoMapper y las proyecciones de MatchRepository
 @Builder
-public class MatchDTO {
-    private Long id;
-    private Long competitionId;
-    private Long team1Id;
-    private String team1Name;
-    private Long team2Id;
-    private String team2Name;
-    private LocalDate matchDate;
-    private int courtNumber;
-}
\ No newline at end of file
+public record MatchDTO(
+        Long id,
+        Long competitionId,
+        Long team1Id,
+        String team1Name,
+        Long team2Id,
+        String team2Name,
+        LocalDate matchDate,
+        int courtNumber,
+        Integer timeSlot,
+        Integer round,
+        Long winnerId,
+        Integer homeScore,
+        Integer awayScore) {
+}
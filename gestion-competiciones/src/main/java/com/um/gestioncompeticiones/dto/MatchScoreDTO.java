@@ -0,0 +1,19 @@
+package com.um.gestioncompeticiones.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchScoreDTO {
+
+    @NotNull(message = "Home score is required")
+    @Min(value = 0, message = "Scores cannot be negative")
+    private Integer homeScore;
+    @NotNull(message = "Away score is required")
+    @Min(value = 0, message = "Scores cannot be negative")
+    private Integer awayScore;
+}
@@ -0,0 +1,14 @@
+package com.um.gestioncompeticiones.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MatchWinnerDTO {
+
+    @NotNull(message = "Winner team id is required")
+    private Long winnerId;
+}
@@ -0,0 +1,18 @@
+package com.um.gestioncompeticiones.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduleSummaryDTO {
+    private Long competitionId;
+    private int teams;
+    private int rounds;
+    private long matches;
+    private LocalDate firstMatchDate;
+    private LocalDate lastMatchDate;
+}
@@ -0,0 +1,18 @@
+package com.um.gestioncompeticiones.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SwissRoundDTO {
+    private Long competitionId;
+    private int round;
+    private int matches;
+    private Long byeTeamId;
+    private LocalDate firstMatchDate;
+    private LocalDate lastMatchDate;
+}
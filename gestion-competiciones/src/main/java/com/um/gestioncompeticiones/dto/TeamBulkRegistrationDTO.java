@@ -0,0 +1,19 @@
+package com.um.gestioncompeticiones.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamBulkRegistrationDTO {
+
+    @NotEmpty(message = "At least one team id is mandatory")
+    @Size(max = 50000, message = "No more than 50000 teams can be registered at once")
+    private List<@NotNull(message = "Team ids cannot be null") Long> teamIds;
+}
@@ -1,13 +1,7 @@
 package com.um.gestioncompeticiones.dto;
 
+import lombok.Builder;
 
-import lombok.*;
-
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
 @Builder
-public class TeamDTO {
-    private Long id;
-    private String name;
-}
\ No newline at end of file
+public record TeamDTO(Long id, String name) {
+}
@@ -1,8 +1,13 @@
 package com.um.gestioncompeticiones.exception;
 
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.um.gestioncompeticiones.exception.bracket.BracketNotFoundException;
 import com.um.gestioncompeticiones.exception.competition.CompetitionAlreadyExistsException;
 import com.um.gestioncompeticiones.exception.competition.CompetitionNotFoundException;
+import com.um.gestioncompeticiones.exception.idempotency.IdempotencyKeyInProgressException;
+import com.um.gestioncompeticiones.exception.job.JobNotFoundException;
+import com.um.gestioncompeticiones.exception.job.JobRejectedException;
+import com.um.gestioncompeticiones.exception.match.InvalidMatchResultException;
 import com.um.gestioncompeticiones.exception.match.MatchGenerationException;
 import com.um.gestioncompeticiones.exception.match.MatchNotFoundException;
 import com.um.gestioncompeticiones.exception.team.TeamAlreadyRegisteredException;
@@ -11,9 +16,11 @@ import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -86,6 +93,59 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(InvalidMatchResultException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidMatchResult(InvalidMatchResultException ex) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("timestamp", LocalDateTime.now());
+        error.put("status", HttpStatus.BAD_REQUEST.value());
+        error.put("error", "InvalidMatchResult");
+        error.put("message", ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    // Brackets
+    @ExceptionHandler(BracketNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleBracketNotFound(BracketNotFoundException ex) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("timestamp", LocalDateTime.now());
+        error.put("status", HttpStatus.NOT_FOUND.value());
+        error.put("error", "BracketNotFound");
+        error.put("message", ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+    }
+
+    // Jobs
+    @ExceptionHandler(JobNotFoundException.class)
+    public ResponseEntity<Map<String, Object>> handleJobNotFound(JobNotFoundException ex) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("timestamp", LocalDateTime.now());
+        error.put("status", HttpStatus.NOT_FOUND.value());
+        error.put("error", "JobNotFound");
+        error.put("message", ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(JobRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleJobRejected(JobRejectedException ex) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("timestamp", LocalDateTime.now());
+        error.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        error.put("error", "JobRejected");
+        error.put("message", ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    // Idempotencia
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<Map<String, Object>> handleIdempotencyKeyInProgress(IdempotencyKeyInProgressException ex) {
+        Map<String, Object> error = new HashMap<>();
+        error.put("timestamp", LocalDateTime.now());
+        error.put("status", HttpStatus.CONFLICT.value());
+        error.put("error", "IdempotencyKeyInProgress");
+        error.put("message", ex.getMessage());
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
     // Excepciones de las validaciones de los DTO
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
@@ -133,6 +193,33 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    // Parámetros de la URL con un tipo incorrecto (por ejemplo, una fecha mal escrita)
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Map<String, String>> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        String message = java.time.LocalDate.class.equals(ex.getRequiredType())
+                ? "Fecha inválida en '" + ex.getName() + "'. Formato esperado: yyyy-MM-dd"
+                : "Valor inválido para '" + ex.getName() + "': " + ex.getValue();
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(Map.of(
+                        "error", "BadRequest",
+                        "message", message,
+                        "status", "400"
+                ));
+    }
+
+    // Cuerpo enviado con un Content-Type que el endpoint no acepta (por ejemplo, una importación en text/plain)
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<Map<String, String>> handleMediaTypeNotSupported(HttpMediaTypeNotSupportedException ex) {
+        return ResponseEntity
+                .status(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
+                .body(Map.of(
+                        "error", "UnsupportedMediaType",
+                        "message", ex.getMessage(),
+                        "status", "415"
+                ));
+    }
+
     // Excepciones genéricas
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleGenericException(Exception ex) {
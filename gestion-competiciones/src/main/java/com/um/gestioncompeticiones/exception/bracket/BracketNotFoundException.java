@@ -0,0 +1,7 @@
+package com.um.gestioncompeticiones.exception.bracket;
+
+public class BracketNotFoundException extends RuntimeException {
+    public BracketNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.um.gestioncompeticiones.exception.idempotency;
+
+public class IdempotencyKeyInProgressException extends RuntimeException {
+    public IdempotencyKeyInProgressException(String message) {
+        super(message);
+    }
+}
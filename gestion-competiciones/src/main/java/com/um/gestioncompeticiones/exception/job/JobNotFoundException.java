@@ -0,0 +1,7 @@
+package com.um.gestioncompeticiones.exception.job;
+
+public class JobNotFoundException extends RuntimeException {
+    public JobNotFoundException(String message) {
+        super(message);
+    }
+}
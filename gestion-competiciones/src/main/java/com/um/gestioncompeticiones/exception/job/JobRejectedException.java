@@ -0,0 +1,7 @@
+package com.um.gestioncompeticiones.exception.job;
+
+public class JobRejectedException extends RuntimeException {
+    public JobRejectedException(String message) {
+        super(message);
+    }
+}
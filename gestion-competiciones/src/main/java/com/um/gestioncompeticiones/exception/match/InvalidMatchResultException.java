@@ -0,0 +1,7 @@
+package com.um.gestioncompeticiones.exception.match;
+
+public class InvalidMatchResultException extends RuntimeException {
+    public InvalidMatchResultException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,45 @@
+package com.um.gestioncompeticiones.importer;
+
+import com.um.gestioncompeticiones.controller.CsvWriter;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * Formatos aceptados por la importación masiva: CSV con cabecera o NDJSON (un objeto JSON por línea).
+ * En ambos casos los nombres de columna o de campo son los de los DTO de creación.
+ */
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    /**
+     * @param contentType cabecera {@code Content-Type} de la petición
+     * @throws IllegalArgumentException si no es {@code text/csv} ni {@code application/x-ndjson}
+     */
+    public static ImportFormat fromContentType(String contentType) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        if (CsvWriter.TEXT_CSV.isCompatibleWith(mediaType)) {
+            return CSV;
+        }
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(mediaType)) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+    }
+
+    /**
+     * @param filename nombre del fichero, terminado en {@code .csv}, {@code .ndjson} o {@code .jsonl}
+     * @throws IllegalArgumentException si la extensión no corresponde a ningún formato
+     */
+    public static ImportFormat fromFilename(String filename) {
+        String lower = filename.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".csv")) {
+            return CSV;
+        }
+        if (lower.endsWith(".ndjson") || lower.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Unsupported import file extension: " + filename);
+    }
+}
@@ -0,0 +1,17 @@
+package com.um.gestioncompeticiones.importer;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Un registro leído del fichero de importación: sus valores o, si no se pudo leer, el motivo.
+ */
+@Getter
+@AllArgsConstructor
+public class ImportRecord {
+    // Línea del fichero en la que empieza el registro (la cabecera CSV es la línea 1)
+    private final long line;
+    private final ObjectNode values;
+    private final String error;
+}
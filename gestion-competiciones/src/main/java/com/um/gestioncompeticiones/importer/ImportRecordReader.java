@@ -0,0 +1,201 @@
+package com.um.gestioncompeticiones.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lee un fichero de importación registro a registro, sin cargarlo entero en memoria. Un registro
+ * mal formado se devuelve con su error en lugar de detener la lectura.
+ */
+public abstract class ImportRecordReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char BOM = '\uFEFF';
+
+    protected final BufferedReader reader;
+    protected final ObjectMapper objectMapper;
+
+    protected ImportRecordReader(InputStream in, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.objectMapper = objectMapper;
+    }
+
+    public static ImportRecordReader open(InputStream in, ImportFormat format, ObjectMapper objectMapper) {
+        return format == ImportFormat.CSV
+                ? new CsvRecordReader(in, objectMapper)
+                : new NdjsonRecordReader(in, objectMapper);
+    }
+
+    /**
+     * @return el siguiente registro, o {@code null} al final del fichero
+     */
+    public abstract ImportRecord next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // Un objeto JSON por línea; las líneas en blanco se ignoran
+    private static final class NdjsonRecordReader extends ImportRecordReader {
+
+        private long line;
+
+        NdjsonRecordReader(InputStream in, ObjectMapper objectMapper) {
+            super(in, objectMapper);
+        }
+
+        @Override
+        public ImportRecord next() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                if (text == null) {
+                    return null;
+                }
+                line++;
+            } while (text.isBlank());
+
+            if (line == 1 && text.charAt(0) == BOM) {
+                text = text.substring(1);
+            }
+            try {
+                JsonNode node = objectMapper.readTree(text);
+                if (node instanceof ObjectNode values) {
+                    return new ImportRecord(line, values, null);
+                }
+                return new ImportRecord(line, null, "Expected a JSON object");
+            } catch (JsonProcessingException e) {
+                return new ImportRecord(line, null, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    // CSV (RFC 4180) con cabecera: los campos entre comillas pueden contener comas, comillas
+    // duplicadas y saltos de línea. Los campos vacíos se tratan como ausentes
+    private static final class CsvRecordReader extends ImportRecordReader {
+
+        private String[] header;
+        private long line = 1;
+        private int pending = -1;
+        private boolean unterminatedQuote;
+
+        CsvRecordReader(InputStream in, ObjectMapper objectMapper) {
+            super(in, objectMapper);
+        }
+
+        @Override
+        public ImportRecord next() throws IOException {
+            if (header == null) {
+                List<String> names = readFields();
+                if (names == null) {
+                    return null;
+                }
+                if (!names.isEmpty() && !names.get(0).isEmpty() && names.get(0).charAt(0) == BOM) {
+                    names.set(0, names.get(0).substring(1));
+                }
+                header = names.stream().map(String::trim).toArray(String[]::new);
+            }
+
+            List<String> fields;
+            long start;
+            do {
+                start = line;
+                fields = readFields();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+            if (unterminatedQuote) {
+                return new ImportRecord(start, null, "Unterminated quoted field");
+            }
+            if (fields.size() != header.length) {
+                return new ImportRecord(start, null,
+                        "Expected " + header.length + " columns but found " + fields.size());
+            }
+            ObjectNode values = objectMapper.createObjectNode();
+            for (int i = 0; i < header.length; i++) {
+                if (!fields.get(i).isEmpty()) {
+                    values.put(header[i], fields.get(i));
+                }
+            }
+            return new ImportRecord(start, values, null);
+        }
+
+        // Lee los campos de un registro, o null si no quedan registros
+        private List<String> readFields() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        unterminatedQuote = true;
+                        fields.add(field.toString());
+                        return fields;
+                    }
+                    if (c == '"') {
+                        int nextChar = read();
+                        if (nextChar == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = nextChar;
+                            continue;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            line++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        int nextChar = read();
+                        if (nextChar != '\n') {
+                            pending = nextChar;
+                        }
+                    }
+                    if (c != -1) {
+                        line++;
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        private int read() throws IOException {
+            if (pending != -1) {
+                int c = pending;
+                pending = -1;
+                return c;
+            }
+            return reader.read();
+        }
+    }
+}
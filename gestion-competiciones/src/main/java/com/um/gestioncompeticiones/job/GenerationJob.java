@@ -0,0 +1,83 @@
+package com.um.gestioncompeticiones.job;
+
+import com.um.gestioncompeticiones.dto.JobDTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estado en memoria de un trabajo de generación. Lo escribe el hilo del ejecutor y lo leen
+ * las peticiones de consulta, así que todos los campos mutables son {@code volatile}.
+ */
+public class GenerationJob implements ProgressListener {
+
+    private final String id;
+    private final String type;
+    private final Long competitionId;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile JobStatus status = JobStatus.PENDING;
+    private volatile long processed;
+    private volatile long total;
+    private volatile Object result;
+    private volatile String error;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    public GenerationJob(String id, String type, Long competitionId) {
+        this.id = id;
+        this.type = type;
+        this.competitionId = competitionId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void onProgress(long processed, long total) {
+        this.total = total;
+        this.processed = processed;
+    }
+
+    public void start() {
+        startedAt = LocalDateTime.now();
+        status = JobStatus.RUNNING;
+    }
+
+    public void complete(Object result) {
+        this.result = result;
+        if (total == 0) {
+            total = 1;
+        }
+        processed = total;
+        finishedAt = LocalDateTime.now();
+        status = JobStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        finishedAt = LocalDateTime.now();
+        status = JobStatus.FAILED;
+    }
+
+    public JobDTO toDTO() {
+        // El estado se lee primero: si es COMPLETED, el resultado ya está publicado
+        JobStatus currentStatus = status;
+        long currentTotal = total;
+        long currentProcessed = processed;
+        return JobDTO.builder()
+                .id(id)
+                .type(type)
+                .competitionId(competitionId)
+                .status(currentStatus)
+                .processed(currentProcessed)
+                .total(currentTotal)
+                .progress(currentTotal > 0 ? Math.min(100.0, 100.0 * currentProcessed / currentTotal) : 0.0)
+                .result(currentStatus == JobStatus.COMPLETED ? result : null)
+                .error(error)
+                .createdAt(createdAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
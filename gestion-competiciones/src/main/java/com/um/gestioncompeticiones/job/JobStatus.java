@@ -0,0 +1,8 @@
+package com.um.gestioncompeticiones.job;
+
+public enum JobStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
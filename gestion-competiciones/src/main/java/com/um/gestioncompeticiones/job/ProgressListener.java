@@ -0,0 +1,16 @@
+package com.um.gestioncompeticiones.job;
+
+/**
+ * Recibe el avance de una generación de partidos larga.
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+    ProgressListener NONE = (processed, total) -> { };
+
+    /**
+     * @param processed unidades de trabajo terminadas (por ejemplo, partidos guardados)
+     * @param total     unidades de trabajo totales
+     */
+    void onProgress(long processed, long total);
+}
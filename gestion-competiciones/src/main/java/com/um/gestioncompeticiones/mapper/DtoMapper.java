@@ -8,55 +8,73 @@ import com.um.gestioncompeticiones.model.Match;
 import com.um.gestioncompeticiones.model.Team;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
+// Los DTO se crean con su constructor (sin builder intermedio) y las listas con su tamaño final,
+// así cada fila solo reserva el propio DTO
 @Component
 public class DtoMapper {
 
     // --- Competition ---
     public CompetitionDTO toCompetitionDTO(Competition competition) {
-        return CompetitionDTO.builder()
-                .id(competition.getId())
-                .name(competition.getName())
-                .sport(competition.getSport())
-                .startDate(competition.getStartDate())
-                .endDate(competition.getEndDate())
-                .numberOfCourts(competition.getNumberOfCourts())
-                .build();
+        return new CompetitionDTO(
+                competition.getId(),
+                competition.getName(),
+                competition.getSport(),
+                competition.getStartDate(),
+                competition.getEndDate(),
+                competition.getNumberOfCourts(),
+                competition.getMinRestDays());
     }
 
     public List<CompetitionDTO> toCompetitionDTOList(List<Competition> competitions) {
-        return competitions.stream().map(this::toCompetitionDTO).collect(Collectors.toList());
+        List<CompetitionDTO> dtos = new ArrayList<>(competitions.size());
+        for (Competition competition : competitions) {
+            dtos.add(toCompetitionDTO(competition));
+        }
+        return dtos;
     }
 
     // --- Team ---
     public TeamDTO toTeamDTO(Team team) {
-        return TeamDTO.builder()
-                .id(team.getId())
-                .name(team.getName())
-                .build();
+        return new TeamDTO(team.getId(), team.getName());
     }
 
     public List<TeamDTO> toTeamDTOList(List<Team> teams) {
-        return teams.stream().map(this::toTeamDTO).collect(Collectors.toList());
+        List<TeamDTO> dtos = new ArrayList<>(teams.size());
+        for (Team team : teams) {
+            dtos.add(toTeamDTO(team));
+        }
+        return dtos;
     }
 
     // --- Match ---
     public MatchDTO toMatchDTO(Match match) {
-        return MatchDTO.builder()
-                .id(match.getId())
-                .competitionId(match.getCompetition().getId())
-                .team1Id(match.getTeam1().getId())
-                .team1Name(match.getTeam1().getName())
-                .team2Id(match.getTeam2().getId())
-                .team2Name(match.getTeam2().getName())
-                .matchDate(match.getMatchDate())
-                .courtNumber(match.getCourtNumber())
-                .build();
+        Team team1 = match.getTeam1();
+        Team team2 = match.getTeam2();
+        Team winner = match.getWinner();
+        return new MatchDTO(
+                match.getId(),
+                match.getCompetition().getId(),
+                team1.getId(),
+                team1.getName(),
+                team2.getId(),
+                team2.getName(),
+                match.getMatchDate(),
+                match.getCourtNumber(),
+                match.getTimeSlot(),
+                match.getRound(),
+                winner != null ? winner.getId() : null,
+                match.getHomeScore(),
+                match.getAwayScore());
     }
 
     public List<MatchDTO> toMatchDTOList(List<Match> matches) {
-        return matches.stream().map(this::toMatchDTO).collect(Collectors.toList());
+        List<MatchDTO> dtos = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            dtos.add(toMatchDTO(match));
+        }
+        return dtos;
     }
 }
@@ -0,0 +1,144 @@
+package com.um.gestioncompeticiones.metrics;
+
+import com.um.gestioncompeticiones.dto.ScheduleSummaryDTO;
+import com.um.gestioncompeticiones.dto.SwissRoundDTO;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mide cada llamada pública a los servicios y a los repositorios y la publica en Micrometer.
+ * <ul>
+ *   <li>{@value #SERVICE_TIMER}: duración de los métodos de servicio, por clase, método y excepción.</li>
+ *   <li>{@value #REPOSITORY_TIMER}: duración de los métodos de repositorio, con las mismas etiquetas.</li>
+ *   <li>{@value #REPOSITORY_ROWS}: filas devueltas por los repositorios que devuelven una colección
+ *       o un {@link Optional}.</li>
+ *   <li>{@value #GENERATED_MATCHES}: partidos creados por cada generación de {@code MatchService}.</li>
+ * </ul>
+ * <p>
+ * Los histogramas de percentiles se activan en {@code application.properties}
+ * ({@code management.metrics.distribution.percentiles-histogram}). En los métodos que devuelven
+ * un {@code Stream} solo se mide la apertura del cursor, no su lectura.
+ * </p>
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MetricsAspect {
+
+    public static final String SERVICE_TIMER = "app.service";
+    public static final String REPOSITORY_TIMER = "app.repository";
+    public static final String REPOSITORY_ROWS = "app.repository.rows";
+    public static final String GENERATED_MATCHES = "app.generation.matches";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry registry;
+
+    // Nombre de la interfaz de cada repositorio de Spring Data, resuelto una vez por clase de proxy
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Around("within(com.um.gestioncompeticiones.service..*) "
+            + "&& @within(org.springframework.stereotype.Service)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = AopProxyUtils.ultimateTargetClass(joinPoint.getTarget()).getSimpleName();
+        return time(SERVICE_TIMER, className, joinPoint, false);
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..)) "
+            + "|| (within(com.um.gestioncompeticiones.repository..*) "
+            + "&& @within(org.springframework.stereotype.Repository))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, repositoryName(joinPoint), joinPoint, true);
+    }
+
+    @AfterReturning(
+            pointcut = "execution(* com.um.gestioncompeticiones.service.MatchService+.generate*(..))",
+            returning = "result")
+    public void countGeneratedMatches(JoinPoint joinPoint, Object result) {
+        long matches;
+        if (result instanceof Collection<?> collection) {
+            matches = collection.size();
+        } else if (result instanceof ScheduleSummaryDTO summary) {
+            matches = summary.getMatches();
+        } else if (result instanceof SwissRoundDTO swissRound) {
+            matches = swissRound.getMatches();
+        } else {
+            return;
+        }
+        DistributionSummary.builder(GENERATED_MATCHES)
+                .description("Partidos creados por generación")
+                .baseUnit("matches")
+                .tag("method", joinPoint.getSignature().getName())
+                .register(registry)
+                .record(matches);
+    }
+
+    private Object time(String timerName, String className, ProceedingJoinPoint joinPoint,
+                        boolean countRows) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(registry);
+        String exception = NO_EXCEPTION;
+        try {
+            Object result = joinPoint.proceed();
+            if (countRows) {
+                recordRows(className, method, result);
+            }
+            return result;
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(timerName)
+                    .tag("class", className)
+                    .tag("method", method)
+                    .tag("exception", exception)
+                    .register(registry));
+        }
+    }
+
+    private void recordRows(String className, String method, Object result) {
+        long rows;
+        if (result instanceof Collection<?> collection) {
+            rows = collection.size();
+        } else if (result instanceof Optional<?> optional) {
+            rows = optional.isPresent() ? 1 : 0;
+        } else {
+            return;
+        }
+        DistributionSummary.builder(REPOSITORY_ROWS)
+                .description("Filas devueltas por consulta")
+                .baseUnit("rows")
+                .tag("class", className)
+                .tag("method", method)
+                .register(registry)
+                .record(rows);
+    }
+
+    // Los repositorios de Spring Data son proxies de SimpleJpaRepository: se etiquetan con su interfaz
+    private String repositoryName(ProceedingJoinPoint joinPoint) {
+        Object proxy = joinPoint.getThis();
+        return repositoryNames.computeIfAbsent(proxy.getClass(), proxyClass -> {
+            for (Class<?> userInterface : proxyClass.getInterfaces()) {
+                if (Repository.class.isAssignableFrom(userInterface)) {
+                    return userInterface.getSimpleName();
+                }
+            }
+            return AopProxyUtils.ultimateTargetClass(proxy).getSimpleName();
+        });
+    }
+}
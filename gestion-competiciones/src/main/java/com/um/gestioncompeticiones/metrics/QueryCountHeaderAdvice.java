@@ -0,0 +1,39 @@
+package com.um.gestioncompeticiones.metrics;
+
+import com.um.gestioncompeticiones.controller.RowStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Añade la cabecera {@value QueryCountFilter#QUERY_COUNT_HEADER} con las sentencias SQL ejecutadas
+ * hasta escribir el cuerpo de la respuesta. Las respuestas en streaming (incluidos los cuerpos
+ * {@link RowStream}, que consultan mientras se escriben) no la llevan.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class QueryCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    private final QueryCounter queryCounter;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        int queries = queryCounter.current();
+        if (queries >= 0 && !(body instanceof RowStream<?>)) {
+            response.getHeaders().set(QueryCountFilter.QUERY_COUNT_HEADER, Integer.toString(queries));
+        }
+        return body;
+    }
+}
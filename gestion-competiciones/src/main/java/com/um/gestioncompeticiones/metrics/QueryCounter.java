@@ -0,0 +1,60 @@
+package com.um.gestioncompeticiones.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Cuenta las sentencias SQL que Hibernate ejecuta en el hilo actual entre {@link #start()} y
+ * {@link #stop()}. Se registra a sí mismo como {@link StatementInspector} de Hibernate.
+ * <p>
+ * Fuera de un recuento abierto no hace nada, así que los trabajos en segundo plano no se cuentan.
+ * Las escrituras por lotes de {@code JdbcTemplate} no pasan por Hibernate y tampoco se cuentan.
+ * </p>
+ */
+@Component
+public class QueryCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private final ThreadLocal<int[]> count = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] current = count.get();
+        if (current != null) {
+            current[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Empieza a contar en el hilo actual, descartando cualquier recuento anterior.
+     */
+    public void start() {
+        count.set(new int[1]);
+    }
+
+    /**
+     * Sentencias ejecutadas desde {@link #start()}, o -1 si no hay recuento abierto.
+     */
+    public int current() {
+        int[] current = count.get();
+        return current == null ? -1 : current[0];
+    }
+
+    /**
+     * Termina el recuento del hilo actual y devuelve las sentencias ejecutadas.
+     */
+    public int stop() {
+        int total = current();
+        count.remove();
+        return total;
+    }
+}
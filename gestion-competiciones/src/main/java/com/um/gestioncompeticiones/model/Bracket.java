@@ -0,0 +1,43 @@
+package com.um.gestioncompeticiones.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Cuadro eliminatorio de una competición. El estado de todos sus nodos se guarda en una
+ * única columna (ver {@link com.um.gestioncompeticiones.scheduling.KnockoutBracket}).
+ */
+@Entity
+@Table(name = "brackets")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Bracket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "competition_id", nullable = false, unique = true)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Competition competition;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BracketType type;
+
+    @Column(name = "team_count", nullable = false)
+    private int teamCount;
+
+    @Column(name = "bracket_size", nullable = false)
+    private int size;
+
+    @Lob
+    @Convert(converter = LongArrayConverter.class)
+    @Column(name = "node_state", nullable = false)
+    @ToString.Exclude
+    private long[] state;
+}
@@ -0,0 +1,6 @@
+package com.um.gestioncompeticiones.model;
+
+public enum BracketType {
+    SINGLE_ELIMINATION,
+    DOUBLE_ELIMINATION
+}
@@ -11,13 +11,17 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "competitions")
+@Table(name = "competitions",
+        // El nombre es único: la base de datos rechaza duplicados aunque lleguen a la vez
+        uniqueConstraints = @UniqueConstraint(name = Competition.NAME_CONSTRAINT, columnNames = "name"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Competition {
 
+    public static final String NAME_CONSTRAINT = "uk_competitions_name";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -37,12 +41,18 @@ public class Competition {
     @Column(name = "number_of_courts", nullable = false)
     private int numberOfCourts;
 
+    // Días libres mínimos entre dos partidos de un mismo equipo
+    @Column(name = "min_rest_days", nullable = false)
+    private int minRestDays;
+
     @ManyToMany
     @JoinTable(
             name = "competition_team",
             joinColumns = @JoinColumn(name = "competition_id"),
             inverseJoinColumns = @JoinColumn(name = "team_id"),
-            uniqueConstraints = @UniqueConstraint(columnNames = {"competition_id", "team_id"})
+            uniqueConstraints = @UniqueConstraint(columnNames = {"competition_id", "team_id"}),
+            // La clave primaria (competition_id, team_id) cubre la búsqueda por competición
+            indexes = @Index(name = "idx_competition_team_team", columnList = "team_id")
     )
     @ToString.Exclude
     @EqualsAndHashCode.Exclude
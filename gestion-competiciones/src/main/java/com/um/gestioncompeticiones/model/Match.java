@@ -7,7 +7,16 @@ import lombok.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "matches")
+@Table(name = "matches", indexes = {
+        // Partidos de una competición; la clave primaria se añade al final de cada índice, así que
+        // también sirve para recorrerlos en orden de ID (listados, paginación por clave y streaming)
+        @Index(name = "idx_matches_competition", columnList = "competition_id"),
+        // Partidos de una competición entre dos fechas: la ventana en que se coloca un partido del cuadro
+        @Index(name = "idx_matches_competition_date", columnList = "competition_id, match_date"),
+        // Partidos de un equipo, como local o visitante, y anti-join de equipos sin asignar
+        @Index(name = "idx_matches_team1", columnList = "team1_id"),
+        @Index(name = "idx_matches_team2", columnList = "team2_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -18,16 +27,16 @@ public class Match {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "competition_id", nullable = false)
     @JsonBackReference
     private Competition competition;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team1_id", nullable = false)
     private Team team1;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "team2_id", nullable = false)
     private Team team2;
 
@@ -36,4 +45,26 @@ public class Match {
 
     @Column(name = "court_number", nullable = false)
     private int courtNumber;
+
+    // Franja horaria dentro del día (empezando en 1)
+    @Column(name = "time_slot")
+    private Integer timeSlot;
+
+    @Column(name = "round_number")
+    private Integer round;
+
+    // Nodo del cuadro eliminatorio, o null si el partido no pertenece a un cuadro
+    @Column(name = "bracket_node")
+    private Integer bracketNode;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "winner_id")
+    private Team winner;
+
+    // Marcador; null mientras no se haya registrado el resultado
+    @Column(name = "home_score")
+    private Integer homeScore;
+
+    @Column(name = "away_score")
+    private Integer awayScore;
 }
@@ -0,0 +1,37 @@
+package com.um.gestioncompeticiones.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Descanso de un equipo en una ronda de sistema suizo. Se guarda al emparejar la ronda: un
+ * equipo inscrito después no ha descansado aunque no tenga partidos en las rondas anteriores.
+ */
+@Entity
+@Table(name = "swiss_byes", uniqueConstraints =
+        @UniqueConstraint(name = "uk_swiss_byes_competition_round", columnNames = {"competition_id", "round"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SwissBye {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "competition_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Competition competition;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Team team;
+
+    @Column(nullable = false)
+    private int round;
+}
@@ -0,0 +1,24 @@
+package com.um.gestioncompeticiones.repository;
+
+import com.um.gestioncompeticiones.model.Bracket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BracketRepository extends JpaRepository<Bracket, Long> {
+
+    boolean existsByCompetitionId(Long competitionId);
+
+    Optional<Bracket> findByCompetitionId(Long competitionId);
+
+    // Bloquea el cuadro mientras se registra un resultado: dos resultados simultáneos
+    // modificarían el mismo array de estado
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Bracket b WHERE b.competition.id = :competitionId")
+    Optional<Bracket> findForUpdateByCompetitionId(Long competitionId);
+}
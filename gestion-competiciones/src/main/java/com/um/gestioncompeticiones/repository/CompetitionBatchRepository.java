@@ -0,0 +1,80 @@
+package com.um.gestioncompeticiones.repository;
+
+import com.um.gestioncompeticiones.dto.CompetitionCreateDTO;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.JDBCException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Alta masiva de competiciones mediante JDBC batch. Un nombre repetido hace fallar el lote por la
+ * restricción única {@code uk_competitions_name}. Participa en la transacción en curso.
+ * <p>
+ * Los errores de integridad se traducen con el dialecto de Hibernate, de modo que llevan el nombre
+ * de la restricción igual que los de las altas por JPA.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class CompetitionBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO competitions (name, sport, start_date, end_date, number_of_courts, min_rest_days)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * @param competitions competiciones ya validadas
+     * @return número de filas insertadas
+     * @throws org.springframework.dao.DataIntegrityViolationException si algún nombre ya existe
+     */
+    public int insert(List<CompetitionCreateDTO> competitions) {
+        if (competitions.isEmpty()) {
+            return 0;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, competitions, competitions.size(), (ps, competition) -> {
+                ps.setString(1, competition.getName());
+                ps.setString(2, competition.getSport());
+                ps.setObject(3, competition.getStartDate());
+                ps.setObject(4, competition.getEndDate());
+                ps.setInt(5, competition.getNumberOfCourts());
+                ps.setInt(6, competition.getMinRestDays());
+            });
+        } catch (DataIntegrityViolationException e) {
+            SQLException cause = rootSqlException(e);
+            if (cause == null) {
+                throw e;
+            }
+            JDBCException converted = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices().getSqlExceptionHelper()
+                    .convert(cause, "could not insert competitions", INSERT_SQL);
+            throw new DataIntegrityViolationException(e.getMessage(), converted);
+        }
+        return competitions.size();
+    }
+
+    // El error de un lote llega envuelto en un BatchUpdateException con la causa real encadenada
+    private static SQLException rootSqlException(DataIntegrityViolationException e) {
+        SQLException found = null;
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                found = sqlException;
+            }
+        }
+        if (found instanceof BatchUpdateException batch && batch.getNextException() != null) {
+            found = batch.getNextException();
+        }
+        return found;
+    }
+}
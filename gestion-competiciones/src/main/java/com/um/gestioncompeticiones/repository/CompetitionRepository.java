@@ -1,14 +1,102 @@
 package com.um.gestioncompeticiones.repository;
 
+import com.um.gestioncompeticiones.dto.CompetitionDTO;
+import com.um.gestioncompeticiones.dto.TeamDTO;
 import com.um.gestioncompeticiones.model.Competition;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CompetitionRepository extends JpaRepository<Competition, Long> {
 
-    // Comprobar si ya existe una competición con un nombre concreto
-    boolean existsByName(String name);
+    // Bloquea la competición mientras se generan sus partidos: dos generaciones simultáneas
+    // crearían la misma jornada dos veces
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Competition c WHERE c.id = :id")
+    Optional<Competition> findForUpdateById(Long id);
+
+    // Nombre de una competición, vacío si no existe
+    @Query("SELECT c.name FROM Competition c WHERE c.id = :id")
+    Optional<String> findNameById(Long id);
+
+    // Datos de una competición sin cargar la entidad (lo que guarda la caché de competiciones)
+    @Query("""
+        SELECT new com.um.gestioncompeticiones.dto.CompetitionDTO(
+            c.id, c.name, c.sport, c.startDate, c.endDate, c.numberOfCourts, c.minRestDays)
+        FROM Competition c
+        WHERE c.id = :id
+    """)
+    Optional<CompetitionDTO> findDTOById(Long id);
+
+    // Página de competiciones con ID mayor que afterId (paginación por clave)
+    @Query("""
+        SELECT new com.um.gestioncompeticiones.dto.CompetitionDTO(
+            c.id, c.name, c.sport, c.startDate, c.endDate, c.numberOfCourts, c.minRestDays)
+        FROM Competition c
+        WHERE c.id > :afterId
+        ORDER BY c.id
+    """)
+    List<CompetitionDTO> findDTOsAfter(Long afterId, Limit limit);
+
+    // Todas las competiciones en orden de ID, leídas con cursor (requiere transacción abierta)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        SELECT new com.um.gestioncompeticiones.dto.CompetitionDTO(
+            c.id, c.name, c.sport, c.startDate, c.endDate, c.numberOfCourts, c.minRestDays)
+        FROM Competition c
+        ORDER BY c.id
+    """)
+    Stream<CompetitionDTO> streamAllDTOs();
+
+    // Página de equipos de una competición con ID mayor que afterId
+    @Query("""
+        SELECT new com.um.gestioncompeticiones.dto.TeamDTO(t.id, t.name)
+        FROM Competition c
+        JOIN c.teams t
+        WHERE c.id = :competitionId AND t.id > :afterId
+        ORDER BY t.id
+    """)
+    List<TeamDTO> findTeamDTOsAfter(Long competitionId, Long afterId, Limit limit);
+
+    // Todos los equipos de una competición en orden de ID, leídos con cursor
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        SELECT new com.um.gestioncompeticiones.dto.TeamDTO(t.id, t.name)
+        FROM Competition c
+        JOIN c.teams t
+        WHERE c.id = :competitionId
+        ORDER BY t.id
+    """)
+    Stream<TeamDTO> streamTeamDTOs(Long competitionId);
+
+    // Equipos de una competición en orden de ID
+    @Query("""
+        SELECT new com.um.gestioncompeticiones.dto.TeamDTO(t.id, t.name)
+        FROM Competition c
+        JOIN c.teams t
+        WHERE c.id = :competitionId
+        ORDER BY t.id
+    """)
+    List<TeamDTO> findTeamDTOs(Long competitionId);
+
+    // IDs de los equipos inscritos en una competición, en orden de ID
+    @Query("""
+        SELECT t.id
+        FROM Competition c
+        JOIN c.teams t
+        WHERE c.id = :competitionId
+        ORDER BY t.id
+    """)
+    List<Long> findTeamIds(Long competitionId);
 }
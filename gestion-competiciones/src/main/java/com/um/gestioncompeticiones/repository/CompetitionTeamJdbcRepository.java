@@ -0,0 +1,80 @@
+package com.um.gestioncompeticiones.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Escritura directa de inscripciones en la tabla {@code competition_team}, sin cargar las
+ * colecciones {@code Competition.teams} ni {@code Team.competitions}. La restricción de unicidad
+ * (competition_id, team_id) de la tabla es la que detecta las inscripciones repetidas.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CompetitionTeamJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO competition_team (competition_id, team_id) VALUES (?, ?)";
+
+    // Inserta la fila solo si no existe: un repetido no hace fallar la sentencia (en PostgreSQL un
+    // error deja la transacción abortada y ya no admite más consultas)
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO competition_team (competition_id, team_id)
+            SELECT CAST(? AS BIGINT), CAST(? AS BIGINT)
+            WHERE NOT EXISTS (SELECT 1 FROM competition_team WHERE competition_id = ? AND team_id = ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inscribe un equipo en la competición con un único INSERT, independientemente del número
+     * de equipos que ya tenga la competición. Si ya estaba inscrito no se inserta nada.
+     * <p>
+     * Dos inscripciones simultáneas del mismo equipo pueden pasar ambas la comprobación; la
+     * segunda choca entonces con la restricción de unicidad y también devuelve {@code false}. En
+     * ese caso la transacción puede haber quedado abortada, así que el llamador no debe ejecutar
+     * más sentencias en ella.
+     * </p>
+     *
+     * @param competitionId ID de la competición
+     * @param teamId        ID del equipo
+     * @return {@code true} si se ha inscrito, {@code false} si ya estaba inscrito
+     */
+    public boolean insertIfAbsent(long competitionId, long teamId) {
+        try {
+            return jdbcTemplate.update(INSERT_IF_ABSENT_SQL, competitionId, teamId, competitionId, teamId) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Inscribe todos los equipos indicados en la competición en una única sentencia por lotes.
+     * Los equipos no deben estar ya inscritos (la tabla tiene restricción de unicidad).
+     *
+     * @param competitionId ID de la competición
+     * @param teamIds       IDs de los equipos a inscribir
+     * @return número de filas insertadas
+     */
+    public int insert(long competitionId, long[] teamIds) {
+        if (teamIds.length == 0) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, competitionId);
+                ps.setLong(2, teamIds[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return teamIds.length;
+            }
+        });
+        return teamIds.length;
+    }
+}
@@ -0,0 +1,77 @@
+package com.um.gestioncompeticiones.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Escritura masiva de partidos mediante JDBC batch.
+ * <p>
+ * {@code Match.id} usa {@link jakarta.persistence.GenerationType#IDENTITY}, lo que obliga a
+ * Hibernate a lanzar un INSERT por entidad en {@code saveAll}. Este repositorio inserta las
+ * filas directamente con un único {@code PreparedStatement} por bloque y deja que la base de
+ * datos asigne los identificadores. Participa en la transacción JPA en curso.
+ * </p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class MatchBatchRepository {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO matches (competition_id, team1_id, team2_id, match_date, court_number, time_slot, round_number, bracket_node)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserta todas las filas del bloque en la competición indicada.
+     *
+     * @param competitionId ID de la competición
+     * @param rows          filas a insertar
+     * @return número de filas insertadas
+     */
+    public int insert(long competitionId, MatchRowBuffer rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, competitionId);
+                ps.setLong(2, rows.team1Id(i));
+                ps.setLong(3, rows.team2Id(i));
+                ps.setObject(4, rows.matchDate(i));
+                ps.setInt(5, rows.courtNumber(i));
+                setPositiveOrNull(ps, 6, rows.timeSlot(i));
+                setPositiveOrNull(ps, 7, rows.round(i));
+                if (rows.bracketNode(i) >= 0) {
+                    ps.setInt(8, rows.bracketNode(i));
+                } else {
+                    ps.setNull(8, Types.INTEGER);
+                }
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+        return rows.size();
+    }
+
+    private static void setPositiveOrNull(PreparedStatement ps, int index, int value) throws SQLException {
+        if (value > 0) {
+            ps.setInt(index, value);
+        } else {
+            ps.setNull(index, Types.INTEGER);
+        }
+    }
+}
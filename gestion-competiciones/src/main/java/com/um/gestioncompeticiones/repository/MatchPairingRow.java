@@ -0,0 +1,22 @@
+package com.um.gestioncompeticiones.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Datos mínimos de un partido para calcular el emparejamiento de la siguiente ronda
+ * (rivales ya enfrentados, local, resultado y ronda). Un partido está decidido si tiene ganador o
+ * marcador; con marcador y sin ganador es un empate.
+ */
+@Getter
+@AllArgsConstructor
+public class MatchPairingRow {
+    private final Long team1Id;
+    private final Long team2Id;
+    private final Long winnerId;
+    private final Integer homeScore;
+    private final Integer round;
+    private final LocalDate matchDate;
+}
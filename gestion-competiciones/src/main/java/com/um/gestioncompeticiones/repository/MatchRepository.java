@@ -1,15 +1,149 @@
 package com.um.gestioncompeticiones.repository;
 
+import com.um.gestioncompeticiones.dto.MatchDTO;
 import com.um.gestioncompeticiones.model.Match;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MatchRepository  extends JpaRepository<Match, Long> {
 
     // Obtener todos los partidos de una competición
     List<Match> findByCompetitionId(Long competitionId);
+
+    // Partidos de una ronda concreta de una competición
+    List<Match> findByCompetitionIdAndRound(Long competitionId, Integer round);
+
+    boolean existsByCompetitionId(Long competitionId);
+
+    // Bloqueo de escritura del partido mientras se comprueba y se guarda su resultado
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Match m WHERE m.id = :id")
+    Optional<Match> findForUpdateById(Long id);
+
+    // Obtener los partidos de una competición directamente como DTO, con los nombres de los
+    // equipos en la misma consulta (sin cargar entidades Match, Team ni Competition)
+    @Query("""
+        SELECT new com.um.gestioncompeticiones.dto.MatchDTO(
+            m.id, m.competition.id, t1.id, t1.name, t2.id, t2.name, m.matchDate, m.courtNumber, m.timeSlot, m.round, m.winner.id,
+            m.homeScore, m.awayScore)
+        FROM Match m
+        JOIN m.team1 t1
+        JOIN m.team2 t2
+        WHERE m.competition.id = :competitionId
+        ORDER BY m.id
+    """)
+    List<MatchDTO> findDTOsByCompetitionId(Long competitionId);
+
+    // Calendario de un equipo en todas sus competiciones, entre dos fechas (ambas opcionales).
+    // Los partidos se buscan con dos accesos por índice, como local y como visitante: con un OR
+    // entre team1 y team2 la base de datos no puede usar ninguno de los dos índices
+    @Query("""
+        SELECT new com.um.gestioncompeticiones.dto.MatchDTO(
+            m.id, m.competition.id, t1.id, t1.name, t2.id, t2.name, m.matchDate, m.courtNumber, m.timeSlot, m.round, m.winner.id,
+            m.homeScore, m.awayScore)
+        FROM Match m
+        JOIN m.team1 t1
+        JOIN m.team2 t2
+        WHERE m.id IN (
+                SELECT home.id FROM Match home WHERE home.team1.id = :teamId
+                UNION ALL
+                SELECT away.id FROM Match away WHERE away.team2.id = :teamId)
+          AND (:from IS NULL OR m.matchDate >= :from)
+          AND (:to IS NULL OR m.matchDate <= :to)
+        ORDER BY m.matchDate, m.timeSlot, m.id
+    """)
+    List<MatchDTO> findDTOsByTeamId(Long teamId, LocalDate from, LocalDate to);
+
+    // Página de partidos de una competición con ID mayor que afterId (paginación por clave)
+    @Query("""
+        SELECT new com.um.gestioncompeticiones.dto.MatchDTO(
+            m.id, m.competition.id, t1.id, t1.name, t2.id, t2.name, m.matchDate, m.courtNumber, m.timeSlot, m.round, m.winner.id,
+            m.homeScore, m.awayScore)
+        FROM Match m
+        JOIN m.team1 t1
+        JOIN m.team2 t2
+        WHERE m.competition.id = :competitionId AND m.id > :afterId
+        ORDER BY m.id
+    """)
+    List<MatchDTO> findDTOsByCompetitionIdAfter(Long competitionId, Long afterId, Limit limit);
+
+    // Todos los partidos de una competición en orden de ID, leídos con cursor
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        SELECT new com.um.gestioncompeticiones.dto.MatchDTO(
+            m.id, m.competition.id, t1.id, t1.name, t2.id, t2.name, m.matchDate, m.courtNumber, m.timeSlot, m.round, m.winner.id,
+            m.homeScore, m.awayScore)
+        FROM Match m
+        JOIN m.team1 t1
+        JOIN m.team2 t2
+        WHERE m.competition.id = :competitionId
+        ORDER BY m.id
+    """)
+    Stream<MatchDTO> streamDTOsByCompetitionId(Long competitionId);
+
+    // Partidos de una competición reducidos a lo necesario para emparejar la siguiente ronda
+    @Query("""
+        SELECT new com.um.gestioncompeticiones.repository.MatchPairingRow(
+            m.team1.id, m.team2.id, m.winner.id, m.homeScore, m.round, m.matchDate)
+        FROM Match m
+        WHERE m.competition.id = :competitionId
+    """)
+    List<MatchPairingRow> findPairingRows(Long competitionId);
+
+    // Huecos ya ocupados por los partidos de una competición, para colocar los siguientes
+    @Query("""
+        SELECT new com.um.gestioncompeticiones.repository.MatchSlotRow(
+            m.team1.id, m.team2.id, m.matchDate, m.courtNumber, m.timeSlot)
+        FROM Match m
+        WHERE m.competition.id = :competitionId
+    """)
+    List<MatchSlotRow> findSlotRows(Long competitionId);
+
+    // Huecos ocupados en [from, to): la ventana de fechas en la que se coloca un partido nuevo
+    @Query("""
+        SELECT new com.um.gestioncompeticiones.repository.MatchSlotRow(
+            m.team1.id, m.team2.id, m.matchDate, m.courtNumber, m.timeSlot)
+        FROM Match m
+        WHERE m.competition.id = :competitionId
+          AND m.matchDate >= :from
+          AND m.matchDate < :to
+    """)
+    List<MatchSlotRow> findSlotRowsBetween(Long competitionId, LocalDate from, LocalDate to);
+
+    // Último día en que juega cualquiera de los dos equipos en la competición. Como en el
+    // calendario de un equipo, local y visitante se buscan por separado con sus índices
+    @Query("""
+        SELECT MAX(m.matchDate)
+        FROM Match m
+        WHERE m.competition.id = :competitionId
+          AND m.id IN (
+                SELECT home.id FROM Match home WHERE home.team1.id IN (:homeTeamId, :awayTeamId)
+                UNION ALL
+                SELECT away.id FROM Match away WHERE away.team2.id IN (:homeTeamId, :awayTeamId))
+    """)
+    LocalDate findLastMatchDate(Long competitionId, Long homeTeamId, Long awayTeamId);
+
+    // Resultados registrados de una competición (fuera del cuadro eliminatorio) para la clasificación
+    @Query("""
+        SELECT new com.um.gestioncompeticiones.repository.MatchResultRow(
+            m.id, m.team1.id, m.team2.id, m.homeScore, m.awayScore, m.winner.id)
+        FROM Match m
+        WHERE m.competition.id = :competitionId
+          AND m.bracketNode IS NULL
+          AND (m.winner IS NOT NULL OR m.homeScore IS NOT NULL)
+    """)
+    List<MatchResultRow> findResultRows(Long competitionId);
 }
@@ -0,0 +1,19 @@
+package com.um.gestioncompeticiones.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Resultado de un partido reducido a lo necesario para la clasificación
+ * (equipos, marcador si lo hay y ganador, o null si fue empate).
+ */
+@Getter
+@AllArgsConstructor
+public class MatchResultRow {
+    private final Long matchId;
+    private final Long team1Id;
+    private final Long team2Id;
+    private final Integer homeScore;
+    private final Integer awayScore;
+    private final Long winnerId;
+}
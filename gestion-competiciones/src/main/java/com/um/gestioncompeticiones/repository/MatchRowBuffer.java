@@ -0,0 +1,96 @@
+package com.um.gestioncompeticiones.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Bloque de filas de partidos pendientes de insertar, guardado en arrays paralelos.
+ * <p>
+ * Permite acumular miles de partidos generados sin crear una entidad {@code Match}
+ * por fila. Se rellena con {@link #add}, se vuelca con {@link MatchBatchRepository#insert}
+ * y se reutiliza tras {@link #clear()}.
+ * </p>
+ */
+public class MatchRowBuffer {
+
+    private final long[] team1Ids;
+    private final long[] team2Ids;
+    private final LocalDate[] matchDates;
+    private final int[] courtNumbers;
+    private final int[] timeSlots;
+    private final int[] rounds;
+    private final int[] bracketNodes;
+    private int size;
+
+    public MatchRowBuffer(int capacity) {
+        this.team1Ids = new long[capacity];
+        this.team2Ids = new long[capacity];
+        this.matchDates = new LocalDate[capacity];
+        this.courtNumbers = new int[capacity];
+        this.timeSlots = new int[capacity];
+        this.rounds = new int[capacity];
+        this.bracketNodes = new int[capacity];
+    }
+
+    /**
+     * Añade una fila al bloque.
+     *
+     * @param timeSlot    franja horaria del día, o 0 si no se ha asignado
+     * @param round       número de ronda, o 0 si el partido no pertenece a ninguna
+     * @param bracketNode nodo del cuadro, o -1 si el partido no pertenece a un cuadro
+     */
+    public void add(long team1Id, long team2Id, LocalDate matchDate, int courtNumber, int timeSlot,
+                    int round, int bracketNode) {
+        team1Ids[size] = team1Id;
+        team2Ids[size] = team2Id;
+        matchDates[size] = matchDate;
+        courtNumbers[size] = courtNumber;
+        timeSlots[size] = timeSlot;
+        rounds[size] = round;
+        bracketNodes[size] = bracketNode;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean isFull() {
+        return size == team1Ids.length;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public long team1Id(int i) {
+        return team1Ids[i];
+    }
+
+    public long team2Id(int i) {
+        return team2Ids[i];
+    }
+
+    public LocalDate matchDate(int i) {
+        return matchDates[i];
+    }
+
+    public int courtNumber(int i) {
+        return courtNumbers[i];
+    }
+
+    public int timeSlot(int i) {
+        return timeSlots[i];
+    }
+
+    public int round(int i) {
+        return rounds[i];
+    }
+
+    public int bracketNode(int i) {
+        return bracketNodes[i];
+    }
+}
@@ -0,0 +1,20 @@
+package com.um.gestioncompeticiones.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Hueco (día, pista, franja) y equipos de un partido ya programado, para reconstruir la
+ * ocupación de la rejilla antes de colocar partidos nuevos.
+ */
+@Getter
+@AllArgsConstructor
+public class MatchSlotRow {
+    private final Long team1Id;
+    private final Long team2Id;
+    private final LocalDate matchDate;
+    private final int courtNumber;
+    private final Integer timeSlot;
+}
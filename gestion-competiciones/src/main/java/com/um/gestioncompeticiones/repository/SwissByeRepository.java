@@ -0,0 +1,16 @@
+package com.um.gestioncompeticiones.repository;
+
+import com.um.gestioncompeticiones.model.SwissBye;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SwissByeRepository extends JpaRepository<SwissBye, Long> {
+
+    // Un ID por descanso registrado: un equipo que ha descansado dos veces aparece dos veces
+    @Query("SELECT b.team.id FROM SwissBye b WHERE b.competition.id = :competitionId")
+    List<Long> findTeamIdsByCompetitionId(Long competitionId);
+}
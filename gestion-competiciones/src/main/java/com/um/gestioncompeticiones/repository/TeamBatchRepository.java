@@ -0,0 +1,34 @@
+package com.um.gestioncompeticiones.repository;
+
+import com.um.gestioncompeticiones.dto.TeamCreateDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Alta masiva de equipos mediante JDBC batch. Como en {@link MatchBatchRepository}, el ID es
+ * IDENTITY y Hibernate insertaría fila a fila. Participa en la transacción en curso.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TeamBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO teams (name) VALUES (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param teams equipos ya validados
+     * @return número de filas insertadas
+     */
+    public int insert(List<TeamCreateDTO> teams) {
+        if (teams.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, teams, teams.size(),
+                (ps, team) -> ps.setString(1, team.getName()));
+        return teams.size();
+    }
+}
@@ -1,21 +1,75 @@
 package com.um.gestioncompeticiones.repository;
 
+import com.um.gestioncompeticiones.dto.TeamDTO;
 import com.um.gestioncompeticiones.model.Team;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TeamRepository extends JpaRepository<Team, Long> {
 
-    // Verificar si un equipo ya está registrado en una competición concreta
+    // IDs de la lista que corresponden a equipos existentes
+    @Query("SELECT t.id FROM Team t WHERE t.id IN :teamIds")
+    List<Long> findExistingIds(Collection<Long> teamIds);
+
+    // IDs de la lista que ya están inscritos en la competición
+    @Query("""
+        SELECT t.id
+        FROM Competition c
+        JOIN c.teams t
+        WHERE c.id = :competitionId AND t.id IN :teamIds
+    """)
+    List<Long> findRegisteredIds(Long competitionId, Collection<Long> teamIds);
+
+    // Equipos de una competición que no aparecen en ningún partido de esa competición (anti-join)
+    @Query("""
+        SELECT t
+        FROM Competition c
+        JOIN c.teams t
+        WHERE c.id = :competitionId
+          AND NOT EXISTS (
+              SELECT 1 FROM Match m
+              WHERE m.competition.id = :competitionId AND m.team1.id = t.id)
+          AND NOT EXISTS (
+              SELECT 1 FROM Match m
+              WHERE m.competition.id = :competitionId AND m.team2.id = t.id)
+        ORDER BY t.id
+    """)
+    List<Team> findUnassignedByCompetition(Long competitionId);
+
+    // Datos de un equipo sin cargar la entidad (lo que guarda la caché de equipos)
+    @Query("""
+        SELECT new com.um.gestioncompeticiones.dto.TeamDTO(t.id, t.name)
+        FROM Team t
+        WHERE t.id = :id
+    """)
+    Optional<TeamDTO> findDTOById(Long id);
+
+    // Página de equipos con ID mayor que afterId (paginación por clave)
+    @Query("""
+        SELECT new com.um.gestioncompeticiones.dto.TeamDTO(t.id, t.name)
+        FROM Team t
+        WHERE t.id > :afterId
+        ORDER BY t.id
+    """)
+    List<TeamDTO> findDTOsAfter(Long afterId, Limit limit);
+
+    // Todos los equipos en orden de ID, leídos con cursor (requiere transacción abierta)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
     @Query("""
-        SELECT CASE WHEN COUNT(t) > 0 THEN true ELSE false END
+        SELECT new com.um.gestioncompeticiones.dto.TeamDTO(t.id, t.name)
         FROM Team t
-        JOIN t.competitions c
-        WHERE t.id = :teamId AND c.id = :competitionId
+        ORDER BY t.id
     """)
-    boolean existsByCompetition(Long teamId, Long competitionId);
+    Stream<TeamDTO> streamAllDTOs();
 }
@@ -0,0 +1,16 @@
+package com.um.gestioncompeticiones.scheduling;
+
+/**
+ * Receptor de los partidos de un cuadro eliminatorio que ya tienen a sus dos equipos.
+ */
+@FunctionalInterface
+public interface BracketMatchSink {
+
+    /**
+     * @param node       nodo del cuadro al que corresponde el partido
+     * @param round      ronda en la que se juega (empezando en 1)
+     * @param homeTeamId ID del equipo local
+     * @param awayTeamId ID del equipo visitante
+     */
+    void accept(int node, int round, long homeTeamId, long awayTeamId);
+}
@@ -0,0 +1,21 @@
+package com.um.gestioncompeticiones.scheduling;
+
+/**
+ * Receptor de los emparejamientos generados por {@link RoundRobinScheduler}.
+ * <p>
+ * Los equipos se identifican por su ordinal (posición 0..n-1 en la lista de equipos
+ * que se pasó al motor), de modo que la generación no necesita crear entidades.
+ * </p>
+ */
+@FunctionalInterface
+public interface FixtureSink {
+
+    /**
+     * Recibe un partido generado.
+     *
+     * @param round número de jornada (empezando en 1)
+     * @param home  ordinal del equipo local
+     * @param away  ordinal del equipo visitante
+     */
+    void accept(int round, int home, int away);
+}
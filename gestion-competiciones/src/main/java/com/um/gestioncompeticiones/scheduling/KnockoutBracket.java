@@ -0,0 +1,311 @@
+package com.um.gestioncompeticiones.scheduling;
+
+import com.um.gestioncompeticiones.model.BracketType;
+
+import java.util.Arrays;
+
+/**
+ * Cuadro eliminatorio (simple o doble) guardado en arrays planos.
+ * <p>
+ * El cuadro se amplía a la potencia de dos {@code size} más cercana y los huecos sobrantes
+ * son descansos (byes) que reciben los mejores cabezas de serie. Cada partido del cuadro es
+ * un nodo con tres valores en {@link #state()}: local, visitante y ganador. El valor
+ * {@link #PENDING} indica que aún no se conoce y {@link #BYE} que no hay rival.
+ * </p>
+ * <p>
+ * Disposición de los nodos:
+ * <ul>
+ *     <li>{@code [0, size - 1)}: cuadro de ganadores como montículo (el nodo 0 es la final y
+ *     los hijos del nodo {@code i} son {@code 2i + 1} y {@code 2i + 2}).</li>
+ *     <li>Solo en doble eliminación, {@code size - 2} nodos del cuadro de perdedores ronda a
+ *     ronda y, por último, la gran final (sin partido de desempate).</li>
+ * </ul>
+ * El destino del ganador y del perdedor de cada nodo no se guarda: se recalcula a partir del
+ * tipo y del tamaño, así que restaurar un cuadro solo necesita el array de estado.
+ * </p>
+ */
+public final class KnockoutBracket {
+
+    public static final long PENDING = 0L;
+    public static final long BYE = -1L;
+
+    private static final int HOME = 0;
+    private static final int AWAY = 1;
+    private static final int WINNER = 2;
+    private static final int NO_TARGET = -1;
+
+    private final BracketType type;
+    private final int size;
+    private final int levels;
+    private final int nodeCount;
+    // Destino codificado como (nodo << 1) | lado, o NO_TARGET
+    private final int[] winnerTo;
+    private final int[] loserTo;
+    private final int[] rounds;
+    private final long[] state;
+
+    private KnockoutBracket(BracketType type, int size, long[] state) {
+        if (size < 2 || Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Bracket size must be a power of two >= 2, got " + size);
+        }
+        this.type = type;
+        this.size = size;
+        this.levels = Integer.numberOfTrailingZeros(size);
+        this.nodeCount = nodeCount(type, size);
+        this.winnerTo = new int[nodeCount];
+        this.loserTo = new int[nodeCount];
+        this.rounds = new int[nodeCount];
+        if (state == null) {
+            this.state = new long[nodeCount * 3];
+        } else if (state.length != nodeCount * 3) {
+            throw new IllegalArgumentException("Expected " + nodeCount * 3 + " state values, got " + state.length);
+        } else {
+            this.state = state.clone();
+        }
+        buildLayout();
+    }
+
+    /**
+     * Crea el cuadro, coloca a los equipos según su siembra y avanza automáticamente los
+     * descansos. Los partidos de primera ronda (y los que queden listos tras los descansos)
+     * se entregan al {@code sink}.
+     *
+     * @param type        simple o doble eliminación
+     * @param seededTeams IDs de los equipos ordenados por siembra (el primero es el cabeza de serie 1)
+     * @param sink        receptor de los partidos listos para jugarse
+     */
+    public static KnockoutBracket seed(BracketType type, long[] seededTeams, BracketMatchSink sink) {
+        if (seededTeams.length < 2) {
+            throw new IllegalArgumentException("At least two teams are required, got " + seededTeams.length);
+        }
+        KnockoutBracket bracket = new KnockoutBracket(type, bracketSize(seededTeams.length), null);
+
+        // Posición de cada cabeza de serie: 1 contra size, 2 contra size - 1... y los mejores
+        // cabezas de serie no se cruzan hasta las últimas rondas
+        int[] seedAt = seedPositions(bracket.size);
+        int firstRoundStart = bracket.size / 2 - 1;
+        for (int match = 0; match < bracket.size / 2; match++) {
+            bracket.place((firstRoundStart + match) << 1 | HOME, teamAt(seededTeams, seedAt[2 * match]), sink);
+            bracket.place((firstRoundStart + match) << 1 | AWAY, teamAt(seededTeams, seedAt[2 * match + 1]), sink);
+        }
+        return bracket;
+    }
+
+    /**
+     * Reconstruye un cuadro a partir de su estado guardado.
+     */
+    public static KnockoutBracket restore(BracketType type, int size, long[] state) {
+        return new KnockoutBracket(type, size, state);
+    }
+
+    /**
+     * Potencia de dos en la que cabe el número de equipos indicado.
+     */
+    public static int bracketSize(int teamCount) {
+        return teamCount <= 2 ? 2 : Integer.highestOneBit(teamCount - 1) << 1;
+    }
+
+    /**
+     * Número de nodos (partidos posibles) de un cuadro del tipo y tamaño indicados.
+     */
+    public static int nodeCount(BracketType type, int size) {
+        return type == BracketType.DOUBLE_ELIMINATION ? 2 * size - 2 : size - 1;
+    }
+
+    /**
+     * Registra el ganador de un partido, lo hace avanzar (y al perdedor, en doble eliminación)
+     * y entrega al {@code sink} los partidos que quedan listos como consecuencia.
+     *
+     * @param node     nodo del partido
+     * @param winnerId ID del equipo ganador, que debe ser el local o el visitante
+     * @param sink     receptor de los nuevos partidos listos para jugarse
+     * @throws IllegalArgumentException si el nodo no existe o el equipo no juega ese partido
+     * @throws IllegalStateException    si el partido aún no tiene rivales o ya tiene ganador
+     */
+    public void recordWinner(int node, long winnerId, BracketMatchSink sink) {
+        if (node < 0 || node >= nodeCount) {
+            throw new IllegalArgumentException("Bracket node " + node + " does not exist.");
+        }
+        long home = state[node * 3 + HOME];
+        long away = state[node * 3 + AWAY];
+        if (home <= 0 || away <= 0) {
+            throw new IllegalStateException("Bracket node " + node + " is not ready to be played.");
+        }
+        if (state[node * 3 + WINNER] != PENDING) {
+            throw new IllegalStateException("Bracket node " + node + " already has a winner.");
+        }
+        if (winnerId != home && winnerId != away) {
+            throw new IllegalArgumentException("Team " + winnerId + " does not play bracket node " + node + ".");
+        }
+        resolve(node, winnerId, winnerId == home ? away : home, sink);
+    }
+
+    public BracketType type() {
+        return type;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int nodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Número de rondas del cuadro (la ronda del último partido).
+     */
+    public int roundCount() {
+        return type == BracketType.DOUBLE_ELIMINATION ? 2 * levels : levels;
+    }
+
+    public int round(int node) {
+        return rounds[node];
+    }
+
+    public long home(int node) {
+        return state[node * 3 + HOME];
+    }
+
+    public long away(int node) {
+        return state[node * 3 + AWAY];
+    }
+
+    public long winner(int node) {
+        return state[node * 3 + WINNER];
+    }
+
+    /**
+     * Campeón del cuadro o {@link #PENDING} si la final no se ha jugado.
+     */
+    public long champion() {
+        long champion = winner(finalNode());
+        return champion > 0 ? champion : PENDING;
+    }
+
+    /**
+     * Estado de todos los nodos (local, visitante y ganador consecutivos). Es una copia.
+     */
+    public long[] state() {
+        return state.clone();
+    }
+
+    private int finalNode() {
+        return type == BracketType.SINGLE_ELIMINATION ? 0 : nodeCount - 1;
+    }
+
+    private void place(int target, long teamId, BracketMatchSink sink) {
+        int node = target >> 1;
+        state[node * 3 + (target & 1)] = teamId;
+
+        long home = state[node * 3 + HOME];
+        long away = state[node * 3 + AWAY];
+        if (home == PENDING || away == PENDING) {
+            return;
+        }
+        if (home == BYE || away == BYE) {
+            // Descanso: pasa el equipo presente (o un descanso si no hay ninguno) sin jugar
+            resolve(node, home == BYE ? away : home, BYE, sink);
+        } else {
+            sink.accept(node, rounds[node], home, away);
+        }
+    }
+
+    private void resolve(int node, long winnerId, long loserId, BracketMatchSink sink) {
+        state[node * 3 + WINNER] = winnerId;
+        if (winnerTo[node] != NO_TARGET) {
+            place(winnerTo[node], winnerId, sink);
+        }
+        if (loserTo[node] != NO_TARGET) {
+            place(loserTo[node], loserId, sink);
+        }
+    }
+
+    private void buildLayout() {
+        Arrays.fill(winnerTo, NO_TARGET);
+        Arrays.fill(loserTo, NO_TARGET);
+
+        // Cuadro de ganadores: el nodo i (montículo con raíz en 0) avanza a (i - 1) / 2
+        for (int node = 0; node < size - 1; node++) {
+            int depth = 31 - Integer.numberOfLeadingZeros(node + 1);
+            rounds[node] = levels - depth;
+            if (node > 0) {
+                winnerTo[node] = (node - 1) / 2 << 1 | (node % 2 == 1 ? HOME : AWAY);
+            }
+        }
+        if (type == BracketType.SINGLE_ELIMINATION) {
+            return;
+        }
+
+        int grandFinal = nodeCount - 1;
+        rounds[grandFinal] = 2 * levels;
+        winnerTo[0] = grandFinal << 1 | HOME;
+        if (levels == 1) {
+            // Con dos equipos no hay cuadro de perdedores: la gran final es la revancha
+            loserTo[0] = grandFinal << 1 | AWAY;
+            return;
+        }
+
+        // Cuadro de perdedores: 2 * (levels - 1) rondas. Las impares enfrentan entre sí a los
+        // supervivientes y las pares reciben a los perdedores de la ronda siguiente del cuadro
+        // de ganadores (en orden invertido una de cada dos para evitar revanchas tempranas)
+        int lbRounds = 2 * (levels - 1);
+        int[] lbStart = new int[lbRounds + 2];
+        lbStart[1] = size - 1;
+        for (int j = 1; j <= lbRounds; j++) {
+            lbStart[j + 1] = lbStart[j] + lbRoundSize(j);
+        }
+
+        for (int j = 1; j <= lbRounds; j++) {
+            int matches = lbRoundSize(j);
+            for (int i = 0; i < matches; i++) {
+                int node = lbStart[j] + i;
+                rounds[node] = j + 1;
+                if (j == lbRounds) {
+                    winnerTo[node] = grandFinal << 1 | AWAY;
+                } else if (j % 2 == 1) {
+                    winnerTo[node] = (lbStart[j + 1] + i) << 1 | HOME;
+                } else {
+                    winnerTo[node] = (lbStart[j + 1] + i / 2) << 1 | (i % 2 == 0 ? HOME : AWAY);
+                }
+            }
+        }
+
+        // Perdedores de la primera ronda: por parejas a la primera ronda del cuadro de perdedores
+        int firstRoundStart = size / 2 - 1;
+        for (int m = 0; m < size / 2; m++) {
+            loserTo[firstRoundStart + m] = (lbStart[1] + m / 2) << 1 | (m % 2 == 0 ? HOME : AWAY);
+        }
+        // Perdedores de la ronda r >= 2: como visitantes de la ronda par 2(r - 1)
+        for (int r = 2; r <= levels; r++) {
+            int matches = size >> r;
+            int start = matches - 1;
+            int j = 2 * (r - 1);
+            for (int m = 0; m < matches; m++) {
+                int target = r % 2 == 0 ? matches - 1 - m : m;
+                loserTo[start + m] = (lbStart[j] + target) << 1 | AWAY;
+            }
+        }
+    }
+
+    private int lbRoundSize(int lbRound) {
+        return size >> ((lbRound + 1) / 2 + 1);
+    }
+
+    private static int[] seedPositions(int size) {
+        int[] seeds = {1};
+        for (int n = 2; n <= size; n <<= 1) {
+            int[] next = new int[n];
+            for (int i = 0; i < seeds.length; i++) {
+                next[2 * i] = seeds[i];
+                next[2 * i + 1] = n + 1 - seeds[i];
+            }
+            seeds = next;
+        }
+        return seeds;
+    }
+
+    private static long teamAt(long[] seededTeams, int seed) {
+        return seed <= seededTeams.length ? seededTeams[seed - 1] : BYE;
+    }
+}
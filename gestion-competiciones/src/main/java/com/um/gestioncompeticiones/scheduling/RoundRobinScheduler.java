@@ -0,0 +1,95 @@
+package com.um.gestioncompeticiones.scheduling;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Motor de calendario round-robin (todos contra todos) basado en el método del círculo.
+ * <p>
+ * Un equipo queda fijo y el resto rota una posición en cada jornada. Con un número impar
+ * de equipos se añade un hueco de descanso. Todo el trabajo se hace sobre un único array
+ * de ordinales, por lo que la generación completa es O(n²) y los partidos se entregan uno
+ * a uno al {@link FixtureSink} sin acumularlos en memoria.
+ * </p>
+ */
+@Component
+public class RoundRobinScheduler {
+
+    /**
+     * Número total de partidos del calendario.
+     *
+     * @param teamCount   número de equipos
+     * @param doubleRound {@code true} para ida y vuelta
+     * @return partidos que generará {@link #generate}
+     */
+    public long countFixtures(int teamCount, boolean doubleRound) {
+        long perLeg = (long) teamCount * (teamCount - 1) / 2;
+        return doubleRound ? perLeg * 2 : perLeg;
+    }
+
+    /**
+     * Número total de jornadas del calendario.
+     *
+     * @param teamCount   número de equipos
+     * @param doubleRound {@code true} para ida y vuelta
+     * @return jornadas que generará {@link #generate}
+     */
+    public int countRounds(int teamCount, boolean doubleRound) {
+        int perLeg = teamCount % 2 == 0 ? teamCount - 1 : teamCount;
+        return doubleRound ? perLeg * 2 : perLeg;
+    }
+
+    /**
+     * Genera todas las jornadas del calendario en orden.
+     * <p>
+     * En cada jornada un equipo juega como mucho un partido. En la vuelta se repiten
+     * los emparejamientos de la ida con los papeles de local y visitante invertidos.
+     * </p>
+     *
+     * @param teamCount   número de equipos (al menos 2)
+     * @param doubleRound {@code true} para ida y vuelta
+     * @param sink        receptor de los partidos generados
+     */
+    public void generate(int teamCount, boolean doubleRound, FixtureSink sink) {
+        if (teamCount < 2) {
+            throw new IllegalArgumentException("At least two teams are required, got " + teamCount);
+        }
+
+        // Con un número impar se añade un ordinal ficticio (teamCount) que hace de descanso
+        int size = teamCount % 2 == 0 ? teamCount : teamCount + 1;
+        int roundsPerLeg = size - 1;
+        int half = size / 2;
+        int legs = doubleRound ? 2 : 1;
+        int[] ring = new int[size];
+
+        for (int leg = 0; leg < legs; leg++) {
+            for (int i = 0; i < size; i++) {
+                ring[i] = i;
+            }
+            boolean secondLeg = leg == 1;
+
+            for (int r = 0; r < roundsPerLeg; r++) {
+                int round = leg * roundsPerLeg + r + 1;
+
+                for (int i = 0; i < half; i++) {
+                    int a = ring[i];
+                    int b = ring[size - 1 - i];
+                    if (a >= teamCount || b >= teamCount) {
+                        continue; // descansa
+                    }
+                    // Alternar local/visitante para repartir los partidos en casa
+                    boolean swap = (i == 0 ? r : i + r) % 2 == 1;
+                    if (swap != secondLeg) {
+                        sink.accept(round, b, a);
+                    } else {
+                        sink.accept(round, a, b);
+                    }
+                }
+
+                // Rotar todas las posiciones salvo la primera
+                int last = ring[size - 1];
+                System.arraycopy(ring, 1, ring, 2, size - 2);
+                ring[1] = last;
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.um.gestioncompeticiones.scheduling;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Rejilla de huecos (día, pista, franja) de la ventana de fechas de una competición.
+ * <p>
+ * Cada día tiene {@code courts × slotsPerCourt} huecos. Un equipo juega como mucho un partido
+ * por día y entre dos partidos suyos deben pasar al menos {@code minRestDays} días libres.
+ * </p>
+ * <p>
+ * La asignación es voraz: cada partido va al primer día con hueco en el que sus dos equipos
+ * han descansado lo suficiente desde su último partido. El siguiente día con hueco se busca
+ * con una estructura de conjuntos disjuntos (los días llenos apuntan al siguiente), así que
+ * colocar un partido cuesta casi O(1) y nunca se recorren de nuevo los días ya llenos. Los
+ * partidos que no caben se pueden recolocar después con {@link #placeAnywhere}, que busca
+ * cualquier día con hueco y compatible con el descanso de ambos equipos, también anterior a su
+ * último partido. Para eso cada equipo que se recoloca tiene su propia estructura de conjuntos
+ * disjuntos con los días en que no puede jugar (los de su descanso apuntan al siguiente), y la
+ * búsqueda salta entre las tres estructuras hasta un día libre en todas.
+ * </p>
+ * <p>
+ * El hueco devuelto es un índice {@code día × huecosPorDía + huecoEnElDía}; los huecos de un día
+ * se llenan pista a pista y franja a franja. Los partidos ya programados en otra generación se
+ * marcan antes con {@link #reserve} para que su pista y franja no se vuelvan a asignar.
+ * </p>
+ */
+public final class SlotGrid {
+
+    public static final int NO_SLOT = -1;
+
+    private final int days;
+    private final int courts;
+    private final int slotsPerDay;
+    private final int minRestDays;
+    private final int[] used;
+    // Siguiente día con hueco (conjuntos disjuntos con compresión de caminos)
+    private final int[] nextOpenDay;
+    private final int[] lastDay;
+    private final int[] earliestDay;
+    private final BitSet[] teamDays;
+    // Siguiente día en que puede jugar cada equipo; se crea al recolocar uno de sus partidos
+    private final int[][] nextFreeDay;
+    // Huecos ocupados de los días con partidos reservados; el resto se llena en orden con used
+    private BitSet[] taken;
+
+    public SlotGrid(int teamCount, int days, int courts, int slotsPerCourt, int minRestDays) {
+        if (courts < 1 || slotsPerCourt < 1) {
+            throw new IllegalArgumentException("At least one court and one slot per court are required.");
+        }
+        if (minRestDays < 0) {
+            throw new IllegalArgumentException("Minimum rest days cannot be negative, got " + minRestDays);
+        }
+        this.days = Math.max(days, 0);
+        this.courts = courts;
+        this.slotsPerDay = courts * slotsPerCourt;
+        this.minRestDays = minRestDays;
+        this.used = new int[this.days];
+        this.nextOpenDay = new int[this.days + 1];
+        Arrays.setAll(nextOpenDay, d -> d);
+        this.lastDay = new int[teamCount];
+        Arrays.fill(lastDay, Integer.MIN_VALUE / 2);
+        this.earliestDay = new int[teamCount];
+        this.teamDays = new BitSet[teamCount];
+        this.nextFreeDay = new int[teamCount][];
+    }
+
+    /**
+     * Indica el último día (relativo al inicio de la rejilla, puede ser negativo) en que el
+     * equipo jugó antes de la ventana, para respetar su descanso.
+     */
+    public void setPreviousMatchDay(int team, int day) {
+        lastDay[team] = Math.max(lastDay[team], day);
+        earliestDay[team] = Math.max(earliestDay[team], day + minRestDays + 1);
+        if (nextFreeDay[team] != null) {
+            block(team, 0, earliestDay[team] - 1);
+        }
+    }
+
+    /**
+     * Marca el hueco de un partido ya programado. Si la pista o la franja no existen en esta
+     * rejilla (por ejemplo, partidos antiguos sin franja) ocupa el primer hueco libre del día.
+     * Los partidos fuera de la ventana solo cuentan para el descanso de sus equipos.
+     *
+     * @param day  día relativo al inicio de la rejilla
+     * @param home ordinal del equipo local, o -1 si no hay que tenerlo en cuenta
+     * @param away ordinal del equipo visitante, o -1 si no hay que tenerlo en cuenta
+     */
+    public void reserve(int day, int court, int timeSlot, int home, int away) {
+        if (day < 0 || day >= days) {
+            if (home >= 0) {
+                setPreviousMatchDay(home, day);
+            }
+            if (away >= 0) {
+                setPreviousMatchDay(away, day);
+            }
+            return;
+        }
+        if (used[day] < slotsPerDay) {
+            if (taken == null) {
+                taken = new BitSet[days];
+            }
+            if (taken[day] == null) {
+                taken[day] = new BitSet(slotsPerDay);
+                taken[day].set(0, used[day]);
+            }
+            int slotInDay = (timeSlot - 1) * courts + (court - 1);
+            if (court < 1 || court > courts || timeSlot < 1 || slotInDay >= slotsPerDay || taken[day].get(slotInDay)) {
+                slotInDay = taken[day].nextClearBit(0);
+            }
+            taken[day].set(slotInDay);
+            if (++used[day] == slotsPerDay) {
+                nextOpenDay[day] = day + 1;
+            }
+        }
+        if (home >= 0) {
+            markPlayed(home, day);
+        }
+        if (away >= 0) {
+            markPlayed(away, day);
+        }
+    }
+
+    /**
+     * Coloca un partido en el primer día con hueco posterior al último partido de ambos equipos.
+     *
+     * @return el hueco asignado o {@link #NO_SLOT} si no cabe en la ventana
+     */
+    public int place(int home, int away) {
+        int from = Math.max(0, Math.max(lastDay[home], lastDay[away]) + minRestDays + 1);
+        int day = openDayFrom(from);
+        if (day >= days) {
+            return NO_SLOT;
+        }
+        return occupy(day, home, away);
+    }
+
+    /**
+     * Busca cualquier día con hueco en el que los dos equipos puedan jugar respetando su descanso
+     * con todos sus partidos ya colocados. Pensado para recolocar los partidos que
+     * {@link #place} no pudo colocar.
+     *
+     * @return el hueco asignado o {@link #NO_SLOT} si no hay ninguno compatible
+     */
+    public int placeAnywhere(int home, int away) {
+        int day = Math.max(earliestDay[home], earliestDay[away]);
+        while (day < days) {
+            // Cada estructura devuelve su siguiente día válido: si ninguna avanza, el día sirve
+            int next = freeDayFrom(away, freeDayFrom(home, openDayFrom(day)));
+            if (next == day) {
+                return occupy(day, home, away);
+            }
+            day = next;
+        }
+        return NO_SLOT;
+    }
+
+    public int slotsPerDay() {
+        return slotsPerDay;
+    }
+
+    public int day(int slot) {
+        return slot / slotsPerDay;
+    }
+
+    /**
+     * Pista (empezando en 1) de un hueco.
+     */
+    public int court(int slot) {
+        return slot % slotsPerDay % courts + 1;
+    }
+
+    /**
+     * Franja horaria (empezando en 1) de un hueco.
+     */
+    public int timeSlot(int slot) {
+        return slot % slotsPerDay / courts + 1;
+    }
+
+    private int occupy(int day, int home, int away) {
+        int slotInDay = used[day];
+        if (taken != null && taken[day] != null) {
+            slotInDay = taken[day].nextClearBit(0);
+            taken[day].set(slotInDay);
+        }
+        int slot = day * slotsPerDay + slotInDay;
+        if (++used[day] == slotsPerDay) {
+            nextOpenDay[day] = day + 1;
+        }
+        markPlayed(home, day);
+        markPlayed(away, day);
+        return slot;
+    }
+
+    private void markPlayed(int team, int day) {
+        lastDay[team] = Math.max(lastDay[team], day);
+        if (teamDays[team] == null) {
+            teamDays[team] = new BitSet();
+        }
+        teamDays[team].set(day);
+        if (nextFreeDay[team] != null) {
+            block(team, day - minRestDays, day + minRestDays);
+        }
+    }
+
+    private int freeDayFrom(int team, int day) {
+        if (day >= days) {
+            return days;
+        }
+        if (nextFreeDay[team] == null) {
+            // Se construye con los partidos ya colocados y el descanso previo a la ventana
+            int[] parent = new int[days + 1];
+            Arrays.setAll(parent, d -> d);
+            nextFreeDay[team] = parent;
+            block(team, 0, earliestDay[team] - 1);
+            BitSet played = teamDays[team];
+            for (int d = played != null ? played.nextSetBit(0) : -1; d >= 0; d = played.nextSetBit(d + 1)) {
+                block(team, d - minRestDays, d + minRestDays);
+            }
+        }
+        return find(nextFreeDay[team], day);
+    }
+
+    // Los días [from, to] dejan de estar libres para el equipo: cada uno apunta al siguiente
+    private void block(int team, int from, int to) {
+        int[] parent = nextFreeDay[team];
+        for (int day = Math.max(from, 0); day <= Math.min(to, days - 1); day++) {
+            if (parent[day] == day) {
+                parent[day] = day + 1;
+            }
+        }
+    }
+
+    private int openDayFrom(int day) {
+        if (day >= days) {
+            return days;
+        }
+        return find(nextOpenDay, day);
+    }
+
+    private static int find(int[] parent, int day) {
+        int root = day;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        // Compresión del camino recorrido
+        while (parent[day] != root) {
+            int next = parent[day];
+            parent[day] = root;
+            day = next;
+        }
+        return root;
+    }
+}
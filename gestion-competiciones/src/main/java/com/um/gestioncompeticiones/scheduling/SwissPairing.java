@@ -0,0 +1,227 @@
+package com.um.gestioncompeticiones.scheduling;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Emparejamiento de una ronda de sistema suizo (variante Monrad).
+ * <p>
+ * Los equipos se ordenan por puntos (desempate aleatorio dentro de cada grupo de puntos) y
+ * cada equipo libre se empareja con el siguiente de la lista contra el que no haya jugado.
+ * Si la cola de la lista queda sin emparejamiento válido se deshacen los últimos emparejamientos
+ * y se prueba con el siguiente candidato (búsqueda con retroceso y número de pasos acotado).
+ * Los rivales ya enfrentados se consultan en un {@link BitSet} por equipo, así que cada
+ * comprobación es O(1) y una ronda normal se resuelve en O(n · rondas jugadas).
+ * </p>
+ */
+@Component
+public class SwissPairing {
+
+    public static final int NO_BYE = -1;
+
+    // Límite de pasos de todo el emparejamiento de una ronda: por encima se considera que no hay
+    // emparejamiento sin revanchas. Con un número impar de equipos se reparte entre los candidatos
+    // a descansar, así que el peor caso sigue siendo MAX_STEPS con la competición bloqueada
+    static final long MAX_STEPS = 20_000_000L;
+
+    private final long maxSteps;
+
+    public SwissPairing() {
+        this(MAX_STEPS);
+    }
+
+    // Los tests reducen el límite para provocar búsquedas que lo agotan
+    SwissPairing(long maxSteps) {
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * Empareja una ronda completa.
+     * <p>
+     * Con un número impar de equipos descansa el peor clasificado que aún no haya descansado
+     * y con el que el resto pueda emparejarse. De cada pareja juega como local el equipo con
+     * menos partidos en casa (a igualdad, el mejor clasificado).
+     * </p>
+     *
+     * @param round     número de ronda que se entrega al {@code sink}
+     * @param scores    puntos de cada equipo (por ordinal); solo se usan para ordenar, así que
+     *                  admiten cualquier escala (el servicio los duplica para contar medios puntos)
+     * @param played    rivales ya enfrentados por cada equipo (por ordinal)
+     * @param hadBye    equipos que ya han descansado en alguna ronda
+     * @param homeGames partidos jugados en casa por cada equipo
+     * @param random    desempate dentro de cada grupo de puntos
+     * @param sink      receptor de los partidos (ordinales de local y visitante)
+     * @return ordinal del equipo que descansa, o {@link #NO_BYE}
+     * @throws IllegalStateException si no existe un emparejamiento sin revanchas
+     */
+    public int pair(int round, int[] scores, BitSet[] played, boolean[] hadBye, int[] homeGames,
+                    Random random, FixtureSink sink) {
+        int n = scores.length;
+        if (n < 2) {
+            throw new IllegalArgumentException("At least two teams are required, got " + n);
+        }
+
+        int[] order = rank(scores, random);
+        Matcher matcher = new Matcher(order, played);
+
+        int bye = NO_BYE;
+        if (n % 2 == 1) {
+            int candidates = 0;
+            for (boolean rested : hadBye) {
+                candidates += rested ? 0 : 1;
+            }
+            // Cada candidato dispone de una parte igual de los pasos que quedan y lo que no gasta
+            // pasa a los siguientes: que uno agote su parte no deja sin búsqueda a los demás
+            long remaining = maxSteps;
+            for (int k = n - 1; k >= 0 && bye == NO_BYE; k--) {
+                int candidate = order[k];
+                if (hadBye[candidate]) {
+                    continue;
+                }
+                matcher.partner[candidate] = candidate;
+                if (matcher.match(remaining / candidates)) {
+                    bye = candidate;
+                } else {
+                    matcher.partner[candidate] = -1;
+                }
+                remaining = Math.max(0, remaining - matcher.steps);
+                candidates--;
+            }
+            if (bye == NO_BYE) {
+                throw new IllegalStateException("No pairing without rematches exists for round " + round + ".");
+            }
+        } else if (!matcher.match(maxSteps)) {
+            throw new IllegalStateException("No pairing without rematches exists for round " + round + ".");
+        }
+
+        int[] partner = matcher.partner;
+        for (int a : order) {
+            int b = partner[a];
+            if (b == a || b < 0 || matcher.rankOf[b] < matcher.rankOf[a]) {
+                continue; // descanso o pareja ya entregada
+            }
+            if (homeGames[b] < homeGames[a]) {
+                sink.accept(round, b, a);
+            } else {
+                sink.accept(round, a, b);
+            }
+        }
+        return bye;
+    }
+
+    /**
+     * Ordinales ordenados por puntos descendentes. Se barajan antes para que el orden dentro
+     * de cada grupo de puntos sea aleatorio y se ordenan por cuentas (los puntos son pequeños).
+     */
+    private static int[] rank(int[] scores, Random random) {
+        int n = scores.length;
+        int[] shuffled = new int[n];
+        for (int i = 0; i < n; i++) {
+            int j = random.nextInt(i + 1);
+            shuffled[i] = shuffled[j];
+            shuffled[j] = i;
+        }
+
+        int maxScore = Arrays.stream(scores).max().orElse(0);
+        int[] start = new int[maxScore + 2];
+        for (int score : scores) {
+            start[maxScore - score + 1]++;
+        }
+        for (int s = 1; s < start.length; s++) {
+            start[s] += start[s - 1];
+        }
+        int[] order = new int[n];
+        for (int team : shuffled) {
+            order[start[maxScore - scores[team]]++] = team;
+        }
+        return order;
+    }
+
+    /**
+     * Búsqueda con retroceso: empareja siempre al primer equipo libre de la lista con el
+     * primer candidato válido posterior a él.
+     */
+    private static final class Matcher {
+
+        private final int[] order;
+        private final int[] rankOf;
+        private final int[] partner;
+        private final BitSet[] played;
+        private final int[] stackFirst;
+        private final int[] stackSecond;
+        // Pasos de la última búsqueda
+        private long steps;
+
+        Matcher(int[] order, BitSet[] played) {
+            int n = order.length;
+            this.order = order;
+            this.played = played;
+            this.rankOf = new int[n];
+            for (int i = 0; i < n; i++) {
+                rankOf[order[i]] = i;
+            }
+            this.partner = new int[n];
+            Arrays.fill(partner, -1);
+            this.stackFirst = new int[n / 2 + 1];
+            this.stackSecond = new int[n / 2 + 1];
+        }
+
+        boolean match(long maxSteps) {
+            int n = order.length;
+            steps = 0;
+            int depth = 0;
+            int i = 0;
+            int from = 1;
+
+            while (true) {
+                while (i < n && partner[order[i]] != -1) {
+                    i++;
+                }
+                if (i == n) {
+                    return true;
+                }
+
+                int a = order[i];
+                int found = -1;
+                for (int j = Math.max(from, i + 1); j < n; j++) {
+                    steps++;
+                    int b = order[j];
+                    if (partner[b] == -1 && !played[a].get(b)) {
+                        found = j;
+                        break;
+                    }
+                }
+
+                if (found >= 0) {
+                    partner[a] = order[found];
+                    partner[order[found]] = a;
+                    stackFirst[depth] = i;
+                    stackSecond[depth] = found;
+                    depth++;
+                    from = i + 1;
+                    continue;
+                }
+
+                if (depth == 0 || steps > maxSteps) {
+                    // Sin solución: se deshacen todos los emparejamientos de este intento
+                    while (depth > 0) {
+                        depth--;
+                        partner[order[stackFirst[depth]]] = -1;
+                        partner[order[stackSecond[depth]]] = -1;
+                    }
+                    return false;
+                }
+
+                // Retroceso: se deshace la última pareja y se prueba su siguiente candidato
+                depth--;
+                i = stackFirst[depth];
+                partner[order[i]] = -1;
+                partner[order[stackSecond[depth]]] = -1;
+                from = stackSecond[depth] + 1;
+            }
+        }
+    }
+}
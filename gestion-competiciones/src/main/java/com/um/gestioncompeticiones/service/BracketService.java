@@ -0,0 +1,46 @@
+package com.um.gestioncompeticiones.service;
+
+import com.um.gestioncompeticiones.dto.BracketDTO;
+import com.um.gestioncompeticiones.model.BracketType;
+
+public interface BracketService {
+
+    /**
+     * Genera el cuadro eliminatorio de una competición con todos sus equipos inscritos.
+     * Los equipos se siembran por orden de inscripción (ID) salvo que se pida un sorteo, los
+     * descansos se asignan a los mejores cabezas de serie y los partidos de primera ronda se
+     * insertan en bloque.
+     *
+     * @param competitionId ID de la competición
+     * @param type          eliminación simple o doble
+     * @param shuffle       {@code true} para sortear la siembra
+     * @return un {@link BracketDTO} con el resumen del cuadro
+     * @throws com.um.gestioncompeticiones.exception.competition.CompetitionNotFoundException si la competición no existe
+     * @throws com.um.gestioncompeticiones.exception.match.MatchGenerationException si ya tiene cuadro o hay menos de dos equipos
+     */
+    BracketDTO createBracket(Long competitionId, BracketType type, boolean shuffle);
+
+    /**
+     * Devuelve el resumen del cuadro eliminatorio de una competición.
+     *
+     * @param competitionId ID de la competición
+     * @return un {@link BracketDTO} con el resumen del cuadro y el campeón si ya se conoce
+     * @throws com.um.gestioncompeticiones.exception.bracket.BracketNotFoundException si la competición no tiene cuadro
+     */
+    BracketDTO getBracket(Long competitionId);
+
+    /**
+     * Registra el ganador de un partido del cuadro y genera los partidos de la siguiente
+     * ronda que quedan completos con ese resultado.
+     *
+     * @param competitionId ID de la competición
+     * @param matchId       ID del partido
+     * @param winnerId      ID del equipo ganador
+     * @return un {@link BracketDTO} con el resumen actualizado del cuadro
+     * @throws com.um.gestioncompeticiones.exception.bracket.BracketNotFoundException si la competición no tiene cuadro
+     * @throws com.um.gestioncompeticiones.exception.match.MatchNotFoundException si el partido no existe en la competición
+     * @throws com.um.gestioncompeticiones.exception.match.InvalidMatchResultException si el partido no es del cuadro,
+     *                                                                                  ya tiene ganador o el equipo no lo juega
+     */
+    BracketDTO recordWinner(Long competitionId, Long matchId, Long winnerId);
+}
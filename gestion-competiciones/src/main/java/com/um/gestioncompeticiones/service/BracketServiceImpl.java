@@ -0,0 +1,252 @@
+package com.um.gestioncompeticiones.service;
+
+import com.um.gestioncompeticiones.dto.BracketDTO;
+import com.um.gestioncompeticiones.exception.bracket.BracketNotFoundException;
+import com.um.gestioncompeticiones.exception.competition.CompetitionNotFoundException;
+import com.um.gestioncompeticiones.exception.match.InvalidMatchResultException;
+import com.um.gestioncompeticiones.exception.match.MatchGenerationException;
+import com.um.gestioncompeticiones.exception.match.MatchNotFoundException;
+import com.um.gestioncompeticiones.model.Bracket;
+import com.um.gestioncompeticiones.model.BracketType;
+import com.um.gestioncompeticiones.model.Competition;
+import com.um.gestioncompeticiones.model.Match;
+import com.um.gestioncompeticiones.repository.BracketRepository;
+import com.um.gestioncompeticiones.repository.CompetitionRepository;
+import com.um.gestioncompeticiones.repository.MatchBatchRepository;
+import com.um.gestioncompeticiones.repository.MatchRepository;
+import com.um.gestioncompeticiones.repository.MatchRowBuffer;
+import com.um.gestioncompeticiones.repository.MatchSlotRow;
+import com.um.gestioncompeticiones.repository.TeamRepository;
+import com.um.gestioncompeticiones.scheduling.BracketMatchSink;
+import com.um.gestioncompeticiones.scheduling.KnockoutBracket;
+import com.um.gestioncompeticiones.scheduling.SlotGrid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class BracketServiceImpl implements BracketService {
+
+    private final CompetitionRepository competitionRepository;
+    private final BracketRepository bracketRepository;
+    private final MatchRepository matchRepository;
+    private final MatchBatchRepository matchBatchRepository;
+    private final TeamRepository teamRepository;
+
+    @Transactional
+    @Override
+    public BracketDTO createBracket(Long competitionId, BracketType type, boolean shuffle) {
+        // Con la competición bloqueada, una segunda petición simultánea espera y ve el cuadro ya
+        // creado en lugar de chocar con la restricción única al insertarlo
+        Competition competition = competitionRepository.findForUpdateById(competitionId)
+                .orElseThrow(() -> new CompetitionNotFoundException("Competition with id " + competitionId + " not found."));
+
+        if (bracketRepository.existsByCompetitionId(competitionId)) {
+            throw new MatchGenerationException("Competition with id " + competitionId + " already has a bracket.");
+        }
+
+        List<Long> teamIds = competitionRepository.findTeamIds(competitionId);
+        if (teamIds.size() < 2) {
+            throw new MatchGenerationException("Not enough teams to generate matches.");
+        }
+        if (shuffle) {
+            Collections.shuffle(teamIds); // Sorteo de la siembra
+        }
+
+        BracketMatchWriter writer = new BracketMatchWriter(competition, teamIds);
+        KnockoutBracket engine = KnockoutBracket.seed(type,
+                teamIds.stream().mapToLong(Long::longValue).toArray(), writer);
+        writer.flush();
+
+        bracketRepository.save(Bracket.builder()
+                .competition(competition)
+                .type(type)
+                .teamCount(teamIds.size())
+                .size(engine.size())
+                .state(engine.state())
+                .build());
+
+        return toBracketDTO(competitionId, teamIds.size(), engine);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public BracketDTO getBracket(Long competitionId) {
+        Bracket bracket = bracketRepository.findByCompetitionId(competitionId)
+                .orElseThrow(() -> new BracketNotFoundException("Competition with id " + competitionId + " has no bracket."));
+
+        return toBracketDTO(competitionId, bracket.getTeamCount(), restore(bracket));
+    }
+
+    @Transactional
+    @Override
+    public BracketDTO recordWinner(Long competitionId, Long matchId, Long winnerId) {
+        Bracket bracket = bracketRepository.findForUpdateByCompetitionId(competitionId)
+                .orElseThrow(() -> new BracketNotFoundException("Competition with id " + competitionId + " has no bracket."));
+
+        Match match = matchRepository.findById(matchId)
+                .filter(m -> m.getCompetition().getId().equals(competitionId))
+                .orElseThrow(() -> new MatchNotFoundException("Match with id " + matchId + " not found in competition " + competitionId + "."));
+
+        if (match.getBracketNode() == null) {
+            throw new InvalidMatchResultException("Match with id " + matchId + " is not part of the bracket.");
+        }
+
+        KnockoutBracket engine = restore(bracket);
+        // Un resultado deja listos muy pocos partidos: solo se leen los huecos de las fechas en que pueden jugarse
+        BracketMatchWriter writer = new BracketMatchWriter(bracket.getCompetition(), bracket.getTeamCount());
+        try {
+            engine.recordWinner(match.getBracketNode(), winnerId, writer);
+        } catch (IllegalArgumentException | IllegalStateException ex) {
+            throw new InvalidMatchResultException(ex.getMessage());
+        }
+        writer.flush();
+
+        match.setWinner(teamRepository.getReferenceById(winnerId));
+        bracket.setState(engine.state());
+
+        return toBracketDTO(competitionId, bracket.getTeamCount(), engine);
+    }
+
+    private KnockoutBracket restore(Bracket bracket) {
+        return KnockoutBracket.restore(bracket.getType(), bracket.getSize(), bracket.getState());
+    }
+
+    private BracketDTO toBracketDTO(Long competitionId, int teams, KnockoutBracket engine) {
+        long champion = engine.champion();
+        return BracketDTO.builder()
+                .competitionId(competitionId)
+                .type(engine.type())
+                .teams(teams)
+                .bracketSize(engine.size())
+                .rounds(engine.roundCount())
+                .championId(champion != KnockoutBracket.PENDING ? champion : null)
+                .build();
+    }
+
+    /**
+     * Convierte los partidos que el cuadro deja listos en filas de {@code matches}, insertadas
+     * por bloques. Cada partido se coloca en la rejilla (día, pista, franja) de la competición,
+     * que conoce los partidos ya programados, así que respeta la capacidad de las pistas y el
+     * descanso de los equipos igual que el resto de generadores.
+     * <p>
+     * La rejilla se crea con el primer partido que llega. Al crear el cuadro se reservan todos
+     * los partidos de la competición; al registrar un ganador solo los de las fechas desde el
+     * siguiente día en que pueden jugar los dos equipos, cuyo último partido fija su descanso.
+     * </p>
+     */
+    private class BracketMatchWriter implements BracketMatchSink {
+
+        private final Competition competition;
+        private final long competitionId;
+        private final LocalDate startDate;
+        private final int teamCount;
+        private final boolean windowed;
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final MatchRowBuffer buffer = new MatchRowBuffer(MatchBatchRepository.DEFAULT_BATCH_SIZE);
+        private SlotGrid grid;
+        // Primer día cuyos huecos ya están reservados en la rejilla (solo con windowed)
+        private LocalDate reservedFrom;
+
+        // Al crear el cuadro: se reservan los huecos de toda la competición
+        BracketMatchWriter(Competition competition, List<Long> teamIds) {
+            this(competition, teamIds.size(), false);
+            for (Long teamId : teamIds) {
+                ordinal(teamId);
+            }
+        }
+
+        // Al registrar un ganador: solo la ventana de fechas de cada partido nuevo
+        BracketMatchWriter(Competition competition, int teamCount) {
+            this(competition, teamCount, true);
+        }
+
+        private BracketMatchWriter(Competition competition, int teamCount, boolean windowed) {
+            this.competition = competition;
+            this.competitionId = competition.getId();
+            this.startDate = competition.getStartDate();
+            this.teamCount = teamCount;
+            this.windowed = windowed;
+        }
+
+        @Override
+        public void accept(int node, int round, long homeTeamId, long awayTeamId) {
+            if (grid == null) {
+                createGrid();
+            }
+            int home = ordinal(homeTeamId);
+            int away = ordinal(awayTeamId);
+            if (windowed) {
+                reserveWindow(homeTeamId, awayTeamId, home, away);
+            }
+            int slot = grid.place(home, away);
+            if (slot == SlotGrid.NO_SLOT) {
+                throw new MatchGenerationException("The bracket match of round " + round
+                        + " does not fit before the competition end date.");
+            }
+            buffer.add(homeTeamId, awayTeamId, startDate.plusDays(grid.day(slot)), grid.court(slot),
+                    grid.timeSlot(slot), round, node);
+            if (buffer.isFull()) {
+                flush();
+            }
+        }
+
+        private void createGrid() {
+            long days = ChronoUnit.DAYS.between(startDate, competition.getEndDate()) + 1;
+            grid = new SlotGrid(teamCount, (int) Math.max(days, 0), competition.getNumberOfCourts(),
+                    MatchServiceImpl.MAX_MATCHES_PER_COURT_PER_DAY, competition.getMinRestDays());
+            if (!windowed) {
+                reserve(matchRepository.findSlotRows(competitionId));
+            }
+        }
+
+        // El partido va al primer día con hueco tras el descanso de sus equipos: lo anterior no se lee
+        private void reserveWindow(long homeTeamId, long awayTeamId, int home, int away) {
+            LocalDate from = startDate;
+            LocalDate last = matchRepository.findLastMatchDate(competitionId, homeTeamId, awayTeamId);
+            if (last != null) {
+                int lastDay = (int) ChronoUnit.DAYS.between(startDate, last);
+                grid.setPreviousMatchDay(home, lastDay);
+                grid.setPreviousMatchDay(away, lastDay);
+                from = last.plusDays(competition.getMinRestDays() + 1L);
+            }
+            if (reservedFrom == null || from.isBefore(reservedFrom)) {
+                LocalDate to = reservedFrom != null ? reservedFrom : competition.getEndDate().plusDays(1);
+                reserve(matchRepository.findSlotRowsBetween(competitionId, from, to));
+                reservedFrom = from;
+            }
+        }
+
+        // Con toda la competición los equipos de cada fila cuentan para el descanso; en la ventana
+        // solo ocupan el hueco, porque el descanso de los equipos del partido ya se ha fijado
+        private void reserve(List<MatchSlotRow> rows) {
+            for (MatchSlotRow row : rows) {
+                grid.reserve((int) ChronoUnit.DAYS.between(startDate, row.getMatchDate()),
+                        row.getCourtNumber(), row.getTimeSlot() != null ? row.getTimeSlot() : 0,
+                        rowTeam(row.getTeam1Id()), rowTeam(row.getTeam2Id()));
+            }
+        }
+
+        private int rowTeam(Long teamId) {
+            return windowed ? -1 : ordinals.getOrDefault(teamId, -1);
+        }
+
+        // Los equipos reciben su posición en la rejilla a medida que aparecen en un partido
+        private int ordinal(long teamId) {
+            return ordinals.computeIfAbsent(teamId, id -> ordinals.size());
+        }
+
+        void flush() {
+            matchBatchRepository.insert(competitionId, buffer);
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.um.gestioncompeticiones.service;
+
+import com.um.gestioncompeticiones.dto.CacheStatsDTO;
+
+import java.util.List;
+
+public interface CacheService {
+
+    /**
+     * Devuelve las estadísticas de uso de cada caché de la aplicación.
+     *
+     * @return una lista de {@link CacheStatsDTO} con aciertos, fallos y tamaño de cada caché
+     */
+    List<CacheStatsDTO> getCacheStats();
+}
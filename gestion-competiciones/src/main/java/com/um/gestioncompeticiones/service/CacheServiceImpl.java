@@ -0,0 +1,45 @@
+package com.um.gestioncompeticiones.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.um.gestioncompeticiones.dto.CacheStatsDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class CacheServiceImpl implements CacheService {
+
+    private final CacheManager cacheManager;
+
+    @Override
+    public List<CacheStatsDTO> getCacheStats() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(cacheManager::getCache)
+                .filter(Objects::nonNull)
+                .map(this::toStats)
+                .toList();
+    }
+
+    private CacheStatsDTO toStats(Cache cache) {
+        if (!(cache instanceof CaffeineCache caffeineCache)) {
+            return CacheStatsDTO.builder().name(cache.getName()).build();
+        }
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache = caffeineCache.getNativeCache();
+        CacheStats stats = nativeCache.stats();
+        return CacheStatsDTO.builder()
+                .name(cache.getName())
+                .size(nativeCache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
@@ -1,10 +1,13 @@
 package com.um.gestioncompeticiones.service;
 
 import com.um.gestioncompeticiones.dto.CompetitionCreateDTO;
+import com.um.gestioncompeticiones.dto.CompetitionDTO;
+import com.um.gestioncompeticiones.dto.TeamDTO;
 import com.um.gestioncompeticiones.model.Competition;
 import com.um.gestioncompeticiones.model.Team;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface CompetitionService {
 
@@ -23,13 +26,29 @@ public interface CompetitionService {
      */
     List<Competition> getAllCompetitions();
 
+    /**
+     * Recupera una página de competiciones ordenadas por ID (paginación por clave).
+     *
+     * @param afterId ID a partir del cual (sin incluirlo) se devuelven competiciones
+     * @param limit   número máximo de competiciones a devolver
+     * @return lista de {@link CompetitionDTO} con ID mayor que {@code afterId}
+     */
+    List<CompetitionDTO> getCompetitionsAfter(Long afterId, int limit);
+
+    /**
+     * Recorre todas las competiciones en orden de ID sin cargarlas a la vez en memoria.
+     *
+     * @param action acción a ejecutar con cada competición
+     */
+    void forEachCompetition(Consumer<CompetitionDTO> action);
+
     /**
      * Recupera una competición por su identificador único.
      *
      * @param id el ID de la competición a recuperar
-     * @return la entidad {@link Competition} con el ID especificado
+     * @return el {@link CompetitionDTO} con el ID especificado
      */
-    Competition getCompetitionById(Long id);
+    CompetitionDTO getCompetitionById(Long id);
 
     /**
      * Recupera todos los equipos registrados en una competición específica.
@@ -40,4 +59,22 @@ public interface CompetitionService {
      */
     List<Team> getTeamsByCompetition(Long id);
 
+    /**
+     * Recupera una página de los equipos de una competición ordenados por ID (paginación por clave).
+     *
+     * @param id      el ID de la competición
+     * @param afterId ID a partir del cual (sin incluirlo) se devuelven equipos
+     * @param limit   número máximo de equipos a devolver
+     * @return lista de {@link TeamDTO} con ID mayor que {@code afterId}
+     */
+    List<TeamDTO> getTeamsByCompetitionAfter(Long id, Long afterId, int limit);
+
+    /**
+     * Recorre todos los equipos de una competición en orden de ID sin cargarlos a la vez en memoria.
+     *
+     * @param id     el ID de la competición
+     * @param action acción a ejecutar con cada equipo
+     */
+    void forEachTeamByCompetition(Long id, Consumer<TeamDTO> action);
+
 }
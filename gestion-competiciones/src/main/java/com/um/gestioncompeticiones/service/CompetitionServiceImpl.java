@@ -1,39 +1,80 @@
 package com.um.gestioncompeticiones.service;
 
+import com.um.gestioncompeticiones.config.CacheConfig;
 import com.um.gestioncompeticiones.dto.CompetitionCreateDTO;
+import com.um.gestioncompeticiones.dto.CompetitionDTO;
+import com.um.gestioncompeticiones.dto.TeamDTO;
 import com.um.gestioncompeticiones.exception.competition.CompetitionAlreadyExistsException;
 import com.um.gestioncompeticiones.exception.competition.CompetitionNotFoundException;
 import com.um.gestioncompeticiones.model.Competition;
 import com.um.gestioncompeticiones.model.Team;
 import com.um.gestioncompeticiones.repository.CompetitionRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class CompetitionServiceImpl implements CompetitionService {
 
+    private static final String H2_INDEX_SUFFIX = "_INDEX_";
+
     private final CompetitionRepository competitionRepository;
 
     @Override
     public Competition createCompetition(CompetitionCreateDTO competitionCreateDTO) {
-        if (competitionRepository.existsByName(competitionCreateDTO.getName())) {
-            throw new CompetitionAlreadyExistsException(
-                    "A competition with the name '" + competitionCreateDTO.getName() + "' already exists."
-            );
-        }
         Competition competition = Competition.builder()
                 .name(competitionCreateDTO.getName())
                 .sport(competitionCreateDTO.getSport())
                 .startDate(competitionCreateDTO.getStartDate())
                 .endDate(competitionCreateDTO.getEndDate())
                 .numberOfCourts(competitionCreateDTO.getNumberOfCourts())
+                .minRestDays(competitionCreateDTO.getMinRestDays())
                 .build();
 
-        return competitionRepository.save(competition);
+        // La restricción única del nombre decide entre creaciones simultáneas, sin consulta previa
+        try {
+            return competitionRepository.saveAndFlush(competition);
+        } catch (DataIntegrityViolationException e) {
+            if (!isNameConstraintViolation(e)) {
+                throw e;
+            }
+            throw new CompetitionAlreadyExistsException(
+                    "A competition with the name '" + competitionCreateDTO.getName() + "' already exists."
+            );
+        }
+    }
+
+    // También la usa la importación masiva para explicar por qué se rechaza una fila. Se compara el
+    // nombre de la restricción que extrae el dialecto de Hibernate, no el texto del mensaje
+    static boolean isNameConstraintViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return Competition.NAME_CONSTRAINT.equalsIgnoreCase(constraintName(violation.getConstraintName()));
+            }
+        }
+        return false;
+    }
+
+    // H2 informa del índice que respalda la restricción (PUBLIC.UK_COMPETITIONS_NAME_INDEX_A):
+    // se quitan el esquema y el sufijo del índice
+    private static String constraintName(String reported) {
+        if (reported == null) {
+            return null;
+        }
+        String name = reported.substring(reported.lastIndexOf('.') + 1);
+        int index = name.toUpperCase(Locale.ROOT).lastIndexOf(H2_INDEX_SUFFIX);
+        return index > 0 ? name.substring(0, index) : name;
     }
 
     @Override
@@ -42,8 +83,24 @@ public class CompetitionServiceImpl implements CompetitionService {
     }
 
     @Override
-    public Competition getCompetitionById(Long id) {
-        return competitionRepository.findById(id)
+    public List<CompetitionDTO> getCompetitionsAfter(Long afterId, int limit) {
+        return competitionRepository.findDTOsAfter(afterId, Limit.of(limit));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void forEachCompetition(Consumer<CompetitionDTO> action) {
+        try (Stream<CompetitionDTO> competitions = competitionRepository.streamAllDTOs()) {
+            competitions.forEach(action);
+        }
+    }
+
+    // La caché guarda el DTO inmutable, nunca la entidad: una entidad separada con colecciones
+    // perezosas se podría modificar desde fuera o fallar al recorrerlas fuera de la sesión
+    @Cacheable(cacheNames = CacheConfig.COMPETITIONS, key = "#id")
+    @Override
+    public CompetitionDTO getCompetitionById(Long id) {
+        return competitionRepository.findDTOById(id)
                 .orElseThrow(() -> new CompetitionNotFoundException(
                         "Competition with id " + id + " not found."
                 ));
@@ -58,4 +115,24 @@ public class CompetitionServiceImpl implements CompetitionService {
 
         return new ArrayList<>(competition.getTeams());
     }
+
+    @Override
+    public List<TeamDTO> getTeamsByCompetitionAfter(Long id, Long afterId, int limit) {
+        List<TeamDTO> teams = competitionRepository.findTeamDTOsAfter(id, afterId, Limit.of(limit));
+        if (teams.isEmpty() && !competitionRepository.existsById(id)) {
+            throw new CompetitionNotFoundException("Competition with id " + id + " not found.");
+        }
+        return teams;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void forEachTeamByCompetition(Long id, Consumer<TeamDTO> action) {
+        if (!competitionRepository.existsById(id)) {
+            throw new CompetitionNotFoundException("Competition with id " + id + " not found.");
+        }
+        try (Stream<TeamDTO> teams = competitionRepository.streamTeamDTOs(id)) {
+            teams.forEach(action);
+        }
+    }
 }
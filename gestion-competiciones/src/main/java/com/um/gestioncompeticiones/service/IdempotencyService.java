@@ -0,0 +1,24 @@
+package com.um.gestioncompeticiones.service;
+
+import java.util.function.Supplier;
+
+public interface IdempotencyService {
+
+    /**
+     * Ejecuta una operación una sola vez por clave de idempotencia.
+     * <p>
+     * La primera petición con una clave ejecuta {@code action} y guarda su resultado. Las
+     * repeticiones con la misma clave y ámbito, también las que llegan mientras la primera sigue
+     * en curso, reciben ese mismo resultado sin volver a ejecutarla. Si la operación falla no se
+     * guarda nada, así que un reintento la ejecuta de nuevo. Sin clave, se ejecuta siempre. Una
+     * repetición que espera a la primera demasiado tiempo falla con
+     * {@link com.um.gestioncompeticiones.exception.idempotency.IdempotencyKeyInProgressException}.
+     * </p>
+     *
+     * @param scope  ámbito de la clave (por ejemplo, el endpoint y la competición)
+     * @param key    clave enviada por el cliente, o {@code null}
+     * @param action operación a ejecutar
+     * @return el resultado de la operación o el guardado para la clave
+     */
+    <T> T execute(String scope, String key, Supplier<T> action);
+}
@@ -0,0 +1,93 @@
+package com.um.gestioncompeticiones.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.um.gestioncompeticiones.exception.idempotency.IdempotencyKeyInProgressException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    // Los reintentos de un cliente llegan en minutos; un día cubre también reintentos diferidos
+    private static final Duration RETENTION = Duration.ofHours(24);
+    private static final int MAX_KEYS = 10_000;
+
+    // Una petición repetida no espera a la original más que esto; después recibe un 409 y reintenta
+    private static final Duration MAX_WAIT = Duration.ofSeconds(30);
+
+    // Se guarda el futuro y no el valor para que las peticiones simultáneas esperen a la primera
+    private final Cache<String, CompletableFuture<Object>> results = Caffeine.newBuilder()
+            .expireAfterWrite(RETENTION)
+            .maximumSize(MAX_KEYS)
+            .build();
+
+    private final Duration maxWait;
+
+    public IdempotencyServiceImpl() {
+        this(MAX_WAIT);
+    }
+
+    // Para las pruebas, que no pueden esperar el tiempo real
+    IdempotencyServiceImpl(Duration maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String scope, String key, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+
+        String cacheKey = scope + ":" + key;
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = results.asMap().putIfAbsent(cacheKey, created);
+        if (existing != null) {
+            return (T) await(existing, key);
+        }
+
+        try {
+            T result = action.get();
+            created.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Quienes esperan reciben el mismo fallo en lugar de quedarse bloqueados
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            // Cualquier fallo, también un Error, libera la clave para que un reintento la ejecute
+            if (created.isCompletedExceptionally()) {
+                results.asMap().remove(cacheKey, created);
+            }
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future, String key) {
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // La petición original falló: las que esperaban reciben la misma excepción
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyKeyInProgressException(
+                    "Request with Idempotency-Key '" + key + "' is still in progress.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(
+                    "Request with Idempotency-Key '" + key + "' is still in progress.");
+        }
+    }
+}
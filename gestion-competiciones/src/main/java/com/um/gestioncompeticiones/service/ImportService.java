@@ -0,0 +1,34 @@
+package com.um.gestioncompeticiones.service;
+
+import com.um.gestioncompeticiones.dto.ImportResultDTO;
+import com.um.gestioncompeticiones.importer.ImportFormat;
+
+import java.io.InputStream;
+
+public interface ImportService {
+
+    /**
+     * Importa equipos desde un fichero CSV o NDJSON con los campos de {@code TeamCreateDTO}.
+     * <p>
+     * El fichero se lee en streaming y se inserta por bloques de {@code app.import.chunk-size}
+     * filas, cada bloque en su propia transacción. Una fila inválida se anota en el resultado
+     * con su número de línea y no detiene la carga.
+     * </p>
+     *
+     * @param in     contenido del fichero
+     * @param format formato del fichero
+     * @return filas leídas, importadas y rechazadas, con el motivo de los primeros rechazos
+     */
+    ImportResultDTO importTeams(InputStream in, ImportFormat format);
+
+    /**
+     * Importa competiciones desde un fichero CSV o NDJSON con los campos de
+     * {@code CompetitionCreateDTO}, igual que {@link #importTeams}. Las competiciones con un
+     * nombre que ya existe se rechazan fila a fila.
+     *
+     * @param in     contenido del fichero
+     * @param format formato del fichero
+     * @return filas leídas, importadas y rechazadas, con el motivo de los primeros rechazos
+     */
+    ImportResultDTO importCompetitions(InputStream in, ImportFormat format);
+}
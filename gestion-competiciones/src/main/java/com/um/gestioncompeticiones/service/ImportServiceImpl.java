@@ -0,0 +1,178 @@
+package com.um.gestioncompeticiones.service;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.um.gestioncompeticiones.dto.CompetitionCreateDTO;
+import com.um.gestioncompeticiones.dto.ImportErrorDTO;
+import com.um.gestioncompeticiones.dto.ImportResultDTO;
+import com.um.gestioncompeticiones.dto.TeamCreateDTO;
+import com.um.gestioncompeticiones.importer.ImportFormat;
+import com.um.gestioncompeticiones.importer.ImportRecord;
+import com.um.gestioncompeticiones.importer.ImportRecordReader;
+import com.um.gestioncompeticiones.repository.CompetitionBatchRepository;
+import com.um.gestioncompeticiones.repository.TeamBatchRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+@Service
+public class ImportServiceImpl implements ImportService {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final TeamBatchRepository teamBatchRepository;
+    private final CompetitionBatchRepository competitionBatchRepository;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    public ImportServiceImpl(ObjectMapper objectMapper,
+                             Validator validator,
+                             TransactionTemplate transactionTemplate,
+                             TeamBatchRepository teamBatchRepository,
+                             CompetitionBatchRepository competitionBatchRepository,
+                             @Value("${app.import.chunk-size:1000}") int chunkSize,
+                             @Value("${app.import.max-errors:1000}") int maxErrors) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.teamBatchRepository = teamBatchRepository;
+        this.competitionBatchRepository = competitionBatchRepository;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    @Override
+    public ImportResultDTO importTeams(InputStream in, ImportFormat format) {
+        return importRows(in, format, TeamCreateDTO.class, teamBatchRepository::insert,
+                (team, e) -> "Rejected by the database: " + e.getMostSpecificCause().getMessage());
+    }
+
+    @Override
+    public ImportResultDTO importCompetitions(InputStream in, ImportFormat format) {
+        return importRows(in, format, CompetitionCreateDTO.class, competitionBatchRepository::insert,
+                (competition, e) -> e instanceof DataIntegrityViolationException violation
+                        && CompetitionServiceImpl.isNameConstraintViolation(violation)
+                        ? "A competition with the name '" + competition.getName() + "' already exists."
+                        : "Rejected by the database: " + e.getMostSpecificCause().getMessage());
+    }
+
+    // Lee, valida e inserta por bloques. La lectura espera a que cada bloque esté escrito, así que
+    // un cliente que envía más rápido de lo que la base de datos inserta queda frenado por TCP
+    private <T> ImportResultDTO importRows(InputStream in, ImportFormat format, Class<T> type,
+                                           ToIntFunction<List<T>> insert,
+                                           BiFunction<T, DataAccessException, String> rejection) {
+        Progress progress = new Progress();
+        List<T> chunk = new ArrayList<>(chunkSize);
+        long[] lines = new long[chunkSize];
+
+        try (ImportRecordReader reader = ImportRecordReader.open(in, format, objectMapper)) {
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                progress.rows++;
+                String error = record.getError();
+                T row = null;
+                if (error == null) {
+                    try {
+                        row = objectMapper.treeToValue(record.getValues(), type);
+                        error = validate(row);
+                    } catch (JsonMappingException e) {
+                        error = describe(e);
+                    }
+                }
+                if (error != null) {
+                    progress.reject(record.getLine(), error);
+                    continue;
+                }
+
+                lines[chunk.size()] = record.getLine();
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    write(chunk, lines, insert, rejection, progress);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        write(chunk, lines, insert, rejection, progress);
+
+        return ImportResultDTO.builder()
+                .rows(progress.rows)
+                .imported(progress.imported)
+                .failed(progress.failed)
+                .errors(progress.errors)
+                .build();
+    }
+
+    // El bloque entero en una transacción; si la base de datos lo rechaza se repite fila a fila
+    // para importar las válidas y saber cuáles fallan
+    private <T> void write(List<T> chunk, long[] lines, ToIntFunction<List<T>> insert,
+                           BiFunction<T, DataAccessException, String> rejection, Progress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            progress.imported += transactionTemplate.execute(status -> insert.applyAsInt(chunk));
+            return;
+        } catch (DataAccessException e) {
+            // Se reintenta abajo fila a fila
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            T row = chunk.get(i);
+            try {
+                progress.imported += transactionTemplate.execute(status -> insert.applyAsInt(List.of(row)));
+            } catch (DataAccessException e) {
+                progress.reject(lines[i], rejection.apply(row, e));
+            }
+        }
+    }
+
+    private <T> String validate(T row) {
+        Set<ConstraintViolation<T>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static String describe(JsonMappingException e) {
+        String field = e.getPath().stream()
+                .map(JsonMappingException.Reference::getFieldName)
+                .collect(Collectors.joining("."));
+        return field.isEmpty()
+                ? "Invalid row: " + e.getOriginalMessage()
+                : "Invalid value for '" + field + "'";
+    }
+
+    private final class Progress {
+        private long rows;
+        private long imported;
+        private long failed;
+        private final List<ImportErrorDTO> errors = new ArrayList<>();
+
+        void reject(long line, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new ImportErrorDTO(line, message));
+            }
+        }
+    }
+}
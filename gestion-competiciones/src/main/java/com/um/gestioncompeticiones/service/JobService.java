@@ -0,0 +1,33 @@
+package com.um.gestioncompeticiones.service;
+
+import com.um.gestioncompeticiones.dto.JobDTO;
+import com.um.gestioncompeticiones.job.ProgressListener;
+
+import java.util.function.Function;
+
+public interface JobService {
+
+    /**
+     * Encola un trabajo de generación en el ejecutor acotado y devuelve su estado inicial.
+     * <p>
+     * El trabajo se ejecuta dentro de una transacción. Su resultado (o el mensaje de error si
+     * falla) queda disponible en {@link #getJob} durante un tiempo limitado.
+     * </p>
+     *
+     * @param type          tipo de generación (por ejemplo, {@code first-round})
+     * @param competitionId ID de la competición
+     * @param work          trabajo a ejecutar; recibe el receptor de progreso y devuelve el resultado
+     * @return un {@link JobDTO} en estado {@code PENDING}
+     * @throws com.um.gestioncompeticiones.exception.job.JobRejectedException si la cola del ejecutor está llena
+     */
+    JobDTO submit(String type, Long competitionId, Function<ProgressListener, Object> work);
+
+    /**
+     * Devuelve el estado actual de un trabajo.
+     *
+     * @param jobId ID del trabajo
+     * @return un {@link JobDTO} con el progreso y, si ha terminado, el resultado o el error
+     * @throws com.um.gestioncompeticiones.exception.job.JobNotFoundException si el trabajo no existe o ha caducado
+     */
+    JobDTO getJob(String jobId);
+}
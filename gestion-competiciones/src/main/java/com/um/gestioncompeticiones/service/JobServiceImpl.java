@@ -0,0 +1,96 @@
+package com.um.gestioncompeticiones.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.um.gestioncompeticiones.config.AsyncConfig;
+import com.um.gestioncompeticiones.dto.JobDTO;
+import com.um.gestioncompeticiones.exception.job.JobNotFoundException;
+import com.um.gestioncompeticiones.exception.job.JobRejectedException;
+import com.um.gestioncompeticiones.job.GenerationJob;
+import com.um.gestioncompeticiones.job.ProgressListener;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+public class JobServiceImpl implements JobService {
+
+    // Los trabajos se conservan una hora desde su último cambio de estado, de modo que un trabajo
+    // que ha esperado en cola o ha tardado en terminar sigue pudiendo consultarse una hora entera
+    static final Duration RETENTION = Duration.ofHours(1);
+    private static final int MAX_JOBS = 10_000;
+
+    private final TaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache<String, GenerationJob> jobs;
+
+    @Autowired
+    public JobServiceImpl(@Qualifier(AsyncConfig.GENERATION_EXECUTOR) TaskExecutor executor,
+                          TransactionTemplate transactionTemplate) {
+        this(executor, transactionTemplate, Ticker.systemTicker());
+    }
+
+    // Los tests controlan el paso del tiempo con su propio reloj
+    JobServiceImpl(TaskExecutor executor, TransactionTemplate transactionTemplate, Ticker ticker) {
+        this.executor = executor;
+        this.transactionTemplate = transactionTemplate;
+        this.jobs = Caffeine.newBuilder()
+                .expireAfterWrite(RETENTION)
+                .maximumSize(MAX_JOBS)
+                .ticker(ticker)
+                .build();
+    }
+
+    @Override
+    public JobDTO submit(String type, Long competitionId, Function<ProgressListener, Object> work) {
+        GenerationJob job = new GenerationJob(UUID.randomUUID().toString(), type, competitionId);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, work));
+        } catch (TaskRejectedException ex) {
+            jobs.invalidate(job.getId());
+            throw new JobRejectedException("Too many generation jobs are queued, try again later.");
+        }
+        return job.toDTO();
+    }
+
+    @Override
+    public JobDTO getJob(String jobId) {
+        GenerationJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new JobNotFoundException("Job with id " + jobId + " not found.");
+        }
+        return job.toDTO();
+    }
+
+    private void run(GenerationJob job, Function<ProgressListener, Object> work) {
+        job.start();
+        touch(job);
+        try {
+            // La transacción mantiene abierta la sesión para las relaciones perezosas del resultado
+            Object result = transactionTemplate.execute(status -> work.apply(job));
+            job.complete(result);
+            touch(job);
+        } catch (Throwable ex) {
+            // También los Error: si no, el trabajo se quedaría en RUNNING para siempre
+            job.fail(ex.getMessage() != null ? ex.getMessage() : ex.toString());
+            touch(job);
+            if (ex instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    // Volver a escribir la entrada reinicia el plazo de conservación
+    private void touch(GenerationJob job) {
+        jobs.put(job.getId(), job);
+    }
+}
@@ -1,9 +1,15 @@
 package com.um.gestioncompeticiones.service;
 
+import com.um.gestioncompeticiones.dto.MatchDTO;
+import com.um.gestioncompeticiones.dto.ScheduleSummaryDTO;
+import com.um.gestioncompeticiones.dto.SwissRoundDTO;
+import com.um.gestioncompeticiones.job.ProgressListener;
 import com.um.gestioncompeticiones.model.Match;
 import com.um.gestioncompeticiones.model.Team;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface MatchService {
     /**
@@ -11,6 +17,7 @@ public interface MatchService {
      * <p>
      * Se emparejan los equipos registrados en la competición de manera aleatoria,
      * respetando el número de pistas y el máximo de partidos por pista y día.
+     * Si la primera jornada ya existe se devuelve tal cual, sin generar otra.
      * </p>
      *
      * @param competitionId ID de la competición
@@ -18,6 +25,88 @@ public interface MatchService {
      */
     List<Match> generateFirstRound(Long competitionId);
 
+    /**
+     * Genera el calendario completo round-robin (todos contra todos) de una competición.
+     * <p>
+     * Los partidos se reparten en huecos de (día, pista) desde la fecha de inicio hasta la
+     * fecha de fin, respetando el número de pistas y el máximo de partidos por pista y día.
+     * Si el calendario no cabe en la ventana de fechas, o la competición ya tiene partidos, no se
+     * genera ningún partido.
+     * </p>
+     *
+     * @param competitionId ID de la competición
+     * @param doubleRound   {@code true} para generar ida y vuelta
+     * @return resumen del calendario generado
+     */
+    ScheduleSummaryDTO generateFullSchedule(Long competitionId, boolean doubleRound);
+
+    /**
+     * Igual que {@link #generateFullSchedule(Long, boolean)}, informando del número de partidos
+     * guardados tras cada bloque insertado.
+     *
+     * @param competitionId ID de la competición
+     * @param doubleRound   {@code true} para generar ida y vuelta
+     * @param progress      receptor del avance
+     * @return resumen del calendario generado
+     */
+    ScheduleSummaryDTO generateFullSchedule(Long competitionId, boolean doubleRound, ProgressListener progress);
+
+    /**
+     * Genera la siguiente ronda de sistema suizo de una competición.
+     * <p>
+     * Cada victoria (o descanso) vale un punto. Los equipos se emparejan con rivales de igual o
+     * parecida puntuación sin repetir enfrentamientos y, si son impares, descansa el peor
+     * clasificado que no haya descansado antes. La ronda ocupa los días siguientes al último
+     * partido generado. Todos los partidos previos deben tener ganador.
+     * </p>
+     *
+     * @param competitionId ID de la competición
+     * @return resumen de la ronda generada
+     * @throws com.um.gestioncompeticiones.exception.match.MatchNotFoundException si la competición no existe
+     * @throws com.um.gestioncompeticiones.exception.match.MatchGenerationException si hay partidos sin resultado,
+     *                                                                              no caben en las fechas o no hay emparejamiento sin revanchas
+     */
+    SwissRoundDTO generateSwissRound(Long competitionId);
+
+    /**
+     * Igual que {@link #generateSwissRound(Long)}, informando del número de partidos guardados.
+     *
+     * @param competitionId ID de la competición
+     * @param progress      receptor del avance
+     * @return resumen de la ronda generada
+     */
+    SwissRoundDTO generateSwissRound(Long competitionId, ProgressListener progress);
+
+    /**
+     * Registra el ganador de un partido que no pertenece a un cuadro eliminatorio.
+     *
+     * @param competitionId ID de la competición
+     * @param matchId       ID del partido
+     * @param winnerId      ID del equipo ganador
+     * @return el {@link Match} actualizado
+     * @throws com.um.gestioncompeticiones.exception.match.MatchNotFoundException si el partido no existe en la competición
+     * @throws com.um.gestioncompeticiones.exception.match.InvalidMatchResultException si el partido es del cuadro,
+     *                                                                                  ya tiene ganador o el equipo no lo juega
+     */
+    Match recordWinner(Long competitionId, Long matchId, Long winnerId);
+
+    /**
+     * Registra el marcador de un partido que no pertenece a un cuadro eliminatorio.
+     * <p>
+     * El ganador se deduce del marcador (un empate deja el partido sin ganador) y el resultado
+     * se suma a la clasificación de la competición.
+     * </p>
+     *
+     * @param competitionId ID de la competición
+     * @param matchId       ID del partido
+     * @param homeScore     goles del equipo local
+     * @param awayScore     goles del equipo visitante
+     * @return el {@link Match} actualizado
+     * @throws com.um.gestioncompeticiones.exception.match.MatchNotFoundException si el partido no existe en la competición
+     * @throws com.um.gestioncompeticiones.exception.match.InvalidMatchResultException si el partido es del cuadro o ya tiene resultado
+     */
+    Match recordScore(Long competitionId, Long matchId, int homeScore, int awayScore);
+
 
     /**
      * Devuelve todos los partidos de una competición.
@@ -27,12 +116,54 @@ public interface MatchService {
      */
     List<Match> getMatchesByCompetition(Long competitionId);
 
+    /**
+     * Devuelve todos los partidos de una competición ya proyectados a {@link MatchDTO}.
+     * <p>
+     * Los datos de los equipos se obtienen en la misma consulta, sin materializar entidades,
+     * por lo que el coste no crece con consultas adicionales por partido.
+     * </p>
+     *
+     * @param competitionId ID de la competición
+     * @return lista de {@link MatchDTO} ordenada por ID, puede estar vacía si no se han generado partidos
+     */
+    List<MatchDTO> getMatchDTOsByCompetition(Long competitionId);
+
+    /**
+     * Devuelve una página de los partidos de una competición ordenados por ID (paginación por clave).
+     *
+     * @param competitionId ID de la competición
+     * @param afterId       ID a partir del cual (sin incluirlo) se devuelven partidos
+     * @param limit         número máximo de partidos a devolver
+     * @return lista de {@link MatchDTO} con ID mayor que {@code afterId}
+     */
+    List<MatchDTO> getMatchesByCompetitionAfter(Long competitionId, Long afterId, int limit);
+
+    /**
+     * Devuelve el calendario de un equipo: sus partidos como local o visitante en todas las
+     * competiciones, ordenados por fecha y franja horaria.
+     *
+     * @param teamId ID del equipo
+     * @param from   primera fecha incluida, o {@code null} para no limitar
+     * @param to     última fecha incluida, o {@code null} para no limitar
+     * @return lista de {@link MatchDTO}, vacía si el equipo no juega en ese intervalo
+     * @throws com.um.gestioncompeticiones.exception.team.TeamNotFoundException si el equipo no existe
+     */
+    List<MatchDTO> getMatchesByTeam(Long teamId, LocalDate from, LocalDate to);
+
+    /**
+     * Recorre todos los partidos de una competición en orden de ID sin cargarlos a la vez en memoria.
+     *
+     * @param competitionId ID de la competición
+     * @param action        acción a ejecutar con cada partido
+     */
+    void forEachMatchByCompetition(Long competitionId, Consumer<MatchDTO> action);
+
     /**
      * Devuelve los equipos que no han sido asignados a ningún partido en la primera jornada
      * de la competición indicada.
      * <p>
-     * Se compara la lista de todos los equipos registrados en la competición con los equipos
-     * que ya aparecen en los partidos generados.
+     * La diferencia entre los equipos registrados en la competición y los que ya aparecen en
+     * los partidos generados se resuelve en una única consulta, sin cargar los partidos.
      * </p>
      *
      * @param competitionId ID de la competición
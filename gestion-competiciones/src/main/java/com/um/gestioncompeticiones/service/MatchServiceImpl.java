@@ -1,21 +1,38 @@
 package com.um.gestioncompeticiones.service;
 
+import com.um.gestioncompeticiones.dto.MatchDTO;
+import com.um.gestioncompeticiones.dto.ScheduleSummaryDTO;
+import com.um.gestioncompeticiones.dto.SwissRoundDTO;
+import com.um.gestioncompeticiones.exception.match.InvalidMatchResultException;
 import com.um.gestioncompeticiones.exception.match.MatchGenerationException;
 import com.um.gestioncompeticiones.exception.match.MatchNotFoundException;
+import com.um.gestioncompeticiones.exception.team.TeamNotFoundException;
+import com.um.gestioncompeticiones.job.ProgressListener;
 import com.um.gestioncompeticiones.model.Competition;
 import com.um.gestioncompeticiones.model.Match;
+import com.um.gestioncompeticiones.model.SwissBye;
 import com.um.gestioncompeticiones.model.Team;
 import com.um.gestioncompeticiones.repository.CompetitionRepository;
+import com.um.gestioncompeticiones.repository.MatchBatchRepository;
+import com.um.gestioncompeticiones.repository.MatchPairingRow;
 import com.um.gestioncompeticiones.repository.MatchRepository;
+import com.um.gestioncompeticiones.repository.MatchRowBuffer;
+import com.um.gestioncompeticiones.repository.SwissByeRepository;
+import com.um.gestioncompeticiones.repository.TeamRepository;
+import com.um.gestioncompeticiones.scheduling.RoundRobinScheduler;
+import com.um.gestioncompeticiones.scheduling.SlotGrid;
+import com.um.gestioncompeticiones.scheduling.SwissPairing;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 @Service
@@ -26,12 +43,26 @@ public class MatchServiceImpl implements MatchService {
 
     private final CompetitionRepository competitionRepository;
     private final MatchRepository matchRepository;
+    private final MatchBatchRepository matchBatchRepository;
+    private final TeamRepository teamRepository;
+    private final SwissByeRepository swissByeRepository;
+    private final RoundRobinScheduler roundRobinScheduler;
+    private final SwissPairing swissPairing;
+    private final StandingsService standingsService;
 
+    @Transactional
     @Override
     public List<Match> generateFirstRound(Long competitionId) {
-        Competition competition = competitionRepository.findById(competitionId)
+        // El bloqueo serializa las generaciones de la misma competición: la segunda encuentra la
+        // jornada ya creada y la devuelve en lugar de generar otra
+        Competition competition = competitionRepository.findForUpdateById(competitionId)
                 .orElseThrow(() -> new MatchNotFoundException("Competition with id " + competitionId + " not found."));
 
+        List<Match> existing = matchRepository.findByCompetitionIdAndRound(competitionId, 1);
+        if (!existing.isEmpty()) {
+            return existing;
+        }
+
         Set<Team> teamsSet = competition.getTeams();
         if (teamsSet.size() < 2) {
             throw new MatchGenerationException("Not enough teams to generate matches.");
@@ -50,28 +81,273 @@ public class MatchServiceImpl implements MatchService {
         return matches;
     }
 
-    private void assignMatches(Competition competition, List<Team> teams, List<Match> matches) {
+    // Visibilidad de paquete para poder medirlo desde los benchmarks JMH (src/jmh/java)
+    void assignMatches(Competition competition, List<Team> teams, List<Match> matches) {
 
+        // La primera jornada se juega el día de inicio: los partidos que no caben en la rejilla
+        // de ese día se descartan y sus equipos quedan sin asignar
+        SlotGrid grid = new SlotGrid(teams.size(), 1, competition.getNumberOfCourts(),
+                MAX_MATCHES_PER_COURT_PER_DAY, competition.getMinRestDays());
+        for (int i = 0; i < teams.size() / 2; i++) {
+            int slot = grid.place(2 * i, 2 * i + 1);
+            if (slot == SlotGrid.NO_SLOT) {
+                break;
+            }
+            matches.add(Match.builder()
+                    .competition(competition)
+                    .team1(teams.get(2 * i))
+                    .team2(teams.get(2 * i + 1))
+                    .matchDate(competition.getStartDate())
+                    .courtNumber(grid.court(slot))
+                    .timeSlot(grid.timeSlot(slot))
+                    .round(1)
+                    .build());
+        }
+    }
+
+    @Transactional
+    @Override
+    public ScheduleSummaryDTO generateFullSchedule(Long competitionId, boolean doubleRound) {
+        return generateFullSchedule(competitionId, doubleRound, ProgressListener.NONE);
+    }
+
+    @Transactional
+    @Override
+    public ScheduleSummaryDTO generateFullSchedule(Long competitionId, boolean doubleRound, ProgressListener progress) {
+        // Con la competición bloqueada, una segunda petición simultánea ve los partidos ya creados
+        // y se rechaza en lugar de duplicar el calendario
+        Competition competition = competitionRepository.findForUpdateById(competitionId)
+                .orElseThrow(() -> new MatchNotFoundException("Competition with id " + competitionId + " not found."));
+
+        if (matchRepository.existsByCompetitionId(competitionId)) {
+            throw new MatchGenerationException("Competition with id " + competitionId + " already has matches.");
+        }
+
+        Set<Team> teamsSet = competition.getTeams();
+        if (teamsSet.size() < 2) {
+            throw new MatchGenerationException("Not enough teams to generate matches.");
+        }
+
+        List<Team> teams = new ArrayList<>(teamsSet);
+        Collections.shuffle(teams); // Mezcla aleatoria para el orden del calendario
+
+        // Comprobar que todo el calendario cabe en la ventana de fechas de la competición
         int totalCourts = competition.getNumberOfCourts();
-        int maxMatchesPerDay = totalCourts * MAX_MATCHES_PER_COURT_PER_DAY;
-        LocalDate matchDate = competition.getStartDate();
-        // Genera los partidos
-        List<Match> generatedMatches = IntStream.range(0, teams.size() / 2)
-                .limit(maxMatchesPerDay)
-                .mapToObj(i -> {
-                    int teamIndex = i * 2;
-                    int courtNumber = (i % totalCourts) + 1;
-
-                    return Match.builder()
-                            .competition(competition)
-                            .team1(teams.get(teamIndex))
-                            .team2(teams.get(teamIndex + 1))
-                            .matchDate(matchDate)
-                            .courtNumber(courtNumber)
-                            .build();
-                }).toList();
-
-        matches.addAll(generatedMatches);
+        int matchesPerDay = totalCourts * MAX_MATCHES_PER_COURT_PER_DAY;
+        long days = ChronoUnit.DAYS.between(competition.getStartDate(), competition.getEndDate()) + 1;
+        long totalMatches = roundRobinScheduler.countFixtures(teams.size(), doubleRound);
+        if (days <= 0 || totalMatches > days * matchesPerDay) {
+            throw new MatchGenerationException("The competition window allows " + Math.max(days, 0) * matchesPerDay
+                    + " matches but the schedule needs " + totalMatches + ".");
+        }
+
+        long[] teamIds = teams.stream().mapToLong(Team::getId).toArray();
+
+        // Los partidos se colocan en la rejilla (día, pista, franja) respetando el descanso de
+        // cada equipo y se insertan por bloques
+        SlotGrid grid = new SlotGrid(teams.size(), (int) days, totalCourts,
+                MAX_MATCHES_PER_COURT_PER_DAY, competition.getMinRestDays());
+        ScheduledRowWriter writer = new ScheduledRowWriter(competitionId, competition.getStartDate(), grid, teamIds,
+                totalMatches, progress);
+        List<int[]> unplaced = new ArrayList<>();
+        roundRobinScheduler.generate(teams.size(), doubleRound, (round, home, away) -> {
+            int slot = grid.place(home, away);
+            if (slot == SlotGrid.NO_SLOT) {
+                unplaced.add(new int[]{round, home, away});
+            } else {
+                writer.add(slot, round, home, away);
+            }
+        });
+        writer.repair(unplaced, "The schedule does not fit in the competition window");
+        writer.flush();
+
+        return ScheduleSummaryDTO.builder()
+                .competitionId(competitionId)
+                .teams(teams.size())
+                .rounds(roundRobinScheduler.countRounds(teams.size(), doubleRound))
+                .matches(totalMatches)
+                .firstMatchDate(competition.getStartDate())
+                .lastMatchDate(writer.lastMatchDate())
+                .build();
+    }
+
+    @Transactional
+    @Override
+    public SwissRoundDTO generateSwissRound(Long competitionId) {
+        return generateSwissRound(competitionId, ProgressListener.NONE);
+    }
+
+    @Transactional
+    @Override
+    public SwissRoundDTO generateSwissRound(Long competitionId, ProgressListener progress) {
+        // Con la competición bloqueada, una segunda petición simultánea ve la ronda recién creada
+        // sin resultados y se rechaza en lugar de emparejar la misma ronda otra vez
+        Competition competition = competitionRepository.findForUpdateById(competitionId)
+                .orElseThrow(() -> new MatchNotFoundException("Competition with id " + competitionId + " not found."));
+
+        List<Long> registered = competitionRepository.findTeamIds(competitionId);
+        int teamCount = registered.size();
+        if (teamCount < 2) {
+            throw new MatchGenerationException("Not enough teams to generate matches.");
+        }
+
+        long[] teamIds = registered.stream().mapToLong(Long::longValue).toArray();
+        Map<Long, Integer> ordinals = new HashMap<>(teamCount * 2);
+        for (int i = 0; i < teamCount; i++) {
+            ordinals.put(teamIds[i], i);
+        }
+
+        // Historial: rivales enfrentados, partidos en casa y puntos por equipo.
+        // Los puntos van duplicados para contar los empates como medio punto: victoria 2, empate 1
+        BitSet[] played = new BitSet[teamCount];
+        Arrays.setAll(played, i -> new BitSet());
+        int[] scores = new int[teamCount];
+        int[] homeGames = new int[teamCount];
+        long[] lastEpochDay = new long[teamCount];
+        Arrays.fill(lastEpochDay, Long.MIN_VALUE);
+        int lastRound = 0;
+        LocalDate lastMatchDate = null;
+        for (MatchPairingRow row : matchRepository.findPairingRows(competitionId)) {
+            if (row.getWinnerId() == null && row.getHomeScore() == null) {
+                throw new MatchGenerationException("All previous matches need a result before pairing the next round.");
+            }
+            Integer home = ordinals.get(row.getTeam1Id());
+            Integer away = ordinals.get(row.getTeam2Id());
+            if (home == null || away == null) {
+                continue; // equipo ya no inscrito
+            }
+            played[home].set(away);
+            played[away].set(home);
+            homeGames[home]++;
+            if (row.getWinnerId() == null) {
+                scores[home]++;
+                scores[away]++;
+            } else {
+                scores[row.getWinnerId().equals(row.getTeam1Id()) ? home : away] += 2;
+            }
+            long epochDay = row.getMatchDate().toEpochDay();
+            lastEpochDay[home] = Math.max(lastEpochDay[home], epochDay);
+            lastEpochDay[away] = Math.max(lastEpochDay[away], epochDay);
+            if (row.getRound() != null) {
+                lastRound = Math.max(lastRound, row.getRound());
+            }
+            if (lastMatchDate == null || row.getMatchDate().isAfter(lastMatchDate)) {
+                lastMatchDate = row.getMatchDate();
+            }
+        }
+
+        // Cada descanso registrado al emparejar cuenta como victoria. Las rondas sin partido de un
+        // equipo inscrito más tarde no son descansos y no suman
+        boolean[] hadBye = new boolean[teamCount];
+        for (Long teamId : swissByeRepository.findTeamIdsByCompetitionId(competitionId)) {
+            Integer ordinal = ordinals.get(teamId);
+            if (ordinal != null) {
+                hadBye[ordinal] = true;
+                scores[ordinal] += 2;
+            }
+        }
+
+        // La ronda ocupa los días siguientes al último partido y cada equipo respeta su descanso
+        int matchCount = teamCount / 2;
+        LocalDate firstDate = lastMatchDate == null ? competition.getStartDate() : lastMatchDate.plusDays(1);
+        long days = ChronoUnit.DAYS.between(firstDate, competition.getEndDate()) + 1;
+        if (days <= 0) {
+            throw new MatchGenerationException("There are no days left before the competition end date.");
+        }
+        SlotGrid grid = new SlotGrid(teamCount, (int) days, competition.getNumberOfCourts(),
+                MAX_MATCHES_PER_COURT_PER_DAY, competition.getMinRestDays());
+        for (int i = 0; i < teamCount; i++) {
+            if (lastEpochDay[i] != Long.MIN_VALUE) {
+                grid.setPreviousMatchDay(i, (int) (lastEpochDay[i] - firstDate.toEpochDay()));
+            }
+        }
+
+        int round = lastRound + 1;
+        ScheduledRowWriter writer = new ScheduledRowWriter(competitionId, firstDate, grid, teamIds, matchCount, progress);
+        List<int[]> unplaced = new ArrayList<>();
+        int bye;
+        try {
+            bye = swissPairing.pair(round, scores, played, hadBye, homeGames, ThreadLocalRandom.current(),
+                    (r, home, away) -> {
+                        int slot = grid.place(home, away);
+                        if (slot == SlotGrid.NO_SLOT) {
+                            unplaced.add(new int[]{r, home, away});
+                        } else {
+                            writer.add(slot, r, home, away);
+                        }
+                    });
+        } catch (IllegalStateException ex) {
+            throw new MatchGenerationException(ex.getMessage());
+        }
+        writer.repair(unplaced, "The next round does not fit before the competition end date");
+        writer.flush();
+        if (bye != SwissPairing.NO_BYE) {
+            swissByeRepository.save(SwissBye.builder()
+                    .competition(competition)
+                    .team(teamRepository.getReferenceById(teamIds[bye]))
+                    .round(round)
+                    .build());
+        }
+
+        return SwissRoundDTO.builder()
+                .competitionId(competitionId)
+                .round(round)
+                .matches(matchCount)
+                .byeTeamId(bye == SwissPairing.NO_BYE ? null : teamIds[bye])
+                .firstMatchDate(firstDate)
+                .lastMatchDate(writer.lastMatchDate())
+                .build();
+    }
+
+    @Transactional
+    @Override
+    public Match recordWinner(Long competitionId, Long matchId, Long winnerId) {
+        Match match = findOpenMatch(competitionId, matchId);
+
+        if (winnerId.equals(match.getTeam1().getId())) {
+            match.setWinner(match.getTeam1());
+        } else if (winnerId.equals(match.getTeam2().getId())) {
+            match.setWinner(match.getTeam2());
+        } else {
+            throw new InvalidMatchResultException("Team " + winnerId + " does not play match " + matchId + ".");
+        }
+        standingsService.recordResult(match);
+        return match;
+    }
+
+    @Transactional
+    @Override
+    public Match recordScore(Long competitionId, Long matchId, int homeScore, int awayScore) {
+        Match match = findOpenMatch(competitionId, matchId);
+
+        match.setHomeScore(homeScore);
+        match.setAwayScore(awayScore);
+        if (homeScore > awayScore) {
+            match.setWinner(match.getTeam1());
+        } else if (awayScore > homeScore) {
+            match.setWinner(match.getTeam2());
+        }
+        standingsService.recordResult(match);
+        return match;
+    }
+
+    // Partido de la competición fuera del cuadro y todavía sin resultado. Se lee bloqueado: de dos
+    // resultados simultáneos, el segundo espera al primero y ya encuentra el partido cerrado
+    private Match findOpenMatch(Long competitionId, Long matchId) {
+        Match match = matchRepository.findForUpdateById(matchId)
+                .filter(m -> m.getCompetition().getId().equals(competitionId))
+                .orElseThrow(() -> new MatchNotFoundException("Match with id " + matchId + " not found in competition " + competitionId + "."));
+
+        if (match.getBracketNode() != null) {
+            throw new InvalidMatchResultException("Match with id " + matchId + " belongs to the bracket; record it through the bracket.");
+        }
+        if (match.getWinner() != null) {
+            throw new InvalidMatchResultException("Match with id " + matchId + " already has a winner.");
+        }
+        if (match.getHomeScore() != null) {
+            throw new InvalidMatchResultException("Match with id " + matchId + " already has a result.");
+        }
+        return match;
     }
 
     @Override
@@ -81,20 +357,121 @@ public class MatchServiceImpl implements MatchService {
         return competition.getMatches();
     }
 
+    @Override
+    public List<MatchDTO> getMatchDTOsByCompetition(Long competitionId) {
+        List<MatchDTO> matches = matchRepository.findDTOsByCompetitionId(competitionId);
+        // Solo se comprueba la existencia de la competición si no hay partidos
+        if (matches.isEmpty() && !competitionRepository.existsById(competitionId)) {
+            throw new MatchNotFoundException("Competition with id " + competitionId + " not found.");
+        }
+        return matches;
+    }
+
+    @Override
+    public List<MatchDTO> getMatchesByCompetitionAfter(Long competitionId, Long afterId, int limit) {
+        List<MatchDTO> matches = matchRepository.findDTOsByCompetitionIdAfter(competitionId, afterId, Limit.of(limit));
+        if (matches.isEmpty() && !competitionRepository.existsById(competitionId)) {
+            throw new MatchNotFoundException("Competition with id " + competitionId + " not found.");
+        }
+        return matches;
+    }
+
+    @Override
+    public List<MatchDTO> getMatchesByTeam(Long teamId, LocalDate from, LocalDate to) {
+        List<MatchDTO> matches = matchRepository.findDTOsByTeamId(teamId, from, to);
+        if (matches.isEmpty() && !teamRepository.existsById(teamId)) {
+            throw new TeamNotFoundException("Team with id " + teamId + " not found");
+        }
+        return matches;
+    }
+
     @Transactional(readOnly = true)
+    @Override
+    public void forEachMatchByCompetition(Long competitionId, Consumer<MatchDTO> action) {
+        try (Stream<MatchDTO> matches = matchRepository.streamDTOsByCompetitionId(competitionId)) {
+            Iterator<MatchDTO> rows = matches.iterator();
+            // Solo sin partidos hace falta distinguir una competición vacía de una inexistente
+            if (!rows.hasNext() && !competitionRepository.existsById(competitionId)) {
+                throw new MatchNotFoundException("Competition with id " + competitionId + " not found.");
+            }
+            rows.forEachRemaining(action);
+        }
+    }
+
     @Override
     public List<Team> getUnassignedTeams(Long competitionId) {
-        Competition competition = competitionRepository.findById(competitionId)
-                .orElseThrow(() -> new MatchNotFoundException("Competition with id " + competitionId + " not found."));
+        // La base de datos resuelve la diferencia sin cargar partidos ni la colección de equipos
+        List<Team> unassignedTeams = teamRepository.findUnassignedByCompetition(competitionId);
+        if (unassignedTeams.isEmpty() && !competitionRepository.existsById(competitionId)) {
+            throw new MatchNotFoundException("Competition with id " + competitionId + " not found.");
+        }
+        return unassignedTeams;
+    }
+
+    /**
+     * Vuelca a {@link MatchBatchRepository} los partidos colocados en una {@link SlotGrid},
+     * traduciendo cada hueco a fecha, pista y franja. Informa del avance tras cada bloque.
+     */
+    private class ScheduledRowWriter {
+
+        private final long competitionId;
+        private final LocalDate firstDate;
+        private final SlotGrid grid;
+        private final long[] teamIds;
+        private final long total;
+        private final ProgressListener progress;
+        private final MatchRowBuffer rows = new MatchRowBuffer(MatchBatchRepository.DEFAULT_BATCH_SIZE);
+        private long written;
+        private int lastDay;
+
+        ScheduledRowWriter(long competitionId, LocalDate firstDate, SlotGrid grid, long[] teamIds,
+                           long total, ProgressListener progress) {
+            this.competitionId = competitionId;
+            this.firstDate = firstDate;
+            this.grid = grid;
+            this.teamIds = teamIds;
+            this.total = total;
+            this.progress = progress;
+        }
 
-        // Equipos que ya tienen partido (usando los matches asociados a la competición)
-        Set<Team> assignedTeams = competition.getMatches().stream()
-                .flatMap(match -> Stream.of(match.getTeam1(), match.getTeam2()))
-                .collect(Collectors.toSet());
+        void add(int slot, int round, int home, int away) {
+            int day = grid.day(slot);
+            lastDay = Math.max(lastDay, day);
+            rows.add(teamIds[home], teamIds[away], firstDate.plusDays(day), grid.court(slot), grid.timeSlot(slot), round, -1);
+            if (rows.isFull()) {
+                flush();
+            }
+        }
+
+        /**
+         * Recoloca en cualquier hueco compatible los partidos {ronda, local, visitante} que la
+         * asignación voraz no pudo colocar. Si alguno sigue sin hueco no se genera nada.
+         */
+        void repair(List<int[]> unplaced, String failureMessage) {
+            int failed = 0;
+            for (int[] fixture : unplaced) {
+                int slot = grid.placeAnywhere(fixture[1], fixture[2]);
+                if (slot == SlotGrid.NO_SLOT) {
+                    failed++;
+                } else {
+                    add(slot, fixture[0], fixture[1], fixture[2]);
+                }
+            }
+            if (failed > 0) {
+                throw new MatchGenerationException(failureMessage + ": " + failed
+                        + " matches could not be placed without breaking the rest days between matches.");
+            }
+        }
 
-        // Equipos no asignados = todos - asignados
-        return competition.getTeams().stream()
-                .filter(team -> !assignedTeams.contains(team))
-                .toList();
+        void flush() {
+            matchBatchRepository.insert(competitionId, rows);
+            written += rows.size();
+            rows.clear();
+            progress.onProgress(written, total);
+        }
+
+        LocalDate lastMatchDate() {
+            return firstDate.plusDays(lastDay);
+        }
     }
 }
@@ -0,0 +1,31 @@
+package com.um.gestioncompeticiones.service;
+
+import com.um.gestioncompeticiones.dto.StandingDTO;
+import com.um.gestioncompeticiones.model.Match;
+
+import java.util.List;
+
+public interface StandingsService {
+
+    /**
+     * Devuelve la clasificación de una competición.
+     * <p>
+     * La primera consulta construye la tabla a partir de los resultados guardados; después se
+     * mantiene en memoria y se actualiza con cada resultado, por lo que no se recorren los partidos.
+     * Los partidos del cuadro eliminatorio no cuentan.
+     * </p>
+     *
+     * @param competitionId ID de la competición
+     * @return lista de {@link StandingDTO} ordenada por puntos, diferencia de goles y goles a favor
+     * @throws com.um.gestioncompeticiones.exception.competition.CompetitionNotFoundException si la competición no existe
+     */
+    List<StandingDTO> getStandings(Long competitionId);
+
+    /**
+     * Suma a la tabla en memoria el resultado de un partido. Si hay una transacción activa, la
+     * tabla se actualiza cuando se confirma.
+     *
+     * @param match partido con ganador o marcador ya registrado
+     */
+    void recordResult(Match match);
+}
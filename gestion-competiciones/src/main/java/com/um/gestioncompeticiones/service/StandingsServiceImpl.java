@@ -0,0 +1,98 @@
+package com.um.gestioncompeticiones.service;
+
+import com.um.gestioncompeticiones.config.CacheConfig;
+import com.um.gestioncompeticiones.dto.StandingDTO;
+import com.um.gestioncompeticiones.dto.TeamDTO;
+import com.um.gestioncompeticiones.exception.competition.CompetitionNotFoundException;
+import com.um.gestioncompeticiones.model.Match;
+import com.um.gestioncompeticiones.repository.CompetitionRepository;
+import com.um.gestioncompeticiones.repository.MatchRepository;
+import com.um.gestioncompeticiones.repository.MatchResultRow;
+import com.um.gestioncompeticiones.standings.StandingsTable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class StandingsServiceImpl implements StandingsService {
+
+    private final CompetitionRepository competitionRepository;
+    private final MatchRepository matchRepository;
+    private final CacheManager cacheManager;
+
+    @Override
+    public List<StandingDTO> getStandings(Long competitionId) {
+        Cache tables = cacheManager.getCache(CacheConfig.STANDINGS);
+        StandingsTable table = tables.get(competitionId, StandingsTable.class);
+        if (table == null) {
+            if (!competitionRepository.existsById(competitionId)) {
+                throw new CompetitionNotFoundException("Competition with id " + competitionId + " not found.");
+            }
+            table = tables.get(competitionId, () -> load(competitionId));
+        }
+        return table.snapshot();
+    }
+
+    @Override
+    public void recordResult(Match match) {
+        if (match.getBracketNode() != null) {
+            return;
+        }
+        Long competitionId = match.getCompetition().getId();
+        long matchId = match.getId();
+        long homeId = match.getTeam1().getId();
+        long awayId = match.getTeam2().getId();
+        int homeGoals = match.getHomeScore() != null ? match.getHomeScore() : 0;
+        int awayGoals = match.getAwayScore() != null ? match.getAwayScore() : 0;
+        Long winnerId = match.getWinner() != null ? match.getWinner().getId() : null;
+
+        Runnable apply = () -> {
+            Cache tables = cacheManager.getCache(CacheConfig.STANDINGS);
+            StandingsTable table = tables.get(competitionId, StandingsTable.class);
+            if (table != null) {
+                table.record(matchId, homeId, awayId, homeGoals, awayGoals, winnerId);
+            } else {
+                // Si la tabla se está construyendo puede haber leído los partidos antes de
+                // confirmar este resultado: se descarta y la siguiente consulta la reconstruye
+                tables.evict(competitionId);
+            }
+        };
+
+        // Solo se suma cuando el resultado está confirmado en la base de datos
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+
+    private StandingsTable load(Long competitionId) {
+        List<TeamDTO> teams = competitionRepository.findTeamDTOs(competitionId);
+        long[] teamIds = new long[teams.size()];
+        String[] teamNames = new String[teams.size()];
+        for (int i = 0; i < teams.size(); i++) {
+            teamIds[i] = teams.get(i).id();
+            teamNames[i] = teams.get(i).name();
+        }
+
+        StandingsTable table = new StandingsTable(teamIds, teamNames);
+        for (MatchResultRow row : matchRepository.findResultRows(competitionId)) {
+            table.record(row.getMatchId(), row.getTeam1Id(), row.getTeam2Id(),
+                    row.getHomeScore() != null ? row.getHomeScore() : 0,
+                    row.getAwayScore() != null ? row.getAwayScore() : 0,
+                    row.getWinnerId());
+        }
+        return table;
+    }
+}
@@ -1,9 +1,12 @@
 package com.um.gestioncompeticiones.service;
 
+import com.um.gestioncompeticiones.dto.BulkRegistrationResultDTO;
 import com.um.gestioncompeticiones.dto.TeamCreateDTO;
+import com.um.gestioncompeticiones.dto.TeamDTO;
 import com.um.gestioncompeticiones.model.Team;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TeamService {
 
@@ -24,6 +27,20 @@ public interface TeamService {
      */
     Team registerTeamToCompetition(Long teamId, Long competitionId);
 
+    /**
+     * Registra de una vez un conjunto de equipos en una competición.
+     * <p>
+     * Las inscripciones existentes se resuelven con una sola consulta y las nuevas se insertan
+     * en un único lote. Los equipos ya inscritos o inexistentes no detienen el proceso: se
+     * devuelven en el resultado.
+     * </p>
+     *
+     * @param competitionId el ID de la competición
+     * @param teamIds       los IDs de los equipos a registrar (se ignoran los repetidos)
+     * @return resultado con los equipos registrados, los ya inscritos y los no encontrados
+     */
+    BulkRegistrationResultDTO registerTeamsToCompetition(Long competitionId, List<Long> teamIds);
+
 
     /**
      * Recupera todos los equipos existentes en el sistema.
@@ -32,11 +49,27 @@ public interface TeamService {
      */
     List<Team> getAllTeams();
 
+    /**
+     * Recupera una página de equipos ordenados por ID (paginación por clave).
+     *
+     * @param afterId ID a partir del cual (sin incluirlo) se devuelven equipos
+     * @param limit   número máximo de equipos a devolver
+     * @return lista de {@link TeamDTO} con ID mayor que {@code afterId}
+     */
+    List<TeamDTO> getTeamsAfter(Long afterId, int limit);
+
+    /**
+     * Recorre todos los equipos en orden de ID sin cargarlos a la vez en memoria.
+     *
+     * @param action acción a ejecutar con cada equipo
+     */
+    void forEachTeam(Consumer<TeamDTO> action);
+
     /**
      * Recupera un equipo por su identificador único.
      *
      * @param id el ID del equipo a recuperar
-     * @return la entidad {@link Team} correspondiente al ID
+     * @return el {@link TeamDTO} correspondiente al ID
      */
-    Team getTeamById(Long id);
+    TeamDTO getTeamById(Long id);
 }
@@ -1,17 +1,31 @@
 package com.um.gestioncompeticiones.service;
 
+import com.um.gestioncompeticiones.config.CacheConfig;
+import com.um.gestioncompeticiones.dto.BulkRegistrationResultDTO;
 import com.um.gestioncompeticiones.dto.TeamCreateDTO;
+import com.um.gestioncompeticiones.dto.TeamDTO;
+import com.um.gestioncompeticiones.exception.competition.CompetitionNotFoundException;
 import com.um.gestioncompeticiones.exception.team.TeamAlreadyRegisteredException;
 import com.um.gestioncompeticiones.exception.team.TeamNotFoundException;
-import com.um.gestioncompeticiones.model.Competition;
 import com.um.gestioncompeticiones.model.Team;
 import com.um.gestioncompeticiones.repository.CompetitionRepository;
+import com.um.gestioncompeticiones.repository.CompetitionTeamJdbcRepository;
 import com.um.gestioncompeticiones.repository.TeamRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -19,6 +33,7 @@ public class TeamServiceImpl implements TeamService {
 
     private final TeamRepository teamRepository;
     private final CompetitionRepository competitionRepository;
+    private final CompetitionTeamJdbcRepository competitionTeamJdbcRepository;
 
     @Override
     public Team createTeam(TeamCreateDTO teamCreateDTO) {
@@ -28,29 +43,68 @@ public class TeamServiceImpl implements TeamService {
         return teamRepository.save(team);
     }
 
+    // La caché de equipos guarda solo ID y nombre, que no cambian al inscribirlos
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COMPETITIONS, key = "#competitionId"),
+            @CacheEvict(cacheNames = CacheConfig.STANDINGS, key = "#competitionId")
+    })
     @Transactional
     @Override
     public Team registerTeamToCompetition(Long teamId, Long competitionId) {
         Team team = teamRepository.findById(teamId)
                 .orElseThrow(() -> new TeamNotFoundException("Team with id " + teamId + " not found"));
 
-        Competition competition = competitionRepository.findById(competitionId)
+        // El nombre se lee antes de insertar: si el INSERT falla, la transacción no admite más consultas
+        String competitionName = competitionRepository.findNameById(competitionId)
                 .orElseThrow(() -> new TeamNotFoundException("Competition with id " + competitionId + " not found"));
 
-        // Validar que no esté ya registrado
-        if (teamRepository.existsByCompetition(teamId, competitionId)) {
+        // Se inserta directamente la fila de la relación si no existe, sin cargar los equipos de
+        // la competición ni las competiciones del equipo
+        if (!competitionTeamJdbcRepository.insertIfAbsent(competitionId, teamId)) {
             throw new TeamAlreadyRegisteredException(
-                    "Team '" + team.getName() + "' is already registered in competition '" + competition.getName() + "'"
+                    "Team '" + team.getName() + "' is already registered in competition '" + competitionName + "'"
             );
         }
+        return team;
+    }
 
-        // Registrar el equipo en la competición
-        team.getCompetitions().add(competition);
-        competition.getTeams().add(team);
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.COMPETITIONS, key = "#competitionId"),
+            @CacheEvict(cacheNames = CacheConfig.STANDINGS, key = "#competitionId")
+    })
+    @Transactional
+    @Override
+    public BulkRegistrationResultDTO registerTeamsToCompetition(Long competitionId, List<Long> teamIds) {
+        if (!competitionRepository.existsById(competitionId)) {
+            throw new CompetitionNotFoundException("Competition with id " + competitionId + " not found.");
+        }
 
-        // Guardar ambos para persistir la relación
-        competitionRepository.save(competition);
-        return teamRepository.save(team);
+        // Quitar repetidos manteniendo el orden de la petición
+        Set<Long> requested = new LinkedHashSet<>(teamIds);
+        Set<Long> existing = new HashSet<>(teamRepository.findExistingIds(requested));
+        Set<Long> registered = new HashSet<>(teamRepository.findRegisteredIds(competitionId, requested));
+
+        List<Long> toRegister = new ArrayList<>();
+        List<Long> alreadyRegistered = new ArrayList<>();
+        List<Long> notFound = new ArrayList<>();
+        for (Long teamId : requested) {
+            if (!existing.contains(teamId)) {
+                notFound.add(teamId);
+            } else if (registered.contains(teamId)) {
+                alreadyRegistered.add(teamId);
+            } else {
+                toRegister.add(teamId);
+            }
+        }
+
+        competitionTeamJdbcRepository.insert(competitionId, toRegister.stream().mapToLong(Long::longValue).toArray());
+
+        return BulkRegistrationResultDTO.builder()
+                .competitionId(competitionId)
+                .registered(toRegister)
+                .alreadyRegistered(alreadyRegistered)
+                .notFound(notFound)
+                .build();
     }
 
     @Override
@@ -59,8 +113,23 @@ public class TeamServiceImpl implements TeamService {
     }
 
     @Override
-    public Team getTeamById(Long id) {
-        return teamRepository.findById(id)
+    public List<TeamDTO> getTeamsAfter(Long afterId, int limit) {
+        return teamRepository.findDTOsAfter(afterId, Limit.of(limit));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void forEachTeam(Consumer<TeamDTO> action) {
+        try (Stream<TeamDTO> teams = teamRepository.streamAllDTOs()) {
+            teams.forEach(action);
+        }
+    }
+
+    // Como en las competiciones, se guarda el DTO inmutable y no la entidad
+    @Cacheable(cacheNames = CacheConfig.TEAMS, key = "#id")
+    @Override
+    public TeamDTO getTeamById(Long id) {
+        return teamRepository.findDTOById(id)
                 .orElseThrow(() -> new TeamNotFoundException("Team with id " + id + " not found"));
     }
 
@@ -0,0 +1,172 @@
+package com.um.gestioncompeticiones.standings;
+
+import com.um.gestioncompeticiones.dto.StandingDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Clasificación de una competición guardada en arrays indexados por el ordinal de cada equipo.
+ * <p>
+ * Cada resultado se suma con {@link #record} en tiempo constante, así que la tabla no necesita
+ * volver a recorrer los partidos. Una victoria vale {@value #POINTS_WIN} puntos y un empate
+ * {@value #POINTS_DRAW}. El orden es: puntos, diferencia de goles, goles a favor y nombre.
+ * </p>
+ * <p>
+ * Los IDs de los partidos ya sumados se guardan ordenados en un {@code long[]} por equipo local,
+ * así que la tabla ocupa 8 bytes por partido y nunca guarda más partidos que los de la competición.
+ * </p>
+ * <p>
+ * Los métodos están sincronizados porque la tabla se comparte entre peticiones.
+ * </p>
+ */
+public final class StandingsTable {
+
+    public static final int POINTS_WIN = 3;
+    public static final int POINTS_DRAW = 1;
+
+    private final long[] teamIds;
+    private final String[] teamNames;
+    private final Map<Long, Integer> ordinals;
+    private final int[] played;
+    private final int[] won;
+    private final int[] drawn;
+    private final int[] lost;
+    private final int[] goalsFor;
+    private final int[] goalsAgainst;
+    private final int[] points;
+    // Partidos ya sumados por ordinal del local (ordenados, los primeros recordedCount de cada
+    // array): registrar dos veces el mismo resultado no cambia la tabla
+    private final long[][] recordedMatches;
+    private final int[] recordedCount;
+
+    public StandingsTable(long[] teamIds, String[] teamNames) {
+        if (teamIds.length != teamNames.length) {
+            throw new IllegalArgumentException("Expected one name per team");
+        }
+        int teamCount = teamIds.length;
+        this.teamIds = teamIds.clone();
+        this.teamNames = teamNames.clone();
+        this.ordinals = new HashMap<>(teamCount * 2);
+        for (int i = 0; i < teamCount; i++) {
+            ordinals.put(teamIds[i], i);
+        }
+        this.played = new int[teamCount];
+        this.won = new int[teamCount];
+        this.drawn = new int[teamCount];
+        this.lost = new int[teamCount];
+        this.goalsFor = new int[teamCount];
+        this.goalsAgainst = new int[teamCount];
+        this.points = new int[teamCount];
+        this.recordedMatches = new long[teamCount][0];
+        this.recordedCount = new int[teamCount];
+    }
+
+    /**
+     * Suma el resultado de un partido.
+     *
+     * @param matchId   ID del partido
+     * @param homeId    ID del equipo local
+     * @param awayId    ID del equipo visitante
+     * @param homeGoals goles del local (0 si solo se conoce el ganador)
+     * @param awayGoals goles del visitante (0 si solo se conoce el ganador)
+     * @param winnerId  ID del ganador, o {@code null} si fue empate
+     * @return {@code false} si el partido ya estaba sumado o algún equipo no está en la tabla
+     */
+    public synchronized boolean record(long matchId, long homeId, long awayId,
+                                       int homeGoals, int awayGoals, Long winnerId) {
+        Integer home = ordinals.get(homeId);
+        Integer away = ordinals.get(awayId);
+        if (home == null || away == null || !markRecorded(home, matchId)) {
+            return false;
+        }
+        played[home]++;
+        played[away]++;
+        goalsFor[home] += homeGoals;
+        goalsAgainst[home] += awayGoals;
+        goalsFor[away] += awayGoals;
+        goalsAgainst[away] += homeGoals;
+        if (winnerId == null) {
+            drawn[home]++;
+            drawn[away]++;
+            points[home] += POINTS_DRAW;
+            points[away] += POINTS_DRAW;
+        } else {
+            int winner = winnerId == homeId ? home : away;
+            int loser = winner == home ? away : home;
+            won[winner]++;
+            lost[loser]++;
+            points[winner] += POINTS_WIN;
+        }
+        return true;
+    }
+
+    // Añade el partido a los del local si no estaba; los IDs suelen llegar en orden creciente,
+    // así que casi siempre se añade al final sin desplazar nada
+    private boolean markRecorded(int home, long matchId) {
+        long[] ids = recordedMatches[home];
+        int count = recordedCount[home];
+        int position = Arrays.binarySearch(ids, 0, count, matchId);
+        if (position >= 0) {
+            return false;
+        }
+        position = -position - 1;
+        if (count == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(4, count * 2));
+            recordedMatches[home] = ids;
+        }
+        System.arraycopy(ids, position, ids, position + 1, count - position);
+        ids[position] = matchId;
+        recordedCount[home] = count + 1;
+        return true;
+    }
+
+    public int teamCount() {
+        return teamIds.length;
+    }
+
+    /**
+     * Devuelve la clasificación ordenada. El coste depende solo del número de equipos.
+     */
+    public synchronized List<StandingDTO> snapshot() {
+        List<Integer> order = new ArrayList<>(teamIds.length);
+        for (int i = 0; i < teamIds.length; i++) {
+            order.add(i);
+        }
+        order.sort((a, b) -> {
+            if (points[a] != points[b]) {
+                return Integer.compare(points[b], points[a]);
+            }
+            int differenceA = goalsFor[a] - goalsAgainst[a];
+            int differenceB = goalsFor[b] - goalsAgainst[b];
+            if (differenceA != differenceB) {
+                return Integer.compare(differenceB, differenceA);
+            }
+            if (goalsFor[a] != goalsFor[b]) {
+                return Integer.compare(goalsFor[b], goalsFor[a]);
+            }
+            return teamNames[a].compareTo(teamNames[b]);
+        });
+
+        List<StandingDTO> standings = new ArrayList<>(teamIds.length);
+        for (int team : order) {
+            standings.add(StandingDTO.builder()
+                    .position(standings.size() + 1)
+                    .teamId(teamIds[team])
+                    .teamName(teamNames[team])
+                    .played(played[team])
+                    .won(won[team])
+                    .drawn(drawn[team])
+                    .lost(lost[team])
+                    .goalsFor(goalsFor[team])
+                    .goalsAgainst(goalsAgainst[team])
+                    .goalDifference(goalsFor[team] - goalsAgainst[team])
+                    .points(points[team])
+                    .build());
+        }
+        return standings;
+    }
+}
@@ -0,0 +1,122 @@
+package com.um.gestioncompeticiones.benchmark;
+
+import com.um.gestioncompeticiones.model.Competition;
+import com.um.gestioncompeticiones.model.Match;
+import com.um.gestioncompeticiones.model.Team;
+import com.um.gestioncompeticiones.repository.CompetitionRepository;
+import com.um.gestioncompeticiones.repository.MatchBatchRepository;
+import com.um.gestioncompeticiones.repository.MatchRepository;
+import com.um.gestioncompeticiones.repository.MatchRowBuffer;
+import com.um.gestioncompeticiones.repository.TeamRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compara la inserción de partidos con {@code saveAll} (un INSERT por fila por culpa de IDENTITY)
+ * frente a {@link MatchBatchRepository}. Se ejecuta con {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+public class MatchPersistenceBenchmarkTest {
+
+    private static final int ROWS = 50_000;
+    private static final int WARMUP_ROWS = 5_000;
+
+    @Autowired
+    private CompetitionRepository competitionRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private MatchBatchRepository matchBatchRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Competition competition;
+    private Team team1;
+    private Team team2;
+
+    @BeforeEach
+    void setUp() {
+        competition = competitionRepository.save(Competition.builder()
+                .name("Benchmark " + System.nanoTime())
+                .sport("Fútbol")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 12, 31))
+                .numberOfCourts(4)
+                .build());
+        team1 = teamRepository.save(Team.builder().name("Equipo A").build());
+        team2 = teamRepository.save(Team.builder().name("Equipo B").build());
+    }
+
+    // -------------------------------------------------
+    // Benchmark: saveAll frente a JDBC batch
+    // -------------------------------------------------
+    @Test
+    void compareSaveAllWithBatchInsert() {
+        // Calentamiento de ambos caminos
+        insertWithSaveAll(WARMUP_ROWS);
+        insertWithBatch(WARMUP_ROWS);
+
+        long before = matchRepository.count();
+        long saveAllNanos = insertWithSaveAll(ROWS);
+        long batchNanos = insertWithBatch(ROWS);
+
+        assertEquals(before + 2L * ROWS, matchRepository.count());
+
+        System.out.printf("saveAll     : %,d rows in %,d ms (%,.0f rows/s)%n",
+                ROWS, saveAllNanos / 1_000_000, ROWS * 1e9 / saveAllNanos);
+        System.out.printf("JDBC batch  : %,d rows in %,d ms (%,.0f rows/s)%n",
+                ROWS, batchNanos / 1_000_000, ROWS * 1e9 / batchNanos);
+    }
+
+    private long insertWithSaveAll(int rows) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Match> matches = new ArrayList<>(rows);
+            for (int i = 0; i < rows; i++) {
+                matches.add(Match.builder()
+                        .competition(competition)
+                        .team1(team1)
+                        .team2(team2)
+                        .matchDate(competition.getStartDate())
+                        .courtNumber(i % 4 + 1)
+                        .round(1)
+                        .build());
+            }
+            matchRepository.saveAll(matches);
+        });
+        return System.nanoTime() - start;
+    }
+
+    private long insertWithBatch(int rows) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            MatchRowBuffer buffer = new MatchRowBuffer(MatchBatchRepository.DEFAULT_BATCH_SIZE);
+            for (int i = 0; i < rows; i++) {
+                buffer.add(team1.getId(), team2.getId(), competition.getStartDate(), i % 4 + 1, 0, 1, -1);
+                if (buffer.isFull()) {
+                    matchBatchRepository.insert(competition.getId(), buffer);
+                    buffer.clear();
+                }
+            }
+            matchBatchRepository.insert(competition.getId(), buffer);
+        });
+        return System.nanoTime() - start;
+    }
+}
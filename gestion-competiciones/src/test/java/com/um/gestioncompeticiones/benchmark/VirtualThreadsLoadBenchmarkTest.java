@@ -0,0 +1,160 @@
+package com.um.gestioncompeticiones.benchmark;
+
+import com.um.gestioncompeticiones.GestionCompeticionesApplication;
+import com.um.gestioncompeticiones.model.Competition;
+import com.um.gestioncompeticiones.model.Team;
+import com.um.gestioncompeticiones.repository.CompetitionRepository;
+import com.um.gestioncompeticiones.repository.TeamRepository;
+import com.um.gestioncompeticiones.service.MatchService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Prueba de carga de los endpoints de lectura con hilos de plataforma (pool de Tomcat) frente a
+ * hilos virtuales (perfil {@code virtual-threads}). Cada modo arranca la aplicación completa en un
+ * puerto libre y recibe {@value #REQUESTS} peticiones con {@value #CONCURRENCY} en vuelo a la vez.
+ * <p>
+ * La parte de hilos virtuales solo se ejecuta con Java 21:
+ * {@code mvn -Pjava21,benchmark test -Dtest=VirtualThreadsLoadBenchmarkTest} con un JDK 21.
+ * </p>
+ */
+@Tag("benchmark")
+public class VirtualThreadsLoadBenchmarkTest {
+
+    private static final int CONCURRENCY = 1_000;
+    private static final int REQUESTS = 20_000;
+    private static final int WARMUP_REQUESTS = 2_000;
+    private static final int TEAMS = 20;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+
+    // -------------------------------------------------
+    // Benchmark: hilos de plataforma frente a hilos virtuales
+    // -------------------------------------------------
+    @Test
+    void compareThreadModelsUnderLoad() throws Exception {
+        LoadResult platform = run(false);
+        System.out.println("platform threads : " + platform);
+
+        if (Runtime.version().feature() < 21) {
+            System.out.println("virtual threads  : skipped, Java " + Runtime.version().feature() + " < 21");
+            return;
+        }
+        LoadResult virtual = run(true);
+        System.out.println("virtual threads  : " + virtual);
+        System.out.printf("throughput gain  : %.2fx%n", virtual.throughput() / platform.throughput());
+    }
+
+    private LoadResult run(boolean virtualThreads) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(GestionCompeticionesApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:load-" + virtualThreads,
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.um.gestioncompeticiones=WARN",
+                        // Mismo pool de conexiones en ambos modos: solo cambia el modelo de hilos
+                        "spring.datasource.hikari.maximum-pool-size=20");
+        if (virtualThreads) {
+            builder.profiles("virtual-threads");
+        }
+
+        try (ConfigurableApplicationContext context = builder.run()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            List<URI> targets = seed(context, baseUrl);
+
+            fire(targets, WARMUP_REQUESTS);
+            return fire(targets, REQUESTS);
+        }
+    }
+
+    // Una competición con calendario completo: se consultan la competición, sus equipos y sus partidos
+    private List<URI> seed(ConfigurableApplicationContext context, String baseUrl) {
+        CompetitionRepository competitionRepository = context.getBean(CompetitionRepository.class);
+        TeamRepository teamRepository = context.getBean(TeamRepository.class);
+
+        Set<Team> teams = new HashSet<>();
+        for (int i = 0; i < TEAMS; i++) {
+            teams.add(teamRepository.save(Team.builder().name("Carga " + i).build()));
+        }
+        Competition competition = competitionRepository.save(Competition.builder()
+                .name("Carga " + System.nanoTime())
+                .sport("Pádel")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 12, 31))
+                .numberOfCourts(4)
+                .teams(teams)
+                .build());
+        context.getBean(MatchService.class).generateFullSchedule(competition.getId(), false);
+
+        String competitionUrl = baseUrl + "/api/competitions/" + competition.getId();
+        return List.of(
+                URI.create(competitionUrl),
+                URI.create(competitionUrl + "/teams"),
+                URI.create(competitionUrl + "/matches"),
+                URI.create(competitionUrl + "/matches/unassigned-teams"));
+    }
+
+    private LoadResult fire(List<URI> targets, int requests) throws Exception {
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        AtomicInteger errors = new AtomicInteger();
+        long[] latencies = new long[requests];
+        List<CompletableFuture<?>> pending = new ArrayList<>(requests);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            int index = i;
+            long sent = System.nanoTime();
+            HttpRequest request = HttpRequest.newBuilder(targets.get(i % targets.size())).GET().build();
+            pending.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, ex) -> {
+                        latencies[index] = System.nanoTime() - sent;
+                        if (ex != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                        inFlight.release();
+                    }));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).exceptionally(ex -> null).join();
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals(0, errors.get(), "Failed requests");
+        Arrays.sort(latencies);
+        return new LoadResult(requests, elapsed,
+                latencies[requests / 2], latencies[(int) (requests * 0.99)]);
+    }
+
+    private record LoadResult(int requests, long elapsedNanos, long p50Nanos, long p99Nanos) {
+
+        double throughput() {
+            return requests * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,d requests in %,d ms (%,.0f req/s, p50 %,d ms, p99 %,d ms)",
+                    requests, elapsedNanos / 1_000_000, throughput(), p50Nanos / 1_000_000, p99Nanos / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.um.gestioncompeticiones.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvWriterTest {
+
+    private final CsvWriter csvWriter = new CsvWriter();
+
+    // -------------------------------------------------
+    // Test: Cabecera, filas y valores nulos
+    // -------------------------------------------------
+    @Test
+    void streamWritesHeaderAndRows() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = csvWriter.<Object[]>stream("partidos.csv",
+                new String[]{"id", "date", "winner"},
+                row -> row,
+                action -> List.of(
+                        new Object[]{1L, LocalDate.of(2025, 10, 20), 7L},
+                        new Object[]{2L, LocalDate.of(2025, 10, 21), null}).forEach(action));
+
+        assertEquals(CsvWriter.TEXT_CSV, response.getHeaders().getContentType());
+        assertEquals("attachment; filename=\"partidos.csv\"",
+                response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION));
+        assertEquals("id,date,winner\r\n1,2025-10-20,7\r\n2,2025-10-21,\r\n", write(response));
+    }
+
+    // -------------------------------------------------
+    // Test: Comas, comillas y saltos de línea se escapan según RFC 4180
+    // -------------------------------------------------
+    @Test
+    void streamQuotesSpecialCharacters() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = csvWriter.<String>stream("equipos.csv",
+                new String[]{"name"},
+                name -> new Object[]{name},
+                action -> List.of("Real, C.F.", "Los \"Tigres\"", "Línea\nDoble", "Pádel").forEach(action));
+
+        assertEquals("name\r\n\"Real, C.F.\"\r\n\"Los \"\"Tigres\"\"\"\r\n\"Línea\nDoble\"\r\nPádel\r\n",
+                write(response));
+    }
+
+    // -------------------------------------------------
+    // Test: Los textos que empiezan como una fórmula se neutralizan; los números no
+    // -------------------------------------------------
+    @Test
+    void streamEscapesFormulas() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = csvWriter.<Object>stream("equipos.csv",
+                new String[]{"value"},
+                value -> new Object[]{value},
+                action -> List.<Object>of("=1+1", "+34 600", "-Bajo-", "@SUM(A1)", "\tTab",
+                        "=HYPERLINK(\"http://x\",\"y\")", -3, "Real=Madrid").forEach(action));
+
+        assertEquals("value\r\n'=1+1\r\n'+34 600\r\n'-Bajo-\r\n'@SUM(A1)\r\n'\tTab\r\n"
+                        + "\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\"\r\n-3\r\nReal=Madrid\r\n",
+                write(response));
+    }
+
+    // -------------------------------------------------
+    // Test: Las filas llegan al cliente por bloques mientras se leen, sin esperar al final
+    // -------------------------------------------------
+    @Test
+    void streamFlushesWhileRowsArrive() throws IOException {
+        int rows = 100_000;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int[] writtenBeforeFlush = new int[1];
+        int[] writtenAfterFlush = new int[1];
+        ResponseEntity<StreamingResponseBody> response = csvWriter.<Integer>stream("numeros.csv",
+                new String[]{"n"},
+                n -> new Object[]{n},
+                action -> IntStream.range(0, rows).forEach(n -> {
+                    action.accept(n);
+                    if (n == CsvWriter.FLUSH_EVERY - 2) {
+                        writtenBeforeFlush[0] = out.size();
+                    } else if (n == CsvWriter.FLUSH_EVERY - 1) {
+                        writtenAfterFlush[0] = out.size();
+                    }
+                }));
+
+        response.getBody().writeTo(out);
+
+        // Nada sale hasta completar el primer bloque, que se envía entero en cuanto se completa
+        String csv = out.toString(StandardCharsets.UTF_8);
+        String firstBlock = "n\r\n" + IntStream.range(0, CsvWriter.FLUSH_EVERY)
+                .mapToObj(n -> n + "\r\n")
+                .collect(Collectors.joining());
+        assertEquals(0, writtenBeforeFlush[0]);
+        assertEquals(firstBlock.length(), writtenAfterFlush[0]);
+        assertEquals(rows + 1, csv.split("\r\n").length);
+        assertTrue(csv.startsWith(firstBlock));
+        assertTrue(csv.endsWith("99999\r\n"));
+    }
+
+    private static String write(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
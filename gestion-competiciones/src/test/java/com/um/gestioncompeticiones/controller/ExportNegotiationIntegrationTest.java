@@ -0,0 +1,94 @@
+package com.um.gestioncompeticiones.controller;
+
+import com.um.gestioncompeticiones.dto.CompetitionCreateDTO;
+import com.um.gestioncompeticiones.service.CompetitionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Negociación de contenido de los endpoints de exportación: los formatos CSV y NDJSON solo los
+ * sirven esos endpoints, y sus errores llegan como JSON.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ExportNegotiationIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private CompetitionService competitionService;
+
+    // -------------------------------------------------
+    // Test: CSV de una competición inexistente -> 404 en JSON
+    // -------------------------------------------------
+    @Test
+    void csvOfMissingCompetitionIsJsonNotFound() {
+        ResponseEntity<String> response = get("/api/competitions/999999/matches", CsvWriter.TEXT_CSV);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(response.getHeaders().getContentType()));
+        assertTrue(response.getBody().contains("CompetitionNotFound"));
+    }
+
+    // -------------------------------------------------
+    // Test: un endpoint JSON no se sirve como CSV
+    // -------------------------------------------------
+    @Test
+    void jsonEndpointIsNotServedAsCsv() {
+        ResponseEntity<String> response = get("/api/teams", CsvWriter.TEXT_CSV);
+
+        assertEquals(HttpStatus.NOT_ACCEPTABLE, response.getStatusCode());
+    }
+
+    // -------------------------------------------------
+    // Test: NDJSON de una competición inexistente -> 404 en JSON
+    // -------------------------------------------------
+    @Test
+    void ndjsonOfMissingCompetitionIsJsonNotFound() {
+        for (String url : List.of("/api/competitions/999999/matches", "/api/competitions/999999/teams")) {
+            ResponseEntity<String> response = get(url, MediaType.APPLICATION_NDJSON);
+
+            assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode(), url);
+            assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(response.getHeaders().getContentType()), url);
+            assertTrue(response.getBody().contains("CompetitionNotFound"), url);
+        }
+    }
+
+    // -------------------------------------------------
+    // Test: un endpoint JSON no se sirve como NDJSON
+    // -------------------------------------------------
+    @Test
+    void jsonEndpointIsNotServedAsNdjson() {
+        Long competitionId = competitionService.createCompetition(CompetitionCreateDTO.builder()
+                .name("Liga Negociación " + System.nanoTime())
+                .sport("Fútbol")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 12, 31))
+                .numberOfCourts(2)
+                .build()).getId();
+
+        ResponseEntity<String> response = get("/api/competitions/" + competitionId + "/matches/unassigned-teams",
+                MediaType.APPLICATION_NDJSON);
+
+        assertEquals(HttpStatus.NOT_ACCEPTABLE, response.getStatusCode());
+    }
+
+    private ResponseEntity<String> get(String url, MediaType accept) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(accept));
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+}
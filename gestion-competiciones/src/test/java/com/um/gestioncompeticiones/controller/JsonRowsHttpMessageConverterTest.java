@@ -0,0 +1,105 @@
+package com.um.gestioncompeticiones.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.um.gestioncompeticiones.dto.MatchDTO;
+import com.um.gestioncompeticiones.dto.StandingDTO;
+import com.um.gestioncompeticiones.dto.TeamDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonRowsHttpMessageConverterTest {
+
+    private static final Type MATCH_LIST = new ParameterizedTypeReference<List<MatchDTO>>() {}.getType();
+    private static final Type TEAM_LIST = new ParameterizedTypeReference<List<TeamDTO>>() {}.getType();
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final JsonRowsHttpMessageConverter converter = new JsonRowsHttpMessageConverter(objectMapper);
+
+    private final List<MatchDTO> matches = List.of(
+            new MatchDTO(1L, 7L, 10L, "Equipo \"A\"", 11L, "Línea\nDoble",
+                    LocalDate.of(2025, 10, 20), 2, 3, 1, 10L, 2, 1),
+            new MatchDTO(2L, 7L, 12L, "Equipo C", 13L, null,
+                    null, 1, null, null, null, null, null),
+            new MatchDTO(3L, 7L, 14L, "Equipo E", 15L, "Equipo F",
+                    LocalDate.of(10000, 1, 5), 1, 0, 2, null, 0, 0));
+
+    // -------------------------------------------------
+    // Test: La salida coincide con la de Jackson (orden, nulos, fechas y escapado)
+    // -------------------------------------------------
+    @Test
+    void writesSameJsonAsJackson() throws IOException {
+        List<TeamDTO> teams = List.of(new TeamDTO(1L, "Real, C.F."), new TeamDTO(2L, null));
+
+        assertEquals(objectMapper.writeValueAsString(matches), write(matches, MATCH_LIST));
+        assertEquals(objectMapper.writeValueAsString(teams), write(teams, TEAM_LIST));
+        assertEquals("[]", write(List.of(), MATCH_LIST));
+    }
+
+    // -------------------------------------------------
+    // Test: Un RowStream se escribe fila a fila como array JSON
+    // -------------------------------------------------
+    @Test
+    void writesRowStream() throws IOException {
+        RowStream<MatchDTO> rows = new RowStream<>(MatchDTO.class, matches::forEach);
+
+        assertEquals(objectMapper.writeValueAsString(matches), write(rows, RowStream.class));
+    }
+
+    // -------------------------------------------------
+    // Test: Si la fuente falla a mitad, el error se propaga y no se cierra el array
+    // -------------------------------------------------
+    @Test
+    void rowStreamFailureAbortsOutput() {
+        RowStream<MatchDTO> rows = new RowStream<>(MatchDTO.class, action -> {
+            action.accept(matches.get(0));
+            throw new IllegalStateException("connection lost");
+        });
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        IllegalStateException error = assertThrows(IllegalStateException.class,
+                () -> converter.write(rows, RowStream.class, MediaType.APPLICATION_JSON, output));
+
+        assertEquals("connection lost", error.getMessage());
+        assertFalse(output.getBodyAsString(StandardCharsets.UTF_8).endsWith("]"));
+    }
+
+    // -------------------------------------------------
+    // Test: Solo acepta listas de partidos y equipos en JSON; el resto queda para Jackson
+    // -------------------------------------------------
+    @Test
+    void canWriteOnlyMatchAndTeamLists() {
+        assertTrue(converter.canWrite(MATCH_LIST, List.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(TEAM_LIST, List.class, null));
+        assertTrue(converter.canWrite(RowStream.class, RowStream.class, MediaType.APPLICATION_JSON));
+
+        Type standings = new ParameterizedTypeReference<List<StandingDTO>>() {}.getType();
+        assertFalse(converter.canWrite(standings, List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(List.class, List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(MatchDTO.class, MatchDTO.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(MATCH_LIST, List.class, MediaType.APPLICATION_NDJSON));
+        assertFalse(converter.canRead(MATCH_LIST, null, MediaType.APPLICATION_JSON));
+    }
+
+    private String write(Object body, Type type) throws IOException {
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        converter.write(body, type, MediaType.APPLICATION_JSON, output);
+        assertEquals(MediaType.APPLICATION_JSON, output.getHeaders().getContentType());
+        return output.getBodyAsString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,92 @@
+package com.um.gestioncompeticiones.importer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImportRecordReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // -------------------------------------------------
+    // Test: CSV con cabecera, comillas, saltos de línea y campos vacíos
+    // -------------------------------------------------
+    @Test
+    void readCsvRecords() throws IOException {
+        List<ImportRecord> records = readAll(ImportFormat.CSV,
+                "﻿name,sport\r\n"
+                        + "Liga A,Fútbol\r\n"
+                        + "\"Copa, \"\"B\"\"\",Pádel\n"
+                        + "\"Liga\nLarga\",\n"
+                        + "\n"
+                        + "Torneo C,Tenis");
+
+        assertEquals(4, records.size());
+        assertEquals(2, records.get(0).getLine());
+        assertEquals("Liga A", records.get(0).getValues().get("name").asText());
+        assertEquals("Copa, \"B\"", records.get(1).getValues().get("name").asText());
+        assertEquals("Liga\nLarga", records.get(2).getValues().get("name").asText());
+        assertFalse(records.get(2).getValues().has("sport"));
+        // El salto de línea dentro de las comillas y la línea en blanco cuentan para el número de línea
+        assertEquals(7, records.get(3).getLine());
+        assertEquals("Tenis", records.get(3).getValues().get("sport").asText());
+    }
+
+    // -------------------------------------------------
+    // Test: Filas CSV mal formadas se devuelven con su error
+    // -------------------------------------------------
+    @Test
+    void readCsvMalformedRows() throws IOException {
+        List<ImportRecord> records = readAll(ImportFormat.CSV,
+                "name,sport\n"
+                        + "Liga A\n"
+                        + "Liga B,Fútbol\n"
+                        + "\"Sin cerrar,Tenis\n");
+
+        assertEquals(3, records.size());
+        assertEquals("Expected 2 columns but found 1", records.get(0).getError());
+        assertNull(records.get(1).getError());
+        assertEquals(4, records.get(2).getLine());
+        assertEquals("Unterminated quoted field", records.get(2).getError());
+    }
+
+    // -------------------------------------------------
+    // Test: NDJSON con líneas en blanco, JSON inválido y valores que no son objetos
+    // -------------------------------------------------
+    @Test
+    void readNdjsonRecords() throws IOException {
+        List<ImportRecord> records = readAll(ImportFormat.NDJSON,
+                "{\"name\":\"Equipo A\"}\n"
+                        + "\n"
+                        + "{\"name\":\n"
+                        + "[1,2]\n"
+                        + "{\"name\":\"Equipo B\"}");
+
+        assertEquals(4, records.size());
+        assertEquals("Equipo A", records.get(0).getValues().get("name").asText());
+        assertEquals(3, records.get(1).getLine());
+        assertTrue(records.get(1).getError().startsWith("Malformed JSON"));
+        assertEquals("Expected a JSON object", records.get(2).getError());
+        assertEquals(5, records.get(3).getLine());
+        assertEquals("Equipo B", records.get(3).getValues().get("name").asText());
+    }
+
+    private List<ImportRecord> readAll(ImportFormat format, String content) throws IOException {
+        List<ImportRecord> records = new ArrayList<>();
+        try (ImportRecordReader reader = ImportRecordReader.open(
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), format, objectMapper)) {
+            ImportRecord record;
+            while ((record = reader.next()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
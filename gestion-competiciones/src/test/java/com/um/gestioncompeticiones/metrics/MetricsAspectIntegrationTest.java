@@ -0,0 +1,114 @@
+package com.um.gestioncompeticiones.metrics;
+
+import com.um.gestioncompeticiones.dto.CompetitionCreateDTO;
+import com.um.gestioncompeticiones.dto.TeamCreateDTO;
+import com.um.gestioncompeticiones.exception.competition.CompetitionNotFoundException;
+import com.um.gestioncompeticiones.model.Competition;
+import com.um.gestioncompeticiones.model.Team;
+import com.um.gestioncompeticiones.service.CompetitionService;
+import com.um.gestioncompeticiones.service.MatchService;
+import com.um.gestioncompeticiones.service.TeamService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class MetricsAspectIntegrationTest {
+
+    @Autowired
+    private CompetitionService competitionService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    // -------------------------------------------------
+    // Test: Las llamadas a servicios y repositorios quedan medidas
+    // -------------------------------------------------
+    @Test
+    void serviceAndRepositoryCallsAreTimed() {
+        Competition competition = createCompetition("Liga Métricas ");
+        long before = count(MetricsAspect.SERVICE_TIMER, "CompetitionServiceImpl", "getTeamsByCompetitionAfter", "none");
+
+        competitionService.getTeamsByCompetitionAfter(competition.getId(), 0L, 10);
+
+        assertEquals(before + 1,
+                count(MetricsAspect.SERVICE_TIMER, "CompetitionServiceImpl", "getTeamsByCompetitionAfter", "none"));
+        assertNotNull(registry.find(MetricsAspect.REPOSITORY_TIMER)
+                .tag("class", "CompetitionRepository")
+                .timer());
+    }
+
+    // -------------------------------------------------
+    // Test: Las excepciones se etiquetan con su clase
+    // -------------------------------------------------
+    @Test
+    void failedCallsAreTaggedWithException() {
+        long before = count(MetricsAspect.SERVICE_TIMER, "CompetitionServiceImpl", "getCompetitionById",
+                "CompetitionNotFoundException");
+
+        assertThrows(CompetitionNotFoundException.class, () -> competitionService.getCompetitionById(-1L));
+
+        assertEquals(before + 1, count(MetricsAspect.SERVICE_TIMER, "CompetitionServiceImpl", "getCompetitionById",
+                "CompetitionNotFoundException"));
+    }
+
+    // -------------------------------------------------
+    // Test: Se registran las filas devueltas y los partidos generados
+    // -------------------------------------------------
+    @Test
+    void rowsAndGeneratedMatchesAreRecorded() {
+        Competition competition = createCompetition("Liga Filas ");
+        for (int i = 0; i < 4; i++) {
+            Team team = teamService.createTeam(TeamCreateDTO.builder().name("Métricas " + System.nanoTime()).build());
+            teamService.registerTeamToCompetition(team.getId(), competition.getId());
+        }
+
+        matchService.generateFirstRound(competition.getId());
+        matchService.getMatchDTOsByCompetition(competition.getId());
+
+        DistributionSummary generated = registry.find(MetricsAspect.GENERATED_MATCHES)
+                .tag("method", "generateFirstRound")
+                .summary();
+        assertNotNull(generated);
+        assertTrue(generated.max() >= 2);
+
+        DistributionSummary rows = registry.find(MetricsAspect.REPOSITORY_ROWS)
+                .tag("class", "MatchRepository")
+                .tag("method", "findDTOsByCompetitionId")
+                .summary();
+        assertNotNull(rows);
+        assertTrue(rows.max() >= 2);
+    }
+
+    private Competition createCompetition(String prefix) {
+        return competitionService.createCompetition(CompetitionCreateDTO.builder()
+                .name(prefix + System.nanoTime())
+                .sport("Fútbol")
+                .startDate(LocalDate.of(2025, 10, 20))
+                .endDate(LocalDate.of(2025, 10, 25))
+                .numberOfCourts(2)
+                .build());
+    }
+
+    private long count(String name, String className, String method, String exception) {
+        Timer timer = registry.find(name)
+                .tag("class", className)
+                .tag("method", method)
+                .tag("exception", exception)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
@@ -0,0 +1,45 @@
+package com.um.gestioncompeticiones.metrics;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Aserciones sobre el número de sentencias SQL, para que un N+1 rompa el test en lugar de llegar a
+ * producción. El límite debe ser fijo: no puede crecer con el número de filas devueltas.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /**
+     * Ejecuta {@code action} y falla si lanza más de {@code maxQueries} sentencias SQL.
+     */
+    public static <T> T assertMaxQueries(QueryCounter queryCounter, int maxQueries, Supplier<T> action) {
+        queryCounter.start();
+        T result;
+        int queries;
+        try {
+            result = action.get();
+        } finally {
+            queries = queryCounter.stop();
+        }
+        assertTrue(queries <= maxQueries,
+                () -> "Expected at most " + maxQueries + " SQL statements but " + queries + " were executed");
+        return result;
+    }
+
+    /**
+     * Falla si la respuesta no trae la cabecera de recuento o si supera {@code maxQueries}.
+     */
+    public static void assertMaxQueries(ResponseEntity<?> response, int maxQueries) {
+        String header = response.getHeaders().getFirst(QueryCountFilter.QUERY_COUNT_HEADER);
+        assertNotNull(header, "Missing " + QueryCountFilter.QUERY_COUNT_HEADER + " header");
+        int queries = Integer.parseInt(header);
+        assertTrue(queries <= maxQueries,
+                () -> "Expected at most " + maxQueries + " SQL statements but " + queries + " were executed");
+    }
+}
@@ -0,0 +1,155 @@
+package com.um.gestioncompeticiones.metrics;
+
+import com.um.gestioncompeticiones.dto.CompetitionCreateDTO;
+import com.um.gestioncompeticiones.dto.TeamCreateDTO;
+import com.um.gestioncompeticiones.model.Competition;
+import com.um.gestioncompeticiones.service.CompetitionService;
+import com.um.gestioncompeticiones.service.MatchService;
+import com.um.gestioncompeticiones.service.TeamService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.um.gestioncompeticiones.metrics.QueryCountAssertions.assertMaxQueries;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Límites de sentencias SQL de los endpoints de lectura. Los partidos y equipos se leen con
+ * proyecciones a DTO, así que el número de sentencias no depende del tamaño de la competición.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class QueryCountIntegrationTest {
+
+    private static final int TEAMS = 12;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private CompetitionService competitionService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    private Long competitionId;
+
+    @BeforeEach
+    void setUp() {
+        Competition competition = competitionService.createCompetition(CompetitionCreateDTO.builder()
+                .name("Liga Consultas " + System.nanoTime())
+                .sport("Fútbol")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 12, 31))
+                .numberOfCourts(4)
+                .build());
+        competitionId = competition.getId();
+
+        List<Long> teamIds = new ArrayList<>();
+        for (int i = 0; i < TEAMS; i++) {
+            teamIds.add(teamService.createTeam(TeamCreateDTO.builder()
+                    .name("Consultas " + System.nanoTime())
+                    .build()).getId());
+        }
+        teamService.registerTeamsToCompetition(competitionId, teamIds);
+        matchService.generateFullSchedule(competitionId, false);
+    }
+
+    // -------------------------------------------------
+    // Test: Listar los partidos es una sola consulta, sin N+1
+    // -------------------------------------------------
+    @Test
+    void getMatchesRunsSingleQuery() {
+        assertMaxQueries(getJson("/api/competitions/{id}/matches?limit=50"), 1);
+
+        // El listado completo se consulta mientras se escribe: sin cabecera, se acota con la métrica
+        ResponseEntity<String> response = getJson("/api/competitions/{id}/matches");
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(response.getHeaders().getFirst(QueryCountFilter.QUERY_COUNT_HEADER));
+        DistributionSummary summary = registry.find(QueryCountFilter.QUERIES_METRIC)
+                .tag("uri", "/api/competitions/{competitionId}/matches")
+                .summary();
+        assertNotNull(summary);
+        assertTrue(summary.max() <= 1, "Expected at most 1 query but was " + summary.max());
+    }
+
+    // -------------------------------------------------
+    // Test: El listado completo de una competición inexistente sigue siendo un 404
+    // -------------------------------------------------
+    @Test
+    void getMatchesOfMissingCompetitionIsNotFound() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        ResponseEntity<String> response = restTemplate.exchange("/api/competitions/{id}/matches", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class, Long.MAX_VALUE);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertFalse(response.getBody().startsWith("["));
+    }
+
+    // -------------------------------------------------
+    // Test: Listar los equipos y los no asignados no depende del número de equipos
+    // -------------------------------------------------
+    @Test
+    void teamEndpointsHaveBoundedQueries() {
+        assertMaxQueries(getJson("/api/competitions/{id}/teams"), 2);
+        assertMaxQueries(getJson("/api/competitions/{id}/matches/unassigned-teams"), 2);
+    }
+
+    // -------------------------------------------------
+    // Test: Las llamadas a servicio también se pueden acotar
+    // -------------------------------------------------
+    @Test
+    void serviceCallsCanBeBounded() {
+        assertMaxQueries(queryCounter, 1, () -> matchService.getMatchDTOsByCompetition(competitionId));
+
+        assertThrows(AssertionFailedError.class,
+                () -> assertMaxQueries(queryCounter, 0, () -> matchService.getMatchDTOsByCompetition(competitionId)));
+    }
+
+    // -------------------------------------------------
+    // Test: El recuento por petición se publica como métrica
+    // -------------------------------------------------
+    @Test
+    void queriesPerRequestAreRecorded() {
+        getJson("/api/competitions/{id}/matches");
+
+        DistributionSummary summary = registry.find(QueryCountFilter.QUERIES_METRIC)
+                .tag("uri", "/api/competitions/{competitionId}/matches")
+                .tag("method", "GET")
+                .summary();
+        assertNotNull(summary);
+        assertTrue(summary.count() >= 1);
+    }
+
+    // Los mismos endpoints sirven NDJSON en streaming, que no lleva la cabecera de recuento
+    private ResponseEntity<String> getJson(String url) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class, competitionId);
+    }
+}
@@ -0,0 +1,49 @@
+package com.um.gestioncompeticiones.repository;
+
+import com.um.gestioncompeticiones.dto.CompetitionCreateDTO;
+import com.um.gestioncompeticiones.model.Competition;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(CompetitionBatchRepository.class)
+public class CompetitionBatchRepositoryTest {
+
+    @Autowired
+    private CompetitionBatchRepository competitionBatchRepository;
+
+    // -------------------------------------------------
+    // Test: Un nombre repetido en el lote llega con el nombre de la restricción
+    // -------------------------------------------------
+    @Test
+    void insertDuplicateNameReportsConstraint() {
+        competitionBatchRepository.insert(List.of(competition("Liga Lote")));
+
+        DataIntegrityViolationException e = assertThrows(DataIntegrityViolationException.class,
+                () -> competitionBatchRepository.insert(List.of(competition("Copa Lote"), competition("Liga Lote"))));
+
+        ConstraintViolationException violation = assertInstanceOf(ConstraintViolationException.class, e.getCause());
+        assertEquals(ConstraintViolationException.ConstraintKind.UNIQUE, violation.getKind());
+        assertTrue(violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Competition.NAME_CONSTRAINT));
+    }
+
+    private CompetitionCreateDTO competition(String name) {
+        return CompetitionCreateDTO.builder()
+                .name(name)
+                .sport("Fútbol")
+                .startDate(LocalDate.of(2025, 1, 1))
+                .endDate(LocalDate.of(2025, 6, 30))
+                .numberOfCourts(2)
+                .build();
+    }
+}
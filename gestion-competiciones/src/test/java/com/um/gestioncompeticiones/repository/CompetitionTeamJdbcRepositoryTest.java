@@ -0,0 +1,42 @@
+package com.um.gestioncompeticiones.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(CompetitionTeamJdbcRepository.class)
+public class CompetitionTeamJdbcRepositoryTest {
+
+    @Autowired
+    private CompetitionTeamJdbcRepository competitionTeamJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // -------------------------------------------------
+    // Test: Una inscripción repetida no inserta nada ni hace fallar la transacción
+    // -------------------------------------------------
+    @Test
+    void insertIfAbsentSkipsRegisteredTeam() {
+        jdbcTemplate.update("""
+                INSERT INTO competitions (name, sport, start_date, end_date, number_of_courts, min_rest_days)
+                VALUES ('Liga Inscripciones', 'Fútbol', DATE '2025-01-01', DATE '2025-06-30', 2, 0)""");
+        jdbcTemplate.update("INSERT INTO teams (name) VALUES ('Equipo Inscrito')");
+        long competitionId = jdbcTemplate.queryForObject(
+                "SELECT id FROM competitions WHERE name = 'Liga Inscripciones'", Long.class);
+        long teamId = jdbcTemplate.queryForObject("SELECT id FROM teams WHERE name = 'Equipo Inscrito'", Long.class);
+
+        assertTrue(competitionTeamJdbcRepository.insertIfAbsent(competitionId, teamId));
+        assertFalse(competitionTeamJdbcRepository.insertIfAbsent(competitionId, teamId));
+
+        // La transacción sigue admitiendo consultas tras el repetido
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM competition_team WHERE competition_id = ? AND team_id = ?",
+                Integer.class, competitionId, teamId));
+    }
+}
@@ -0,0 +1,101 @@
+package com.um.gestioncompeticiones.repository;
+
+import com.um.gestioncompeticiones.dto.MatchDTO;
+import com.um.gestioncompeticiones.model.Competition;
+import com.um.gestioncompeticiones.model.Match;
+import com.um.gestioncompeticiones.model.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+public class MatchRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    private Team team1;
+    private Match homeLeague;
+    private Match awayCup;
+    private Match homeCup;
+
+    @BeforeEach
+    void setUp() {
+        team1 = entityManager.persist(Team.builder().name("Equipo A").build());
+        Team team2 = entityManager.persist(Team.builder().name("Equipo B").build());
+        Team team3 = entityManager.persist(Team.builder().name("Equipo C").build());
+
+        Competition league = entityManager.persist(competition("Liga Primavera", Set.of(team1, team2, team3)));
+        Competition cup = entityManager.persist(competition("Copa Verano", Set.of(team1, team2, team3)));
+
+        // Se guardan desordenados por fecha para comprobar el orden del resultado
+        homeCup = entityManager.persist(match(cup, team1, team3, LocalDate.of(2025, 10, 24)));
+        homeLeague = entityManager.persist(match(league, team1, team2, LocalDate.of(2025, 10, 20)));
+        awayCup = entityManager.persist(match(cup, team3, team1, LocalDate.of(2025, 10, 22)));
+        // Partido sin el equipo: no debe aparecer
+        entityManager.persist(match(league, team2, team3, LocalDate.of(2025, 10, 21)));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // -------------------------------------------------
+    // Test: Calendario de un equipo como local y visitante en todas sus competiciones
+    // -------------------------------------------------
+    @Test
+    void findDTOsByTeamIdOk() {
+        List<MatchDTO> result = matchRepository.findDTOsByTeamId(team1.getId(), null, null);
+
+        assertEquals(List.of(homeLeague.getId(), awayCup.getId(), homeCup.getId()),
+                result.stream().map(MatchDTO::id).toList());
+        assertEquals("Equipo C", result.get(1).team1Name());
+        assertEquals("Equipo A", result.get(1).team2Name());
+    }
+
+    // -------------------------------------------------
+    // Test: Calendario de un equipo entre dos fechas (ambas incluidas)
+    // -------------------------------------------------
+    @Test
+    void findDTOsByTeamIdDateRange() {
+        List<MatchDTO> result = matchRepository.findDTOsByTeamId(
+                team1.getId(), LocalDate.of(2025, 10, 21), LocalDate.of(2025, 10, 24));
+
+        assertEquals(List.of(awayCup.getId(), homeCup.getId()), result.stream().map(MatchDTO::id).toList());
+
+        assertEquals(List.of(homeLeague.getId()), matchRepository.findDTOsByTeamId(
+                team1.getId(), null, LocalDate.of(2025, 10, 20)).stream().map(MatchDTO::id).toList());
+    }
+
+    private Competition competition(String name, Set<Team> teams) {
+        return Competition.builder()
+                .name(name)
+                .sport("Fútbol")
+                .startDate(LocalDate.of(2025, 10, 20))
+                .endDate(LocalDate.of(2025, 10, 25))
+                .numberOfCourts(1)
+                .teams(new HashSet<>(teams))
+                .build();
+    }
+
+    private Match match(Competition competition, Team team1, Team team2, LocalDate matchDate) {
+        return Match.builder()
+                .competition(competition)
+                .team1(team1)
+                .team2(team2)
+                .matchDate(matchDate)
+                .courtNumber(1)
+                .round(1)
+                .build();
+    }
+}
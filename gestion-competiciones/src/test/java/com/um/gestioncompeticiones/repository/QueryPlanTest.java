@@ -0,0 +1,280 @@
+package com.um.gestioncompeticiones.repository;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Comprueba con {@code EXPLAIN} que las consultas más frecuentes usan los índices del esquema
+ * y no recorren tablas enteras. Cada test llama al método del repositorio y analiza el SQL que
+ * Hibernate ha generado para él, capturado con un {@link StatementInspector}: si cambia la
+ * consulta JPQL, cambia también el plan que se comprueba.
+ * <p>
+ * Los datos se cargan una vez y se ejecuta {@code ANALYZE} para que el optimizador de H2 decida
+ * con estadísticas reales. {@code ANALYZE} confirma la transacción, así que estos tests no usan la
+ * transacción con rollback de {@link DataJpaTest} y borran sus datos al terminar.
+ * </p>
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class QueryPlanTest {
+
+    private static final int COMPETITIONS = 50;
+    private static final int TEAMS_PER_COMPETITION = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    private long competitionId;
+
+    @BeforeAll
+    void setUp() {
+        // Volumen suficiente para que el optimizador elija por coste y no por tablas pequeñas
+        List<Object[]> competitions = new ArrayList<>();
+        List<Object[]> teams = new ArrayList<>();
+        for (int c = 0; c < COMPETITIONS; c++) {
+            competitions.add(new Object[]{"Liga " + c});
+            for (int t = 0; t < TEAMS_PER_COMPETITION; t++) {
+                teams.add(new Object[]{"Equipo " + c + "-" + t});
+            }
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO competitions (name, sport, start_date, end_date, number_of_courts, min_rest_days)
+                VALUES (?, 'Fútbol', DATE '2025-01-01', DATE '2025-12-31', 4, 0)""", competitions);
+        jdbcTemplate.batchUpdate("INSERT INTO teams (name) VALUES (?)", teams);
+
+        List<Long> competitionIds = jdbcTemplate.queryForList("SELECT id FROM competitions ORDER BY id", Long.class);
+        List<Long> teamIds = jdbcTemplate.queryForList("SELECT id FROM teams ORDER BY id", Long.class);
+        competitionId = competitionIds.get(0);
+
+        List<Object[]> registrations = new ArrayList<>();
+        List<Object[]> matches = new ArrayList<>();
+        for (int c = 0; c < COMPETITIONS; c++) {
+            List<Long> competitionTeams = teamIds.subList(c * TEAMS_PER_COMPETITION, (c + 1) * TEAMS_PER_COMPETITION);
+            for (Long teamId : competitionTeams) {
+                registrations.add(new Object[]{competitionIds.get(c), teamId});
+            }
+            // Todos contra todos entre los equipos de la competición
+            for (int home = 0; home < TEAMS_PER_COMPETITION; home++) {
+                for (int away = home + 1; away < TEAMS_PER_COMPETITION; away++) {
+                    matches.add(new Object[]{competitionIds.get(c), competitionTeams.get(home), competitionTeams.get(away),
+                            Date.valueOf(LocalDate.of(2025, 1, 1).plusDays(home))});
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO competition_team (competition_id, team_id) VALUES (?, ?)", registrations);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO matches (competition_id, team1_id, team2_id, match_date, court_number)
+                VALUES (?, ?, ?, ?, 1)""", matches);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM matches");
+        jdbcTemplate.update("DELETE FROM competition_team");
+        jdbcTemplate.update("DELETE FROM competitions");
+        jdbcTemplate.update("DELETE FROM teams");
+    }
+
+    // -------------------------------------------------
+    // Test: Partidos de una competición (MatchRepository.findDTOsByCompetitionId / streamDTOsByCompetitionId)
+    // -------------------------------------------------
+    @Test
+    void matchesByCompetitionUseIndex() {
+        String sql = capture(() -> matchRepository.findDTOsByCompetitionId(competitionId));
+
+        assertUsesIndex(explain(sql, competitionId), "IDX_MATCHES_COMPETITION");
+    }
+
+    // -------------------------------------------------
+    // Test: Página de partidos por clave (MatchRepository.findDTOsByCompetitionIdAfter)
+    // -------------------------------------------------
+    @Test
+    void matchesByCompetitionAfterUseIndex() {
+        String sql = capture(() -> matchRepository.findDTOsByCompetitionIdAfter(competitionId, 10L, Limit.of(50)));
+
+        assertUsesIndex(explain(sql, competitionId, 10L, 50), "IDX_MATCHES_COMPETITION");
+    }
+
+    // -------------------------------------------------
+    // Test: Filas para emparejar, colocar partidos y calcular la clasificación
+    // (MatchRepository.findPairingRows / findSlotRows / findResultRows)
+    // -------------------------------------------------
+    @Test
+    void competitionRowsUseIndex() {
+        assertUsesIndex(explain(capture(() -> matchRepository.findPairingRows(competitionId)), competitionId),
+                "IDX_MATCHES_COMPETITION");
+        assertUsesIndex(explain(capture(() -> matchRepository.findSlotRows(competitionId)), competitionId),
+                "IDX_MATCHES_COMPETITION");
+        assertUsesIndex(explain(capture(() -> matchRepository.findResultRows(competitionId)), competitionId),
+                "IDX_MATCHES_COMPETITION");
+    }
+
+    // -------------------------------------------------
+    // Test: Ventana de fechas donde se coloca un partido del cuadro
+    // (MatchRepository.findSlotRowsBetween / findLastMatchDate)
+    // -------------------------------------------------
+    @Test
+    void bracketWindowUsesIndexes() {
+        LocalDate from = LocalDate.of(2025, 1, 10);
+        LocalDate to = LocalDate.of(2025, 1, 15);
+        String windowSql = capture(() -> matchRepository.findSlotRowsBetween(competitionId, from, to));
+
+        assertUsesIndex(explain(windowSql, competitionId, from, to), "IDX_MATCHES_COMPETITION_DATE");
+
+        long home = jdbcTemplate.queryForObject("SELECT MIN(id) FROM teams", Long.class);
+        long away = home + 1;
+        String lastSql = capture(() -> matchRepository.findLastMatchDate(competitionId, home, away));
+
+        String plan = explain(lastSql, competitionId, home, away, home, away);
+        assertUsesIndex(plan, "IDX_MATCHES_TEAM1");
+        assertUsesIndex(plan, "IDX_MATCHES_TEAM2");
+    }
+
+    // -------------------------------------------------
+    // Test: Equipos sin partido (TeamRepository.findUnassignedByCompetition)
+    // -------------------------------------------------
+    @Test
+    void unassignedTeamsUseIndexes() {
+        String sql = capture(() -> teamRepository.findUnassignedByCompetition(competitionId));
+
+        String plan = explain(sql, competitionId);
+        assertUsesIndex(plan, "PRIMARY_KEY");
+        assertUsesIndex(plan, "IDX_MATCHES_TEAM1");
+        assertUsesIndex(plan, "IDX_MATCHES_TEAM2");
+    }
+
+    // -------------------------------------------------
+    // Test: Calendario de un equipo entre fechas (MatchRepository.findDTOsByTeamId)
+    // -------------------------------------------------
+    @Test
+    void teamCalendarUsesIndexes() {
+        long teamId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM teams", Long.class);
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 1, 10);
+
+        String sql = capture(() -> matchRepository.findDTOsByTeamId(teamId, from, to));
+
+        String plan = explain(sql, teamId, teamId, from, from, to, to);
+        assertUsesIndex(plan, "IDX_MATCHES_TEAM1");
+        assertUsesIndex(plan, "IDX_MATCHES_TEAM2");
+    }
+
+    // -------------------------------------------------
+    // Test: Competiciones de un equipo (carga de Team.competitions por la tabla de inscripciones)
+    // -------------------------------------------------
+    @Test
+    void competitionsByTeamUseIndex() {
+        long teamId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM teams", Long.class);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        sqlCapture.start();
+        transaction.executeWithoutResult(status -> teamRepository.findById(teamId).orElseThrow().getCompetitions().size());
+        String sql = sqlCapture.stop().stream()
+                .filter(statement -> statement.contains("competition_team"))
+                .findFirst()
+                .orElseThrow();
+
+        assertUsesIndex(explain(sql, teamId), "IDX_COMPETITION_TEAM_TEAM");
+    }
+
+    // Única sentencia que ejecuta la llamada, tal como la genera Hibernate (con parámetros ?)
+    private String capture(Runnable call) {
+        sqlCapture.start();
+        call.run();
+        List<String> statements = sqlCapture.stop();
+        assertEquals(1, statements.size(), () -> "Expected a single statement but got " + statements);
+        return statements.get(0);
+    }
+
+    // Con un solo valor, se usa para todos los parámetros de la sentencia
+    private String explain(String sql, Object... parameters) {
+        int count = (int) sql.chars().filter(c -> c == '?').count();
+        Object[] values = parameters.length == 1 ? Collections.nCopies(count, parameters[0]).toArray() : parameters;
+        assertEquals(count, values.length, () -> "Parameter count mismatch for:\n" + sql);
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, values);
+    }
+
+    private static void assertUsesIndex(String plan, String index) {
+        assertTrue(plan.contains(index), () -> "Expected index " + index + " in plan:\n" + plan);
+        assertFalse(plan.contains("tableScan"), () -> "Unexpected table scan in plan:\n" + plan);
+    }
+
+    /**
+     * Guarda las sentencias que prepara Hibernate en el hilo actual entre {@link #start()} y
+     * {@link #stop()}, igual que {@code QueryCounter} las cuenta.
+     */
+    static class SqlCapture implements StatementInspector {
+
+        private final ThreadLocal<List<String>> statements = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            List<String> current = statements.get();
+            if (current != null) {
+                current.add(sql);
+            }
+            return sql;
+        }
+
+        void start() {
+            statements.set(new ArrayList<>());
+        }
+
+        List<String> stop() {
+            List<String> captured = statements.get();
+            statements.remove();
+            return captured;
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+}
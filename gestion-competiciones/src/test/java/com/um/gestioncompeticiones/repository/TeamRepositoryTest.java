@@ -0,0 +1,96 @@
+package com.um.gestioncompeticiones.repository;
+
+import com.um.gestioncompeticiones.model.Competition;
+import com.um.gestioncompeticiones.model.Match;
+import com.um.gestioncompeticiones.model.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+public class TeamRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    private Competition competition;
+    private Competition otherCompetition;
+    private Team team1;
+    private Team team2;
+    private Team team3;
+    private Team team4;
+
+    @BeforeEach
+    void setUp() {
+        team1 = entityManager.persist(Team.builder().name("Equipo A").build());
+        team2 = entityManager.persist(Team.builder().name("Equipo B").build());
+        team3 = entityManager.persist(Team.builder().name("Equipo C").build());
+        team4 = entityManager.persist(Team.builder().name("Equipo D").build());
+
+        competition = entityManager.persist(competition("Liga Primavera", Set.of(team1, team2, team3, team4)));
+        otherCompetition = entityManager.persist(competition("Copa Verano", Set.of(team3, team4)));
+    }
+
+    // -------------------------------------------------
+    // Test: Equipos sin partido en la competición (anti-join)
+    // -------------------------------------------------
+    @Test
+    void findUnassignedByCompetitionOk() {
+        entityManager.persist(match(competition, team1, team2));
+        // Un partido en otra competición no cuenta como asignado
+        entityManager.persist(match(otherCompetition, team3, team4));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Team> result = teamRepository.findUnassignedByCompetition(competition.getId());
+
+        assertEquals(List.of(team3.getId(), team4.getId()), result.stream().map(Team::getId).toList());
+    }
+
+    // -------------------------------------------------
+    // Test: Un equipo que solo juega como visitante también está asignado
+    // -------------------------------------------------
+    @Test
+    void findUnassignedByCompetitionAwayTeamAssigned() {
+        entityManager.persist(match(competition, team1, team3));
+        entityManager.persist(match(competition, team4, team2));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertTrue(teamRepository.findUnassignedByCompetition(competition.getId()).isEmpty());
+    }
+
+    private Competition competition(String name, Set<Team> teams) {
+        return Competition.builder()
+                .name(name)
+                .sport("Fútbol")
+                .startDate(LocalDate.of(2025, 10, 20))
+                .endDate(LocalDate.of(2025, 10, 25))
+                .numberOfCourts(1)
+                .teams(new HashSet<>(teams))
+                .build();
+    }
+
+    private Match match(Competition competition, Team team1, Team team2) {
+        return Match.builder()
+                .competition(competition)
+                .team1(team1)
+                .team2(team2)
+                .matchDate(competition.getStartDate())
+                .courtNumber(1)
+                .round(1)
+                .build();
+    }
+}
@@ -0,0 +1,149 @@
+package com.um.gestioncompeticiones.scheduling;
+
+import com.um.gestioncompeticiones.model.BracketType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KnockoutBracketTest {
+
+    // Partido listo para jugarse: {nodo, ronda, local, visitante}
+    private final Deque<long[]> ready = new ArrayDeque<>();
+    private final BracketMatchSink sink = (node, round, home, away) -> ready.add(new long[]{node, round, home, away});
+
+    // -------------------------------------------------
+    // Test: Tamaño del cuadro (potencia de dos)
+    // -------------------------------------------------
+    @Test
+    void bracketSizeRoundsUpToPowerOfTwo() {
+        assertEquals(2, KnockoutBracket.bracketSize(2));
+        assertEquals(4, KnockoutBracket.bracketSize(3));
+        assertEquals(8, KnockoutBracket.bracketSize(5));
+        assertEquals(8, KnockoutBracket.bracketSize(8));
+        assertEquals(65536, KnockoutBracket.bracketSize(40000));
+    }
+
+    // -------------------------------------------------
+    // Test: Los mejores cabezas de serie reciben los descansos
+    // -------------------------------------------------
+    @Test
+    void seedGivesByesToTopSeeds() {
+        // 5 equipos en un cuadro de 8: los cabezas de serie 1, 2 y 3 descansan
+        KnockoutBracket.seed(BracketType.SINGLE_ELIMINATION, teams(5), sink);
+
+        List<long[]> matches = new ArrayList<>(ready);
+        assertEquals(2, matches.size());
+        // 4 contra 5 en primera ronda y 2 contra 3, que ya se conocen, en segunda
+        assertArrayEquals(new long[]{1, 4, 5}, new long[]{matches.get(0)[1], matches.get(0)[2], matches.get(0)[3]});
+        assertArrayEquals(new long[]{2, 2, 3}, new long[]{matches.get(1)[1], matches.get(1)[2], matches.get(1)[3]});
+    }
+
+    // -------------------------------------------------
+    // Test: Eliminación simple completa (n - 1 partidos, un campeón)
+    // -------------------------------------------------
+    @Test
+    void singleEliminationPlaysToChampion() {
+        for (int teams : new int[]{2, 3, 7, 8, 13, 64}) {
+            long[] losses = play(BracketType.SINGLE_ELIMINATION, teams, new Random(teams));
+            assertEquals(teams - 1, LongStream.of(losses).sum(), "Partidos con " + teams + " equipos");
+            assertEquals(1, LongStream.of(losses).filter(l -> l == 0).count());
+            assertTrue(LongStream.of(losses).allMatch(l -> l <= 1));
+        }
+    }
+
+    // -------------------------------------------------
+    // Test: Doble eliminación completa (2n - 2 partidos, nadie cae sin perder dos veces)
+    // -------------------------------------------------
+    @Test
+    void doubleEliminationPlaysToChampion() {
+        for (int teams : new int[]{2, 3, 5, 8, 11, 32}) {
+            long[] losses = play(BracketType.DOUBLE_ELIMINATION, teams, new Random(teams));
+            assertEquals(2L * teams - 2, LongStream.of(losses).sum(), "Partidos con " + teams + " equipos");
+            // Solo los dos finalistas pueden acabar con menos de dos derrotas
+            assertTrue(LongStream.of(losses).filter(l -> l < 2).count() <= 2);
+            assertTrue(LongStream.of(losses).allMatch(l -> l <= 2));
+        }
+    }
+
+    // -------------------------------------------------
+    // Test: Un cuadro restaurado continúa igual que el original
+    // -------------------------------------------------
+    @Test
+    void restoreContinuesFromSavedState() {
+        KnockoutBracket bracket = KnockoutBracket.seed(BracketType.DOUBLE_ELIMINATION, teams(6), sink);
+        long[] first = ready.poll();
+        bracket.recordWinner((int) first[0], first[2], sink);
+
+        KnockoutBracket restored = KnockoutBracket.restore(BracketType.DOUBLE_ELIMINATION, bracket.size(), bracket.state());
+
+        long[] next = ready.peek();
+        assertNotNull(next);
+        assertEquals(bracket.home((int) next[0]), restored.home((int) next[0]));
+        assertEquals(bracket.away((int) next[0]), restored.away((int) next[0]));
+        assertEquals(first[2], restored.winner((int) first[0]));
+    }
+
+    // -------------------------------------------------
+    // Test: Resultados no válidos
+    // -------------------------------------------------
+    @Test
+    void recordWinnerRejectsInvalidResults() {
+        KnockoutBracket bracket = KnockoutBracket.seed(BracketType.SINGLE_ELIMINATION, teams(4), sink);
+        long[] match = ready.poll();
+        int node = (int) match[0];
+
+        assertThrows(IllegalArgumentException.class, () -> bracket.recordWinner(node, 99, sink));
+        assertThrows(IllegalStateException.class, () -> bracket.recordWinner(0, match[2], sink));
+        bracket.recordWinner(node, match[3], sink);
+        assertThrows(IllegalStateException.class, () -> bracket.recordWinner(node, match[3], sink));
+    }
+
+    // -------------------------------------------------
+    // Test: Cuadro de 64k equipos
+    // -------------------------------------------------
+    @Test
+    void seedLargeBracket() {
+        KnockoutBracket bracket = KnockoutBracket.seed(BracketType.DOUBLE_ELIMINATION, teams(65536), sink);
+
+        assertEquals(65536, bracket.size());
+        assertEquals(2 * 65536 - 2, bracket.nodeCount());
+        assertEquals(32768, ready.size());
+    }
+
+    private long[] play(BracketType type, int teamCount, Random random) {
+        ready.clear();
+        KnockoutBracket bracket = KnockoutBracket.seed(type, teams(teamCount), sink);
+        long[] losses = new long[teamCount + 1];
+        int[] lastRound = new int[teamCount + 1];
+
+        while (!ready.isEmpty()) {
+            long[] match = ready.poll();
+            int round = (int) match[1];
+            int home = (int) match[2];
+            int away = (int) match[3];
+            assertTrue(round > lastRound[home] && round > lastRound[away], "Un equipo no repite ronda");
+            lastRound[home] = round;
+            lastRound[away] = round;
+
+            boolean homeWins = random.nextBoolean();
+            bracket.recordWinner((int) match[0], homeWins ? home : away, sink);
+            losses[homeWins ? away : home]++;
+        }
+
+        assertNotEquals(KnockoutBracket.PENDING, bracket.champion());
+        assertTrue(losses[(int) bracket.champion()] <= 1);
+        // El índice 0 no es un equipo
+        return LongStream.of(losses).skip(1).toArray();
+    }
+
+    private static long[] teams(int count) {
+        return LongStream.rangeClosed(1, count).toArray();
+    }
+}
@@ -0,0 +1,92 @@
+package com.um.gestioncompeticiones.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RoundRobinSchedulerTest {
+
+    private final RoundRobinScheduler scheduler = new RoundRobinScheduler();
+
+    // -------------------------------------------------
+    // Test: Cada pareja se enfrenta exactamente una vez (número par de equipos)
+    // -------------------------------------------------
+    @Test
+    void generateEvenTeamsEveryPairOnce() {
+        assertEveryPairPlaysOnce(8, false);
+    }
+
+    // -------------------------------------------------
+    // Test: Cada pareja se enfrenta exactamente una vez (número impar de equipos)
+    // -------------------------------------------------
+    @Test
+    void generateOddTeamsEveryPairOnce() {
+        assertEveryPairPlaysOnce(7, false);
+    }
+
+    // -------------------------------------------------
+    // Test: Ida y vuelta con los papeles de local y visitante invertidos
+    // -------------------------------------------------
+    @Test
+    void generateDoubleRoundMirrorsHomeAndAway() {
+        int teams = 6;
+        int[][] homeAway = new int[teams][teams];
+
+        scheduler.generate(teams, true, (round, home, away) -> homeAway[home][away]++);
+
+        for (int a = 0; a < teams; a++) {
+            for (int b = 0; b < teams; b++) {
+                if (a != b) {
+                    assertEquals(1, homeAway[a][b], "El partido " + a + "-" + b + " debe jugarse una vez en casa");
+                }
+            }
+        }
+    }
+
+    // -------------------------------------------------
+    // Test: Un equipo no juega dos veces en la misma jornada
+    // -------------------------------------------------
+    @Test
+    void generateNoTeamTwiceInSameRound() {
+        int teams = 9;
+        int rounds = scheduler.countRounds(teams, true);
+        boolean[][] played = new boolean[rounds + 1][teams];
+
+        scheduler.generate(teams, true, (round, home, away) -> {
+            assertFalse(played[round][home], "Equipo repetido en la jornada " + round);
+            assertFalse(played[round][away], "Equipo repetido en la jornada " + round);
+            played[round][home] = true;
+            played[round][away] = true;
+        });
+    }
+
+    // -------------------------------------------------
+    // Test: Excepción con menos de dos equipos
+    // -------------------------------------------------
+    @Test
+    void generateFailedNotEnoughTeams() {
+        assertThrows(IllegalArgumentException.class,
+                () -> scheduler.generate(1, false, (round, home, away) -> fail()));
+    }
+
+    private void assertEveryPairPlaysOnce(int teams, boolean doubleRound) {
+        int[][] meetings = new int[teams][teams];
+        long[] count = {0};
+        int[] maxRound = {0};
+
+        scheduler.generate(teams, doubleRound, (round, home, away) -> {
+            assertNotEquals(home, away);
+            meetings[Math.min(home, away)][Math.max(home, away)]++;
+            maxRound[0] = Math.max(maxRound[0], round);
+            count[0]++;
+        });
+
+        for (int a = 0; a < teams; a++) {
+            for (int b = a + 1; b < teams; b++) {
+                assertEquals(1, meetings[a][b], "La pareja " + a + "-" + b + " debe enfrentarse una vez");
+            }
+        }
+        assertEquals(scheduler.countFixtures(teams, doubleRound), count[0]);
+        assertEquals(scheduler.countRounds(teams, doubleRound), maxRound[0]);
+    }
+}
@@ -0,0 +1,186 @@
+package com.um.gestioncompeticiones.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SlotGridTest {
+
+    // -------------------------------------------------
+    // Test: Los huecos de un día se llenan pista a pista y franja a franja
+    // -------------------------------------------------
+    @Test
+    void placeFillsCourtsThenTimeSlots() {
+        SlotGrid grid = new SlotGrid(8, 1, 2, 2, 0);
+
+        int[] slots = {grid.place(0, 1), grid.place(2, 3), grid.place(4, 5), grid.place(6, 7)};
+
+        assertArrayEquals(new int[]{1, 2, 1, 2}, new int[]{
+                grid.court(slots[0]), grid.court(slots[1]), grid.court(slots[2]), grid.court(slots[3])});
+        assertArrayEquals(new int[]{1, 1, 2, 2}, new int[]{
+                grid.timeSlot(slots[0]), grid.timeSlot(slots[1]), grid.timeSlot(slots[2]), grid.timeSlot(slots[3])});
+    }
+
+    // -------------------------------------------------
+    // Test: Un equipo no juega dos veces el mismo día
+    // -------------------------------------------------
+    @Test
+    void placeOneMatchPerTeamAndDay() {
+        SlotGrid grid = new SlotGrid(3, 5, 4, 2, 0);
+
+        assertEquals(0, grid.day(grid.place(0, 1)));
+        assertEquals(1, grid.day(grid.place(0, 2)));
+        assertEquals(2, grid.day(grid.place(1, 2)));
+    }
+
+    // -------------------------------------------------
+    // Test: Se respetan los días de descanso, también los previos a la ventana
+    // -------------------------------------------------
+    @Test
+    void placeRespectsRestDays() {
+        SlotGrid grid = new SlotGrid(4, 10, 1, 1, 2);
+        grid.setPreviousMatchDay(2, -1);
+
+        assertEquals(0, grid.day(grid.place(0, 1)));
+        assertEquals(3, grid.day(grid.place(0, 1)));
+        // El equipo 2 jugó el día anterior a la ventana: no puede hasta el día 2
+        assertEquals(2, grid.day(grid.place(2, 3)));
+    }
+
+    // -------------------------------------------------
+    // Test: Sin hueco en la ventana
+    // -------------------------------------------------
+    @Test
+    void placeReturnsNoSlotWhenWindowIsFull() {
+        SlotGrid grid = new SlotGrid(4, 1, 1, 1, 0);
+
+        assertNotEquals(SlotGrid.NO_SLOT, grid.place(0, 1));
+        assertEquals(SlotGrid.NO_SLOT, grid.place(2, 3));
+    }
+
+    // -------------------------------------------------
+    // Test: Los huecos reservados no se vuelven a asignar y cuentan para el descanso
+    // -------------------------------------------------
+    @Test
+    void placeSkipsReservedSlots() {
+        SlotGrid grid = new SlotGrid(6, 2, 2, 1, 0);
+        grid.reserve(0, 1, 1, 0, 1);
+
+        int slot = grid.place(2, 3);
+        assertEquals(0, grid.day(slot));
+        assertEquals(2, grid.court(slot));
+
+        // El día 0 está lleno y los equipos 0 y 1 ya jugaron ese día
+        assertEquals(1, grid.day(grid.place(0, 4)));
+        // Una pista que no existe en la rejilla ocupa el primer hueco libre del día
+        grid.reserve(1, 7, 0, -1, -1);
+        assertEquals(SlotGrid.NO_SLOT, grid.place(1, 5));
+    }
+
+    // -------------------------------------------------
+    // Test: La reparación usa huecos anteriores al último partido de los equipos
+    // -------------------------------------------------
+    @Test
+    void placeAnywhereBackfillsEarlierDays() {
+        SlotGrid grid = new SlotGrid(4, 3, 1, 2, 0);
+        grid.place(0, 1); // día 0
+        grid.place(0, 2); // día 1
+        grid.place(0, 3); // día 2
+
+        // Después del último partido del equipo 3 no quedan días
+        assertEquals(SlotGrid.NO_SLOT, grid.place(1, 3));
+        // El día 1 tiene hueco y ni 1 ni 3 juegan ese día
+        assertEquals(1, grid.day(grid.placeAnywhere(1, 3)));
+        // Con el día 1 lleno, 2 y 3 aún caben en el hueco libre del día 0
+        assertEquals(0, grid.day(grid.placeAnywhere(2, 3)));
+        // El equipo 0 juega todos los días
+        assertEquals(SlotGrid.NO_SLOT, grid.placeAnywhere(0, 1));
+    }
+
+    // -------------------------------------------------
+    // Test: La reparación salta los días de descanso de cada equipo
+    // -------------------------------------------------
+    @Test
+    void placeAnywhereSkipsRestDaysOfBothTeams() {
+        SlotGrid grid = new SlotGrid(4, 12, 1, 1, 2);
+        grid.reserve(2, 1, 1, 0, 2); // el equipo 0 no puede jugar los días 0-4
+        grid.reserve(7, 1, 1, 1, 3); // el equipo 1 no puede jugar los días 5-9
+        grid.reserve(10, 1, 1, 2, 3); // el día 10 ya está lleno
+
+        assertEquals(11, grid.day(grid.placeAnywhere(0, 1)));
+        // Ahora el 0 tampoco puede jugar del 9 en adelante y al 1 solo le quedan los días 0-4
+        assertEquals(SlotGrid.NO_SLOT, grid.placeAnywhere(0, 1));
+    }
+
+    // -------------------------------------------------
+    // Test: La reparación coincide con recorrer los días uno a uno
+    // -------------------------------------------------
+    @Test
+    void placeAnywhereMatchesDayByDaySearch() {
+        Random random = new Random(7);
+        for (int run = 0; run < 50; run++) {
+            int teams = 6;
+            int days = 40;
+            int rest = random.nextInt(3);
+            SlotGrid grid = new SlotGrid(teams, days, 1, 2, rest);
+            int[] used = new int[days];
+            List<List<Integer>> played = new ArrayList<>();
+            for (int team = 0; team < teams; team++) {
+                played.add(new ArrayList<>());
+            }
+            for (int step = 0; step < 60; step++) {
+                int home = random.nextInt(teams);
+                int away = (home + 1 + random.nextInt(teams - 1)) % teams;
+                int slot = grid.place(home, away);
+                if (slot != SlotGrid.NO_SLOT) {
+                    used[grid.day(slot)]++;
+                    played.get(home).add(grid.day(slot));
+                    played.get(away).add(grid.day(slot));
+                }
+                // La reparación elige el primer día que encontraría una búsqueda día a día
+                int a = random.nextInt(teams);
+                int b = (a + 1 + random.nextInt(teams - 1)) % teams;
+                int firstFree = -1;
+                for (int day = 0; day < days && firstFree < 0; day++) {
+                    if (used[day] < 2 && isFree(played.get(a), day, rest) && isFree(played.get(b), day, rest)) {
+                        firstFree = day;
+                    }
+                }
+                int placed = grid.placeAnywhere(a, b);
+                assertEquals(firstFree, placed == SlotGrid.NO_SLOT ? -1 : grid.day(placed));
+                if (placed != SlotGrid.NO_SLOT) {
+                    used[firstFree]++;
+                    played.get(a).add(firstFree);
+                    played.get(b).add(firstFree);
+                }
+            }
+        }
+    }
+
+    // -------------------------------------------------
+    // Test: Decenas de miles de partidos en cientos de pistas
+    // -------------------------------------------------
+    @Test
+    void placeLargeSchedule() {
+        // 300 equipos: 44.850 partidos en 299 jornadas de 150 partidos
+        int teams = 300;
+        SlotGrid grid = new SlotGrid(teams, 365, 200, 2, 0);
+        List<int[]> unplaced = new ArrayList<>();
+
+        new RoundRobinScheduler().generate(teams, false, (round, home, away) -> {
+            if (grid.place(home, away) == SlotGrid.NO_SLOT) {
+                unplaced.add(new int[]{home, away});
+            }
+        });
+
+        assertTrue(unplaced.isEmpty(), unplaced.size() + " partidos sin hueco");
+    }
+
+    private static boolean isFree(List<Integer> playedDays, int day, int rest) {
+        return playedDays.stream().noneMatch(played -> Math.abs(played - day) <= rest);
+    }
+}
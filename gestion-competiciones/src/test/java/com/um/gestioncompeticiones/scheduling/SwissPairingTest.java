@@ -0,0 +1,170 @@
+package com.um.gestioncompeticiones.scheduling;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SwissPairingTest {
+
+    private final SwissPairing swissPairing = new SwissPairing();
+    private final Random random = new Random(42);
+
+    // -------------------------------------------------
+    // Test: Se empareja dentro de cada grupo de puntos
+    // -------------------------------------------------
+    @Test
+    void pairTeamsWithEqualScores() {
+        int[] scores = {0, 3, 1, 2, 3, 0, 2, 1};
+
+        List<int[]> pairs = pair(scores, played(8), new boolean[8]);
+
+        assertEquals(4, pairs.size());
+        for (int[] pair : pairs) {
+            assertEquals(scores[pair[0]], scores[pair[1]], "Pareja con distinta puntuación: " + Arrays.toString(pair));
+        }
+    }
+
+    // -------------------------------------------------
+    // Test: Los candidatos a descansar se reparten un único límite de pasos
+    // -------------------------------------------------
+    @Test
+    void pairByeCandidatesShareStepBudget() {
+        // Orden por puntos 0..6. Si descansa 6, el 5 (que ya jugó con 0-4) no tiene rival y la
+        // búsqueda agota su parte de pasos; si descansa 5 basta un retroceso
+        List<int[]> pairs = new ArrayList<>();
+        int bye = new SwissPairing(40).pair(1, new int[]{6, 5, 4, 3, 2, 1, 0}, byeCandidatesPlayed(), new boolean[7],
+                new int[7], random, (round, home, away) -> pairs.add(new int[]{home, away}));
+
+        // El 6 solo gasta su parte (40 / 7 pasos) y al 5 le queda suficiente
+        assertEquals(5, bye);
+        assertEquals(3, pairs.size());
+
+        // Con 20 pasos en total la parte del 5 no alcanza y descansa el 4: el límite es de la
+        // ronda entera, no de cada candidato
+        assertEquals(4, new SwissPairing(20).pair(1, new int[]{6, 5, 4, 3, 2, 1, 0}, byeCandidatesPlayed(),
+                new boolean[7], new int[7], random, (round, home, away) -> { }));
+    }
+
+    // -------------------------------------------------
+    // Test: No se repiten enfrentamientos
+    // -------------------------------------------------
+    @Test
+    void pairAvoidsRematch() {
+        BitSet[] played = played(4);
+        setPlayed(played, 0, 1);
+        setPlayed(played, 2, 3);
+
+        List<int[]> pairs = pair(new int[]{1, 1, 0, 0}, played, new boolean[4]);
+
+        for (int[] pair : pairs) {
+            assertFalse(played[pair[0]].get(pair[1]), "Revancha: " + Arrays.toString(pair));
+        }
+    }
+
+    // -------------------------------------------------
+    // Test: Se deshace un emparejamiento si deja la cola sin solución
+    // -------------------------------------------------
+    @Test
+    void pairBacktracksWhenTailCannotBePaired() {
+        // Orden por puntos 0, 1, 2, 3: emparejar 0-1 dejaría 2-3, que ya se han enfrentado
+        BitSet[] played = played(4);
+        setPlayed(played, 2, 3);
+
+        List<int[]> pairs = pair(new int[]{3, 2, 1, 0}, played, new boolean[4]);
+
+        Set<Set<Integer>> result = new HashSet<>();
+        pairs.forEach(p -> result.add(Set.of(p[0], p[1])));
+        assertEquals(Set.of(Set.of(0, 2), Set.of(1, 3)), result);
+    }
+
+    // -------------------------------------------------
+    // Test: Descansa el peor clasificado que no haya descansado
+    // -------------------------------------------------
+    @Test
+    void pairGivesByeToLowestRankedWithoutBye() {
+        boolean[] hadBye = new boolean[5];
+        hadBye[4] = true;
+
+        int bye = swissPairing.pair(1, new int[]{4, 3, 2, 1, 0}, played(5), hadBye, new int[5], random,
+                (round, home, away) -> { });
+
+        assertEquals(3, bye);
+    }
+
+    // -------------------------------------------------
+    // Test: Sin emparejamiento posible
+    // -------------------------------------------------
+    @Test
+    void pairFailsWhenOnlyRematchesRemain() {
+        BitSet[] played = played(2);
+        setPlayed(played, 0, 1);
+
+        assertThrows(IllegalStateException.class, () -> pair(new int[]{1, 0}, played, new boolean[2]));
+    }
+
+    // -------------------------------------------------
+    // Test: Varias rondas de 5.000 equipos sin revanchas
+    // -------------------------------------------------
+    @Test
+    void pairManyRoundsWithoutRematches() {
+        int teams = 5001;
+        int[] scores = new int[teams];
+        BitSet[] played = played(teams);
+        boolean[] hadBye = new boolean[teams];
+        int[] homeGames = new int[teams];
+
+        for (int round = 1; round <= 10; round++) {
+            int[] matchesInRound = new int[teams];
+            int bye = swissPairing.pair(round, scores, played, hadBye, homeGames, random, (r, home, away) -> {
+                assertFalse(played[home].get(away), "Revancha " + home + "-" + away);
+                setPlayed(played, home, away);
+                matchesInRound[home]++;
+                matchesInRound[away]++;
+                homeGames[home]++;
+                scores[random.nextBoolean() ? home : away]++;
+            });
+
+            assertFalse(hadBye[bye], "Segundo descanso para " + bye);
+            hadBye[bye] = true;
+            scores[bye]++;
+            for (int team = 0; team < teams; team++) {
+                assertEquals(team == bye ? 0 : 1, matchesInRound[team]);
+            }
+        }
+    }
+
+    private List<int[]> pair(int[] scores, BitSet[] played, boolean[] hadBye) {
+        List<int[]> pairs = new ArrayList<>();
+        swissPairing.pair(1, scores, played, hadBye, new int[scores.length], random,
+                (round, home, away) -> pairs.add(new int[]{home, away}));
+        return pairs;
+    }
+
+    private static BitSet[] played(int teams) {
+        BitSet[] played = new BitSet[teams];
+        Arrays.setAll(played, i -> new BitSet());
+        return played;
+    }
+
+    private static BitSet[] byeCandidatesPlayed() {
+        BitSet[] played = played(7);
+        for (int team = 0; team < 5; team++) {
+            setPlayed(played, 5, team);
+        }
+        setPlayed(played, 4, 6);
+        return played;
+    }
+
+    private static void setPlayed(BitSet[] played, int a, int b) {
+        played[a].set(b);
+        played[b].set(a);
+    }
+}
@@ -0,0 +1,322 @@
+package com.um.gestioncompeticiones.service;
+
+import com.um.gestioncompeticiones.dto.BracketDTO;
+import com.um.gestioncompeticiones.exception.bracket.BracketNotFoundException;
+import com.um.gestioncompeticiones.exception.competition.CompetitionNotFoundException;
+import com.um.gestioncompeticiones.exception.match.InvalidMatchResultException;
+import com.um.gestioncompeticiones.exception.match.MatchGenerationException;
+import com.um.gestioncompeticiones.exception.match.MatchNotFoundException;
+import com.um.gestioncompeticiones.model.Bracket;
+import com.um.gestioncompeticiones.model.BracketType;
+import com.um.gestioncompeticiones.model.Competition;
+import com.um.gestioncompeticiones.model.Match;
+import com.um.gestioncompeticiones.model.Team;
+import com.um.gestioncompeticiones.repository.BracketRepository;
+import com.um.gestioncompeticiones.repository.CompetitionRepository;
+import com.um.gestioncompeticiones.repository.MatchBatchRepository;
+import com.um.gestioncompeticiones.repository.MatchRepository;
+import com.um.gestioncompeticiones.repository.MatchRowBuffer;
+import com.um.gestioncompeticiones.repository.MatchSlotRow;
+import com.um.gestioncompeticiones.repository.TeamRepository;
+import com.um.gestioncompeticiones.scheduling.KnockoutBracket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class BracketServiceTest {
+
+    @Mock
+    private CompetitionRepository competitionRepository;
+
+    @Mock
+    private BracketRepository bracketRepository;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private MatchBatchRepository matchBatchRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @InjectMocks
+    private BracketServiceImpl bracketService;
+
+    private Competition competition;
+
+    private static final Long COMPETITION_ID = 1L;
+    private static final Long NON_EXISTENT_COMPETITION_ID = 99L;
+    private static final Long MATCH_ID = 10L;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        competition = Competition.builder()
+                .id(COMPETITION_ID)
+                .name("Copa Invierno")
+                .sport("Tenis")
+                .startDate(LocalDate.of(2025, 12, 1))
+                .endDate(LocalDate.of(2025, 12, 10))
+                .numberOfCourts(2)
+                .build();
+    }
+
+    // -------------------------------------------------
+    // Test: Generar cuadro correctamente
+    // -------------------------------------------------
+    @Test
+    void createBracketOk() {
+        when(competitionRepository.findForUpdateById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+        when(bracketRepository.existsByCompetitionId(COMPETITION_ID)).thenReturn(false);
+        when(competitionRepository.findTeamIds(COMPETITION_ID)).thenReturn(new ArrayList<>(List.of(1L, 2L, 3L, 4L, 5L)));
+
+        BracketDTO result = bracketService.createBracket(COMPETITION_ID, BracketType.SINGLE_ELIMINATION, false);
+
+        assertEquals(COMPETITION_ID, result.getCompetitionId());
+        assertEquals(5, result.getTeams());
+        assertEquals(8, result.getBracketSize());
+        assertEquals(3, result.getRounds());
+        assertNull(result.getChampionId());
+
+        ArgumentCaptor<MatchRowBuffer> rows = ArgumentCaptor.forClass(MatchRowBuffer.class);
+        verify(matchBatchRepository, times(1)).insert(eq(COMPETITION_ID), rows.capture());
+        ArgumentCaptor<Bracket> saved = ArgumentCaptor.forClass(Bracket.class);
+        verify(bracketRepository, times(1)).save(saved.capture());
+        assertEquals(BracketType.SINGLE_ELIMINATION, saved.getValue().getType());
+        assertEquals(7 * 3, saved.getValue().getState().length);
+    }
+
+    // -------------------------------------------------
+    // Test: Con más partidos por ronda que pistas, cada partido ocupa un hueco distinto
+    // -------------------------------------------------
+    @Test
+    void createBracketRespectsCourtCapacity() {
+        competition.setNumberOfCourts(1);
+        when(competitionRepository.findForUpdateById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+        when(competitionRepository.findTeamIds(COMPETITION_ID))
+                .thenReturn(new ArrayList<>(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L)));
+        // Un partido de otra fase ya ocupa la pista 1, franja 1 del primer día
+        when(matchRepository.findSlotRows(COMPETITION_ID)).thenReturn(List.of(
+                new MatchSlotRow(90L, 91L, competition.getStartDate(), 1, 1)));
+        List<String> slots = new ArrayList<>();
+        when(matchBatchRepository.insert(eq(COMPETITION_ID), any(MatchRowBuffer.class))).thenAnswer(invocation -> {
+            MatchRowBuffer rows = invocation.getArgument(1);
+            for (int i = 0; i < rows.size(); i++) {
+                assertFalse(rows.matchDate(i).isAfter(competition.getEndDate()));
+                slots.add(rows.matchDate(i) + "/" + rows.courtNumber(i) + "/" + rows.timeSlot(i));
+            }
+            return rows.size();
+        });
+
+        bracketService.createBracket(COMPETITION_ID, BracketType.SINGLE_ELIMINATION, false);
+
+        // 4 partidos en 1 pista con 2 franjas por día, con la primera franja ya ocupada
+        assertEquals(List.of("2025-12-01/1/2", "2025-12-02/1/1", "2025-12-02/1/2", "2025-12-03/1/1"), slots);
+    }
+
+    // -------------------------------------------------
+    // Test: Generar cuadro falla si la ronda no cabe antes de la fecha de fin
+    // -------------------------------------------------
+    @Test
+    void createBracketFailedWindowTooShort() {
+        competition.setNumberOfCourts(1);
+        competition.setEndDate(competition.getStartDate());
+        when(competitionRepository.findForUpdateById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+        when(competitionRepository.findTeamIds(COMPETITION_ID))
+                .thenReturn(new ArrayList<>(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L)));
+
+        assertThrows(MatchGenerationException.class,
+                () -> bracketService.createBracket(COMPETITION_ID, BracketType.SINGLE_ELIMINATION, false));
+
+        verify(bracketRepository, never()).save(any());
+    }
+
+    // -------------------------------------------------
+    // Test: Generar cuadro falla por competición inexistente
+    // -------------------------------------------------
+    @Test
+    void createBracketFailedCompetitionNotFound() {
+        when(competitionRepository.findForUpdateById(NON_EXISTENT_COMPETITION_ID)).thenReturn(Optional.empty());
+
+        assertThrows(CompetitionNotFoundException.class,
+                () -> bracketService.createBracket(NON_EXISTENT_COMPETITION_ID, BracketType.SINGLE_ELIMINATION, false));
+
+        verify(bracketRepository, never()).save(any());
+    }
+
+    // -------------------------------------------------
+    // Test: Generar cuadro falla si ya existe
+    // -------------------------------------------------
+    @Test
+    void createBracketFailedAlreadyExists() {
+        when(competitionRepository.findForUpdateById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+        when(bracketRepository.existsByCompetitionId(COMPETITION_ID)).thenReturn(true);
+
+        assertThrows(MatchGenerationException.class,
+                () -> bracketService.createBracket(COMPETITION_ID, BracketType.DOUBLE_ELIMINATION, false));
+
+        verify(matchBatchRepository, never()).insert(anyLong(), any(MatchRowBuffer.class));
+    }
+
+    // -------------------------------------------------
+    // Test: Generar cuadro falla por falta de equipos
+    // -------------------------------------------------
+    @Test
+    void createBracketFailedNotEnoughTeams() {
+        when(competitionRepository.findForUpdateById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+        when(competitionRepository.findTeamIds(COMPETITION_ID)).thenReturn(new ArrayList<>(List.of(1L)));
+
+        assertThrows(MatchGenerationException.class,
+                () -> bracketService.createBracket(COMPETITION_ID, BracketType.SINGLE_ELIMINATION, false));
+
+        verify(bracketRepository, never()).save(any());
+    }
+
+    // -------------------------------------------------
+    // Test: Consultar cuadro inexistente
+    // -------------------------------------------------
+    @Test
+    void getBracketNotFound() {
+        when(bracketRepository.findByCompetitionId(COMPETITION_ID)).thenReturn(Optional.empty());
+
+        assertThrows(BracketNotFoundException.class, () -> bracketService.getBracket(COMPETITION_ID));
+    }
+
+    // -------------------------------------------------
+    // Test: Registrar ganador de la final decide el campeón
+    // -------------------------------------------------
+    @Test
+    void recordWinnerOk() {
+        Bracket bracket = twoTeamBracket();
+        Match match = Match.builder().id(MATCH_ID).competition(competition)
+                .team1(Team.builder().id(1L).build()).team2(Team.builder().id(2L).build())
+                .bracketNode(0).build();
+
+        when(bracketRepository.findForUpdateByCompetitionId(COMPETITION_ID)).thenReturn(Optional.of(bracket));
+        when(matchRepository.findById(MATCH_ID)).thenReturn(Optional.of(match));
+        when(teamRepository.getReferenceById(2L)).thenReturn(match.getTeam2());
+
+        BracketDTO result = bracketService.recordWinner(COMPETITION_ID, MATCH_ID, 2L);
+
+        assertEquals(2L, result.getChampionId());
+        assertEquals(match.getTeam2(), match.getWinner());
+        assertEquals(2L, KnockoutBracket.restore(BracketType.SINGLE_ELIMINATION, 2, bracket.getState()).champion());
+    }
+
+    // -------------------------------------------------
+    // Test: El siguiente partido se coloca leyendo solo los huecos desde el descanso de sus equipos
+    // -------------------------------------------------
+    @Test
+    void recordWinnerReadsOnlyTheDateWindow() {
+        competition.setNumberOfCourts(1);
+        competition.setMinRestDays(1);
+        KnockoutBracket engine = KnockoutBracket.seed(BracketType.SINGLE_ELIMINATION, new long[]{1L, 2L, 3L, 4L},
+                (node, round, home, away) -> { });
+        engine.recordWinner(1, engine.home(1), (node, round, home, away) -> { });
+        Bracket bracket = Bracket.builder()
+                .competition(competition)
+                .type(BracketType.SINGLE_ELIMINATION)
+                .teamCount(4)
+                .size(engine.size())
+                .state(engine.state())
+                .build();
+        long home = engine.home(2);
+        long away = engine.away(2);
+        Match match = Match.builder().id(MATCH_ID).competition(competition)
+                .team1(Team.builder().id(home).build()).team2(Team.builder().id(away).build())
+                .bracketNode(2).build();
+        LocalDate lastPlayed = LocalDate.of(2025, 12, 2);
+        LocalDate from = LocalDate.of(2025, 12, 4);
+
+        when(bracketRepository.findForUpdateByCompetitionId(COMPETITION_ID)).thenReturn(Optional.of(bracket));
+        when(matchRepository.findById(MATCH_ID)).thenReturn(Optional.of(match));
+        when(matchRepository.findLastMatchDate(eq(COMPETITION_ID), any(), any())).thenReturn(lastPlayed);
+        // Los dos huecos del primer día posible ya están ocupados por otra fase
+        when(matchRepository.findSlotRowsBetween(COMPETITION_ID, from, competition.getEndDate().plusDays(1)))
+                .thenReturn(List.of(new MatchSlotRow(90L, 91L, from, 1, 1), new MatchSlotRow(92L, 93L, from, 1, 2)));
+        List<String> slots = new ArrayList<>();
+        when(matchBatchRepository.insert(eq(COMPETITION_ID), any(MatchRowBuffer.class))).thenAnswer(invocation -> {
+            MatchRowBuffer rows = invocation.getArgument(1);
+            for (int i = 0; i < rows.size(); i++) {
+                slots.add(rows.matchDate(i) + "/" + rows.courtNumber(i) + "/" + rows.timeSlot(i));
+            }
+            return rows.size();
+        });
+
+        bracketService.recordWinner(COMPETITION_ID, MATCH_ID, away);
+
+        assertEquals(List.of("2025-12-05/1/1"), slots);
+        verify(matchRepository, never()).findSlotRows(any());
+        verify(competitionRepository, never()).findTeamIds(any());
+    }
+
+    // -------------------------------------------------
+    // Test: Registrar ganador falla si el equipo no juega el partido
+    // -------------------------------------------------
+    @Test
+    void recordWinnerFailedTeamNotInMatch() {
+        Bracket bracket = twoTeamBracket();
+        Match match = Match.builder().id(MATCH_ID).competition(competition).bracketNode(0).build();
+
+        when(bracketRepository.findForUpdateByCompetitionId(COMPETITION_ID)).thenReturn(Optional.of(bracket));
+        when(matchRepository.findById(MATCH_ID)).thenReturn(Optional.of(match));
+
+        assertThrows(InvalidMatchResultException.class,
+                () -> bracketService.recordWinner(COMPETITION_ID, MATCH_ID, 3L));
+
+        assertNull(match.getWinner());
+    }
+
+    // -------------------------------------------------
+    // Test: Registrar ganador falla si el partido no es del cuadro
+    // -------------------------------------------------
+    @Test
+    void recordWinnerFailedMatchNotInBracket() {
+        Match match = Match.builder().id(MATCH_ID).competition(competition).build();
+
+        when(bracketRepository.findForUpdateByCompetitionId(COMPETITION_ID)).thenReturn(Optional.of(twoTeamBracket()));
+        when(matchRepository.findById(MATCH_ID)).thenReturn(Optional.of(match));
+
+        assertThrows(InvalidMatchResultException.class,
+                () -> bracketService.recordWinner(COMPETITION_ID, MATCH_ID, 1L));
+    }
+
+    // -------------------------------------------------
+    // Test: Registrar ganador falla por partido inexistente
+    // -------------------------------------------------
+    @Test
+    void recordWinnerFailedMatchNotFound() {
+        when(bracketRepository.findForUpdateByCompetitionId(COMPETITION_ID)).thenReturn(Optional.of(twoTeamBracket()));
+        when(matchRepository.findById(MATCH_ID)).thenReturn(Optional.empty());
+
+        assertThrows(MatchNotFoundException.class,
+                () -> bracketService.recordWinner(COMPETITION_ID, MATCH_ID, 1L));
+    }
+
+    private Bracket twoTeamBracket() {
+        KnockoutBracket engine = KnockoutBracket.seed(BracketType.SINGLE_ELIMINATION, new long[]{1L, 2L},
+                (node, round, home, away) -> { });
+        return Bracket.builder()
+                .competition(competition)
+                .type(BracketType.SINGLE_ELIMINATION)
+                .teamCount(2)
+                .size(engine.size())
+                .state(engine.state())
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.um.gestioncompeticiones.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.um.gestioncompeticiones.dto.CacheStatsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CacheServiceTest {
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @InjectMocks
+    private CacheServiceImpl cacheService;
+
+    private CaffeineCache competitionsCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        competitionsCache = new CaffeineCache("competitions", Caffeine.newBuilder().recordStats().build());
+    }
+
+    // -------------------------------------------------
+    // Test: Estadísticas de aciertos y fallos de la caché
+    // -------------------------------------------------
+    @Test
+    void getCacheStatsOk() {
+        competitionsCache.put(1L, "Liga Primavera");
+        competitionsCache.get(1L); // acierto
+        competitionsCache.get(2L); // fallo
+
+        when(cacheManager.getCacheNames()).thenReturn(List.of("competitions"));
+        when(cacheManager.getCache("competitions")).thenReturn(competitionsCache);
+
+        List<CacheStatsDTO> result = cacheService.getCacheStats();
+
+        assertEquals(1, result.size());
+        CacheStatsDTO stats = result.get(0);
+        assertEquals("competitions", stats.getName());
+        assertEquals(1, stats.getSize());
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(0.5, stats.getHitRate());
+    }
+
+    // -------------------------------------------------
+    // Test: Sin cachés configuradas
+    // -------------------------------------------------
+    @Test
+    void getCacheStatsEmpty() {
+        when(cacheManager.getCacheNames()).thenReturn(List.of());
+
+        assertTrue(cacheService.getCacheStats().isEmpty());
+    }
+}
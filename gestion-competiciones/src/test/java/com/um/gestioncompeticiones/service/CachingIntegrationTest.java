@@ -0,0 +1,94 @@
+package com.um.gestioncompeticiones.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.um.gestioncompeticiones.config.CacheConfig;
+import com.um.gestioncompeticiones.dto.CompetitionCreateDTO;
+import com.um.gestioncompeticiones.dto.CompetitionDTO;
+import com.um.gestioncompeticiones.dto.TeamCreateDTO;
+import com.um.gestioncompeticiones.model.Competition;
+import com.um.gestioncompeticiones.model.Team;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class CachingIntegrationTest {
+
+    @Autowired
+    private CompetitionService competitionService;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private StandingsService standingsService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    // -------------------------------------------------
+    // Test: Las lecturas repetidas se sirven desde la caché
+    // -------------------------------------------------
+    @Test
+    void getCompetitionByIdServedFromCache() {
+        Competition created = competitionService.createCompetition(CompetitionCreateDTO.builder()
+                .name("Liga Caché " + System.nanoTime())
+                .sport("Fútbol")
+                .startDate(LocalDate.of(2025, 10, 20))
+                .endDate(LocalDate.of(2025, 10, 25))
+                .numberOfCourts(1)
+                .build());
+
+        CompetitionDTO first = competitionService.getCompetitionById(created.getId());
+        CompetitionDTO second = competitionService.getCompetitionById(created.getId());
+
+        assertSame(first, second);
+        // Se guarda el DTO inmutable, no la entidad
+        assertInstanceOf(CompetitionDTO.class, cacheManager.getCache(CacheConfig.COMPETITIONS).get(created.getId()).get());
+    }
+
+    // -------------------------------------------------
+    // Test: Las tablas de clasificación no caducan por escritura, el resto de cachés sí
+    // -------------------------------------------------
+    @Test
+    void standingsCacheHasNoWriteExpiry() {
+        assertTrue(nativeCache(CacheConfig.STANDINGS).policy().expireAfterWrite().isEmpty());
+        assertTrue(nativeCache(CacheConfig.STANDINGS).policy().eviction().isPresent());
+        assertTrue(nativeCache(CacheConfig.COMPETITIONS).policy().expireAfterWrite().isPresent());
+    }
+
+    // -------------------------------------------------
+    // Test: Registrar un equipo invalida solo las entradas de la competición
+    // -------------------------------------------------
+    @Test
+    void registerTeamEvictsCachedEntries() {
+        Competition competition = competitionService.createCompetition(CompetitionCreateDTO.builder()
+                .name("Liga Evicción " + System.nanoTime())
+                .sport("Fútbol")
+                .startDate(LocalDate.of(2025, 10, 20))
+                .endDate(LocalDate.of(2025, 10, 25))
+                .numberOfCourts(1)
+                .build());
+        Team team = teamService.createTeam(TeamCreateDTO.builder().name("Equipo Caché").build());
+        teamService.getTeamById(team.getId());
+        competitionService.getCompetitionById(competition.getId());
+        standingsService.getStandings(competition.getId());
+
+        teamService.registerTeamToCompetition(team.getId(), competition.getId());
+
+        assertNull(cacheManager.getCache(CacheConfig.COMPETITIONS).get(competition.getId()));
+        assertNull(cacheManager.getCache(CacheConfig.STANDINGS).get(competition.getId()));
+        // El equipo cacheado no cambia al inscribirlo
+        assertNotNull(cacheManager.getCache(CacheConfig.TEAMS).get(team.getId()));
+    }
+
+    private Cache<Object, Object> nativeCache(String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+    }
+}
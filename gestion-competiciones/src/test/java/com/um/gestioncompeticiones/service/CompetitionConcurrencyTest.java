@@ -0,0 +1,204 @@
+package com.um.gestioncompeticiones.service;
+
+import com.um.gestioncompeticiones.dto.CompetitionCreateDTO;
+import com.um.gestioncompeticiones.dto.StandingDTO;
+import com.um.gestioncompeticiones.dto.TeamCreateDTO;
+import com.um.gestioncompeticiones.exception.competition.CompetitionAlreadyExistsException;
+import com.um.gestioncompeticiones.exception.match.InvalidMatchResultException;
+import com.um.gestioncompeticiones.exception.match.MatchGenerationException;
+import com.um.gestioncompeticiones.model.BracketType;
+import com.um.gestioncompeticiones.repository.BracketRepository;
+import com.um.gestioncompeticiones.repository.CompetitionRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+public class CompetitionConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int NAMES = 25;
+
+    @Autowired
+    private CompetitionService competitionService;
+
+    @Autowired
+    private CompetitionRepository competitionRepository;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private BracketService bracketService;
+
+    @Autowired
+    private BracketRepository bracketRepository;
+
+    @Autowired
+    private MatchService matchService;
+
+    @Autowired
+    private StandingsService standingsService;
+
+    // -------------------------------------------------
+    // Test: Creaciones simultáneas con el mismo nombre crean una sola competición
+    // -------------------------------------------------
+    @Test
+    void concurrentCreatesWithSameNameCreateOne() throws Exception {
+        String prefix = "Liga Concurrente " + System.nanoTime() + " ";
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        try {
+            for (int n = 0; n < NAMES; n++) {
+                String name = prefix + n;
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> attempts = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    attempts.add(executor.submit(() -> {
+                        start.await();
+                        try {
+                            competitionService.createCompetition(competition(name));
+                            created.incrementAndGet();
+                        } catch (CompetitionAlreadyExistsException e) {
+                            rejected.incrementAndGet();
+                        }
+                        return null;
+                    }));
+                }
+                // Todas las peticiones del mismo nombre salen a la vez
+                start.countDown();
+                for (Future<?> attempt : attempts) {
+                    attempt.get(30, TimeUnit.SECONDS);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(NAMES, created.get());
+        assertEquals(NAMES * (THREADS - 1), rejected.get());
+        long stored = competitionRepository.findAll().stream()
+                .filter(c -> c.getName().startsWith(prefix))
+                .count();
+        assertEquals(NAMES, stored);
+    }
+
+    // -------------------------------------------------
+    // Test: Peticiones simultáneas de cuadro crean uno solo y el resto se rechaza
+    // -------------------------------------------------
+    @Test
+    void concurrentBracketCreationsCreateOne() throws Exception {
+        Long competitionId = competitionService.createCompetition(competition("Copa Concurrente " + System.nanoTime())).getId();
+        List<Long> teamIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            teamIds.add(teamService.createTeam(TeamCreateDTO.builder()
+                    .name("Cuadro Concurrente " + System.nanoTime())
+                    .build()).getId());
+        }
+        teamService.registerTeamsToCompetition(competitionId, teamIds);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> attempts = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        bracketService.createBracket(competitionId, BracketType.SINGLE_ELIMINATION, false);
+                        created.incrementAndGet();
+                    } catch (MatchGenerationException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> attempt : attempts) {
+                attempt.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, created.get());
+        assertEquals(THREADS - 1, rejected.get());
+        assertTrue(bracketRepository.existsByCompetitionId(competitionId));
+    }
+
+    // -------------------------------------------------
+    // Test: Resultados simultáneos del mismo partido guardan uno solo
+    // -------------------------------------------------
+    @Test
+    void concurrentScoreSubmissionsRecordOne() throws Exception {
+        Long competitionId = competitionService.createCompetition(competition("Liga Resultados " + System.nanoTime())).getId();
+        List<Long> teamIds = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            teamIds.add(teamService.createTeam(TeamCreateDTO.builder()
+                    .name("Resultado Concurrente " + System.nanoTime())
+                    .build()).getId());
+        }
+        teamService.registerTeamsToCompetition(competitionId, teamIds);
+        Long matchId = matchService.generateFirstRound(competitionId).get(0).getId();
+        // La tabla ya está en caché, así que cada resultado aceptado se suma en ella
+        standingsService.getStandings(competitionId);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger recorded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> attempts = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int homeScore = t;
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        matchService.recordScore(competitionId, matchId, homeScore, 0);
+                        recorded.incrementAndGet();
+                    } catch (InvalidMatchResultException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> attempt : attempts) {
+                attempt.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, recorded.get());
+        assertEquals(THREADS - 1, rejected.get());
+        for (StandingDTO standing : standingsService.getStandings(competitionId)) {
+            assertEquals(1, standing.getPlayed());
+        }
+    }
+
+    private CompetitionCreateDTO competition(String name) {
+        return CompetitionCreateDTO.builder()
+                .name(name)
+                .sport("Fútbol")
+                .startDate(LocalDate.of(2025, 10, 20))
+                .endDate(LocalDate.of(2025, 10, 25))
+                .numberOfCourts(1)
+                .build();
+    }
+}
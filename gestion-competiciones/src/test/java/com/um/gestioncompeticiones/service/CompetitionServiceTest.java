@@ -1,22 +1,30 @@
 package com.um.gestioncompeticiones.service;
 
 import com.um.gestioncompeticiones.dto.CompetitionCreateDTO;
+import com.um.gestioncompeticiones.dto.CompetitionDTO;
+import com.um.gestioncompeticiones.dto.TeamDTO;
 import com.um.gestioncompeticiones.exception.competition.CompetitionAlreadyExistsException;
 import com.um.gestioncompeticiones.exception.competition.CompetitionNotFoundException;
 import com.um.gestioncompeticiones.model.Competition;
 import com.um.gestioncompeticiones.model.Team;
 import com.um.gestioncompeticiones.repository.CompetitionRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -64,14 +72,13 @@ public class CompetitionServiceTest {
                 .numberOfCourts(2)
                 .build();
 
-        when(competitionRepository.existsByName(competitionCreateDTO.getName())).thenReturn(false);
-        when(competitionRepository.save(any(Competition.class))).thenReturn(competition);
+        when(competitionRepository.saveAndFlush(any(Competition.class))).thenReturn(competition);
 
         Competition result = competitionService.createCompetition(competitionCreateDTO);
 
         assertNotNull(result);
         assertEquals("Liga Primavera", result.getName());
-        verify(competitionRepository, times(1)).save(any(Competition.class));
+        verify(competitionRepository, times(1)).saveAndFlush(any(Competition.class));
 
     }
 
@@ -84,12 +91,33 @@ public class CompetitionServiceTest {
                 .name("Liga Primavera")
                 .build();
 
-        when(competitionRepository.existsByName(competitionCreateDTO.getName())).thenReturn(true);
+        // Nombre tal como lo extrae el dialecto H2 de Hibernate
+        when(competitionRepository.saveAndFlush(any(Competition.class)))
+                .thenThrow(uniqueViolation("PUBLIC.UK_COMPETITIONS_NAME_INDEX_A"));
 
         assertThrows(CompetitionAlreadyExistsException.class,
                 () -> competitionService.createCompetition(competitionCreateDTO));
+    }
 
-        verify(competitionRepository, never()).save(any(Competition.class));
+    // -------------------------------------------------
+    // Test: Otras violaciones de integridad no se traducen
+    // -------------------------------------------------
+    @Test
+    void createCompetitionFailedOtherConstraint() {
+        CompetitionCreateDTO competitionCreateDTO = CompetitionCreateDTO.builder()
+                .name("Liga Primavera")
+                .build();
+
+        // Otra restricción cuyo nombre contiene el de la del nombre no se confunde con ella
+        when(competitionRepository.saveAndFlush(any(Competition.class)))
+                .thenThrow(uniqueViolation("PUBLIC.UK_COMPETITIONS_NAME_SPORT_INDEX_B"))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement",
+                        new SQLException("NULL not allowed for column \"SPORT\"")));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> competitionService.createCompetition(competitionCreateDTO));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> competitionService.createCompetition(competitionCreateDTO));
     }
 
     // -------------------------------------------------
@@ -128,20 +156,58 @@ public class CompetitionServiceTest {
         verify(competitionRepository, times(1)).findAll();
     }
 
+    // -------------------------------------------------
+    // Test: Obtener una página de competiciones por clave
+    // -------------------------------------------------
+    @Test
+    void getCompetitionsAfterOk() {
+        CompetitionDTO dto = CompetitionDTO.builder().id(EXISTING_COMPETITION_ID_2).name("Copa Verano").build();
+
+        when(competitionRepository.findDTOsAfter(EXISTING_COMPETITION_ID, Limit.of(10))).thenReturn(List.of(dto));
+
+        List<CompetitionDTO> result = competitionService.getCompetitionsAfter(EXISTING_COMPETITION_ID, 10);
+
+        assertEquals(1, result.size());
+        assertEquals(EXISTING_COMPETITION_ID_2, result.get(0).id());
+        verify(competitionRepository, never()).findAll();
+    }
+
+    // -------------------------------------------------
+    // Test: Recorrer todas las competiciones en streaming
+    // -------------------------------------------------
+    @Test
+    void forEachCompetitionOk() {
+        CompetitionDTO dto1 = CompetitionDTO.builder().id(EXISTING_COMPETITION_ID).build();
+        CompetitionDTO dto2 = CompetitionDTO.builder().id(EXISTING_COMPETITION_ID_2).build();
+
+        when(competitionRepository.streamAllDTOs()).thenReturn(Stream.of(dto1, dto2));
+
+        List<CompetitionDTO> visited = new ArrayList<>();
+        competitionService.forEachCompetition(visited::add);
+
+        assertEquals(List.of(dto1, dto2), visited);
+        verify(competitionRepository, never()).findAll();
+    }
+
     // -------------------------------------------------
     // Test: Obtener una competición por ID correctamente
     // -------------------------------------------------
     @Test
     void getCompetitionByIdOk() {
-        when(competitionRepository.findById(competition.getId())).thenReturn(Optional.of(competition));
+        CompetitionDTO dto = CompetitionDTO.builder()
+                .id(competition.getId())
+                .name(competition.getName())
+                .build();
+        when(competitionRepository.findDTOById(competition.getId())).thenReturn(Optional.of(dto));
 
-        Competition result = competitionService.getCompetitionById(competition.getId());
+        CompetitionDTO result = competitionService.getCompetitionById(competition.getId());
 
         assertNotNull(result);
-        assertEquals(competition.getId(), result.getId());
-        assertEquals(competition.getName(), result.getName());
+        assertEquals(competition.getId(), result.id());
+        assertEquals(competition.getName(), result.name());
 
-        verify(competitionRepository, times(1)).findById(competition.getId());
+        verify(competitionRepository, times(1)).findDTOById(competition.getId());
+        verify(competitionRepository, never()).findById(anyLong());
     }
 
     // -------------------------------------------------
@@ -149,12 +215,12 @@ public class CompetitionServiceTest {
     // -------------------------------------------------
     @Test
     void getCompetitionByIdFailedNotFound() {
-        when(competitionRepository.findById(NON_EXISTENT_COMPETITION_ID)).thenReturn(Optional.empty());
+        when(competitionRepository.findDTOById(NON_EXISTENT_COMPETITION_ID)).thenReturn(Optional.empty());
 
         assertThrows(CompetitionNotFoundException.class,
                 () -> competitionService.getCompetitionById(NON_EXISTENT_COMPETITION_ID));
 
-        verify(competitionRepository, times(1)).findById(NON_EXISTENT_COMPETITION_ID);
+        verify(competitionRepository, times(1)).findDTOById(NON_EXISTENT_COMPETITION_ID);
     }
 
     // -------------------------------------------------
@@ -197,6 +263,35 @@ public class CompetitionServiceTest {
         verify(competitionRepository, times(1)).findById(competition.getId());
     }
 
+    // -------------------------------------------------
+    // Test: Obtener una página de equipos de una competición
+    // -------------------------------------------------
+    @Test
+    void getTeamsByCompetitionAfterOk() {
+        TeamDTO team = TeamDTO.builder().id(TEAM_ID_2).name("Equipo B").build();
+
+        when(competitionRepository.findTeamDTOsAfter(EXISTING_COMPETITION_ID, TEAM_ID_1, Limit.of(1)))
+                .thenReturn(List.of(team));
+
+        List<TeamDTO> result = competitionService.getTeamsByCompetitionAfter(EXISTING_COMPETITION_ID, TEAM_ID_1, 1);
+
+        assertEquals(List.of(team), result);
+        verify(competitionRepository, never()).findById(anyLong());
+    }
+
+    // -------------------------------------------------
+    // Test: Excepción en la página de equipos si la competición no existe
+    // -------------------------------------------------
+    @Test
+    void getTeamsByCompetitionAfterNotFound() {
+        when(competitionRepository.findTeamDTOsAfter(NON_EXISTENT_COMPETITION_ID, 0L, Limit.of(10)))
+                .thenReturn(List.of());
+        when(competitionRepository.existsById(NON_EXISTENT_COMPETITION_ID)).thenReturn(false);
+
+        assertThrows(CompetitionNotFoundException.class,
+                () -> competitionService.getTeamsByCompetitionAfter(NON_EXISTENT_COMPETITION_ID, 0L, 10));
+    }
+
     // -------------------------------------------------
     // Test: Excepción si la competición no existe
     // -------------------------------------------------
@@ -209,4 +304,11 @@ public class CompetitionServiceTest {
 
         verify(competitionRepository, times(1)).findById(NON_EXISTENT_COMPETITION_ID);
     }
+
+    private static DataIntegrityViolationException uniqueViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement",
+                        new SQLException("Unique index or primary key violation"), "insert into competitions",
+                        ConstraintViolationException.ConstraintKind.UNIQUE, constraintName));
+    }
 }
@@ -0,0 +1,203 @@
+package com.um.gestioncompeticiones.service;
+
+import com.um.gestioncompeticiones.exception.idempotency.IdempotencyKeyInProgressException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdempotencyServiceTest {
+
+    private IdempotencyServiceImpl idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyServiceImpl();
+    }
+
+    // -------------------------------------------------
+    // Test: Con la misma clave la acción se ejecuta una vez
+    // -------------------------------------------------
+    @Test
+    void sameKeyRunsActionOnce() {
+        AtomicInteger calls = new AtomicInteger();
+
+        String first = idempotencyService.execute("first-round:1", "abc", () -> "result-" + calls.incrementAndGet());
+        String second = idempotencyService.execute("first-round:1", "abc", () -> "result-" + calls.incrementAndGet());
+
+        assertEquals(1, calls.get());
+        assertEquals("result-1", first);
+        assertSame(first, second);
+    }
+
+    // -------------------------------------------------
+    // Test: Las peticiones simultáneas esperan a la primera y reciben su resultado
+    // -------------------------------------------------
+    @Test
+    void concurrentCallersShareResult() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> first = executor.submit(() -> idempotencyService.execute("first-round:1", "abc", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "result";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            Future<String> second = executor.submit(() ->
+                    idempotencyService.execute("first-round:1", "abc", () -> "result-" + calls.incrementAndGet()));
+            Future<String> third = executor.submit(() ->
+                    idempotencyService.execute("first-round:1", "abc", () -> "result-" + calls.incrementAndGet()));
+            assertFalse(second.isDone());
+
+            release.countDown();
+
+            assertEquals("result", first.get(5, TimeUnit.SECONDS));
+            assertEquals("result", second.get(5, TimeUnit.SECONDS));
+            assertEquals("result", third.get(5, TimeUnit.SECONDS));
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // -------------------------------------------------
+    // Test: Un fallo no se guarda y el reintento vuelve a ejecutar la acción
+    // -------------------------------------------------
+    @Test
+    void failureIsNotStored() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute("first-round:1", "abc", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }));
+        String retried = idempotencyService.execute("first-round:1", "abc", () -> "result-" + calls.incrementAndGet());
+
+        assertEquals(2, calls.get());
+        assertEquals("result-2", retried);
+    }
+
+    // -------------------------------------------------
+    // Test: Un Error libera la clave y llega también a quien esperaba
+    // -------------------------------------------------
+    @Test
+    void errorReleasesWaitersAndIsNotStored() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> idempotencyService.execute("first-round:1", "abc", () -> {
+                started.countDown();
+                await(release);
+                throw new AssertionError("boom");
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<String> second = executor.submit(() ->
+                    idempotencyService.execute("first-round:1", "abc", () -> "second"));
+            awaitWaiting();
+
+            release.countDown();
+
+            ExecutionException firstFailure = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(AssertionError.class, firstFailure.getCause());
+            ExecutionException secondFailure = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(AssertionError.class, secondFailure.getCause());
+            assertEquals("retried", idempotencyService.execute("first-round:1", "abc", () -> "retried"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // -------------------------------------------------
+    // Test: Una repetición no espera indefinidamente a la original
+    // -------------------------------------------------
+    @Test
+    void waitIsBounded() throws Exception {
+        IdempotencyServiceImpl service = new IdempotencyServiceImpl(Duration.ofMillis(100));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> first = executor.submit(() -> service.execute("first-round:1", "abc", () -> {
+                started.countDown();
+                await(release);
+                return "result";
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            assertThrows(IdempotencyKeyInProgressException.class,
+                    () -> service.execute("first-round:1", "abc", () -> "second"));
+
+            release.countDown();
+            assertEquals("result", first.get(5, TimeUnit.SECONDS));
+            assertEquals("result", service.execute("first-round:1", "abc", () -> "third"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // -------------------------------------------------
+    // Test: Sin clave la acción se ejecuta siempre
+    // -------------------------------------------------
+    @Test
+    void missingKeyAlwaysRunsAction() {
+        AtomicInteger calls = new AtomicInteger();
+
+        idempotencyService.execute("first-round:1", null, calls::incrementAndGet);
+        idempotencyService.execute("first-round:1", " ", calls::incrementAndGet);
+
+        assertEquals(2, calls.get());
+    }
+
+    // -------------------------------------------------
+    // Test: La misma clave en otra operación no comparte resultado
+    // -------------------------------------------------
+    @Test
+    void scopesAreIndependent() {
+        String firstRound = idempotencyService.execute("first-round:1", "abc", () -> "first-round");
+        String otherCompetition = idempotencyService.execute("first-round:2", "abc", () -> "other");
+
+        assertEquals("first-round", firstRound);
+        assertEquals("other", otherCompetition);
+    }
+
+    // Espera a que alguna petición repetida esté bloqueada esperando el resultado de la original
+    private static void awaitWaiting() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            boolean waiting = Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> thread.getState() == Thread.State.TIMED_WAITING)
+                    .anyMatch(thread -> Arrays.stream(thread.getStackTrace())
+                            .anyMatch(frame -> frame.getMethodName().equals("await")
+                                    && frame.getClassName().equals(IdempotencyServiceImpl.class.getName())));
+            if (waiting) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        fail("Second caller never waited for the first one");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
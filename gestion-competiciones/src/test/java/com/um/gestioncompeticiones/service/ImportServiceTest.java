@@ -0,0 +1,179 @@
+package com.um.gestioncompeticiones.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.um.gestioncompeticiones.dto.CompetitionCreateDTO;
+import com.um.gestioncompeticiones.dto.ImportErrorDTO;
+import com.um.gestioncompeticiones.dto.ImportResultDTO;
+import com.um.gestioncompeticiones.dto.TeamCreateDTO;
+import com.um.gestioncompeticiones.importer.ImportFormat;
+import com.um.gestioncompeticiones.repository.CompetitionBatchRepository;
+import com.um.gestioncompeticiones.repository.TeamBatchRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+public class ImportServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+    private static final int MAX_ERRORS = 2;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TeamBatchRepository teamBatchRepository;
+
+    @Mock
+    private CompetitionBatchRepository competitionBatchRepository;
+
+    private ImportServiceImpl importService;
+
+    // Copia de cada bloque recibido: el servicio reutiliza la lista entre bloques
+    private final List<List<String>> insertedChunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        importService = new ImportServiceImpl(objectMapper, validator, new TransactionTemplate(transactionManager),
+                teamBatchRepository, competitionBatchRepository, CHUNK_SIZE, MAX_ERRORS);
+
+        when(teamBatchRepository.insert(anyList())).thenAnswer(invocation -> {
+            List<TeamCreateDTO> teams = invocation.getArgument(0);
+            insertedChunks.add(teams.stream().map(TeamCreateDTO::getName).toList());
+            return teams.size();
+        });
+    }
+
+    // -------------------------------------------------
+    // Test: Importar equipos desde CSV por bloques
+    // -------------------------------------------------
+    @Test
+    void importTeamsCsvInChunks() {
+        ImportResultDTO result = importService.importTeams(
+                stream("name\nEquipo A\nEquipo B\nEquipo C\n"), ImportFormat.CSV);
+
+        assertEquals(3, result.getRows());
+        assertEquals(3, result.getImported());
+        assertEquals(0, result.getFailed());
+        assertTrue(result.getErrors().isEmpty());
+        assertEquals(List.of(List.of("Equipo A", "Equipo B"), List.of("Equipo C")), insertedChunks);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    // -------------------------------------------------
+    // Test: Las filas inválidas se informan y el resto se importa
+    // -------------------------------------------------
+    @Test
+    void importTeamsReportsInvalidRows() {
+        ImportResultDTO result = importService.importTeams(
+                stream("{\"name\":\"Equipo A\"}\n{\"name\":\"\"}\n{oops\n{\"name\":\"Equipo B\"}\n"),
+                ImportFormat.NDJSON);
+
+        assertEquals(4, result.getRows());
+        assertEquals(2, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(new ImportErrorDTO(2, "Name is mandatory"), result.getErrors().get(0));
+        assertEquals(3, result.getErrors().get(1).getLine());
+        assertEquals(List.of(List.of("Equipo A", "Equipo B")), insertedChunks);
+    }
+
+    // -------------------------------------------------
+    // Test: Solo se devuelven los primeros errores, pero se cuentan todos
+    // -------------------------------------------------
+    @Test
+    void importTeamsCapsReportedErrors() {
+        ImportResultDTO result = importService.importTeams(stream("name\n \n  \n\" \"\nEquipo A\n"), ImportFormat.CSV);
+
+        assertEquals(1, result.getImported());
+        assertEquals(3, result.getFailed());
+        assertEquals(MAX_ERRORS, result.getErrors().size());
+    }
+
+    // -------------------------------------------------
+    // Test: Validación y tipos de las competiciones
+    // -------------------------------------------------
+    @Test
+    void importCompetitionsValidatesRows() {
+        List<CompetitionCreateDTO> inserted = new ArrayList<>();
+        when(competitionBatchRepository.insert(anyList())).thenAnswer(invocation -> {
+            List<CompetitionCreateDTO> competitions = invocation.getArgument(0);
+            inserted.addAll(competitions);
+            return competitions.size();
+        });
+
+        ImportResultDTO result = importService.importCompetitions(stream("""
+                name,sport,startDate,endDate,numberOfCourts,minRestDays
+                Liga A,Fútbol,2025-01-01,2025-06-30,4,1
+                Liga B,Tenis,2025-13-01,2025-06-30,2,0
+                Liga C,Pádel,2025-01-01,2025-06-30,0,0
+                """), ImportFormat.CSV);
+
+        assertEquals(3, result.getRows());
+        assertEquals(1, result.getImported());
+        assertEquals(List.of(
+                new ImportErrorDTO(3, "Invalid value for 'startDate'"),
+                new ImportErrorDTO(4, "There must be at least one court")), result.getErrors());
+        assertEquals(LocalDate.of(2025, 6, 30), inserted.get(0).getEndDate());
+        assertEquals(4, inserted.get(0).getNumberOfCourts());
+    }
+
+    // -------------------------------------------------
+    // Test: Un nombre repetido rechaza solo su fila
+    // -------------------------------------------------
+    @Test
+    void importCompetitionsRetriesRejectedChunkRowByRow() {
+        DataIntegrityViolationException duplicate = new DataIntegrityViolationException("duplicate",
+                new ConstraintViolationException("could not insert competitions",
+                        new SQLException("Unique index or primary key violation"), "insert into competitions",
+                        ConstraintViolationException.ConstraintKind.UNIQUE, "PUBLIC.UK_COMPETITIONS_NAME_INDEX_A"));
+        when(competitionBatchRepository.insert(anyList())).thenAnswer(invocation -> {
+            List<CompetitionCreateDTO> competitions = invocation.getArgument(0);
+            if (competitions.stream().anyMatch(c -> c.getName().equals("Copa Verano"))) {
+                throw duplicate;
+            }
+            return competitions.size();
+        });
+
+        ImportResultDTO result = importService.importCompetitions(stream("""
+                {"name":"Liga A","sport":"Fútbol","startDate":"2025-01-01","endDate":"2025-06-30","numberOfCourts":2}
+                {"name":"Copa Verano","sport":"Fútbol","startDate":"2025-01-01","endDate":"2025-06-30","numberOfCourts":2}
+                """), ImportFormat.NDJSON);
+
+        assertEquals(1, result.getImported());
+        assertEquals(List.of(new ImportErrorDTO(2, "A competition with the name 'Copa Verano' already exists.")),
+                result.getErrors());
+        // Bloque completo, que falla, y después una transacción por fila
+        verify(competitionBatchRepository, times(3)).insert(anyList());
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,159 @@
+package com.um.gestioncompeticiones.service;
+
+import com.um.gestioncompeticiones.dto.JobDTO;
+import com.um.gestioncompeticiones.exception.job.JobNotFoundException;
+import com.um.gestioncompeticiones.exception.job.JobRejectedException;
+import com.um.gestioncompeticiones.job.JobStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JobServiceTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    // Ejecutor manual: las tareas se guardan y se lanzan cuando el test lo decide
+    private final List<Runnable> queued = new ArrayList<>();
+
+    // Reloj manual para la caducidad de los trabajos
+    private final AtomicLong nanos = new AtomicLong();
+
+    private JobServiceImpl jobService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        TaskExecutor executor = queued::add;
+        jobService = new JobServiceImpl(executor, new TransactionTemplate(transactionManager), nanos::get);
+    }
+
+    // -------------------------------------------------
+    // Test: El trabajo queda pendiente hasta que el ejecutor lo lanza
+    // -------------------------------------------------
+    @Test
+    void submitReturnsPendingJob() {
+        JobDTO job = jobService.submit("round-robin", 1L, progress -> "done");
+
+        assertNotNull(job.getId());
+        assertEquals(JobStatus.PENDING, job.getStatus());
+        assertEquals(1L, job.getCompetitionId());
+        assertNull(job.getResult());
+        assertEquals(1, queued.size());
+    }
+
+    // -------------------------------------------------
+    // Test: El progreso y el resultado se ven al consultar el trabajo
+    // -------------------------------------------------
+    @Test
+    void getJobReportsProgressAndResult() {
+        List<String> ids = new ArrayList<>();
+        List<JobDTO> duringRun = new ArrayList<>();
+        JobDTO submitted = jobService.submit("round-robin", 1L, progress -> {
+            progress.onProgress(50, 200);
+            duringRun.add(jobService.getJob(ids.get(0)));
+            return "done";
+        });
+        ids.add(submitted.getId());
+
+        queued.get(0).run();
+
+        assertEquals(JobStatus.RUNNING, duringRun.get(0).getStatus());
+        assertEquals(25.0, duringRun.get(0).getProgress());
+        assertNull(duringRun.get(0).getResult());
+
+        JobDTO job = jobService.getJob(submitted.getId());
+        assertEquals(JobStatus.COMPLETED, job.getStatus());
+        assertEquals("done", job.getResult());
+        assertEquals(100.0, job.getProgress());
+        assertNotNull(job.getStartedAt());
+        assertNotNull(job.getFinishedAt());
+    }
+
+    // -------------------------------------------------
+    // Test: Un error en el trabajo se guarda como fallo
+    // -------------------------------------------------
+    @Test
+    void getJobReportsFailure() {
+        JobDTO submitted = jobService.submit("swiss", 1L, progress -> {
+            throw new IllegalStateException("Not enough teams to generate matches.");
+        });
+
+        queued.get(0).run();
+
+        JobDTO job = jobService.getJob(submitted.getId());
+        assertEquals(JobStatus.FAILED, job.getStatus());
+        assertEquals("Not enough teams to generate matches.", job.getError());
+        assertNull(job.getResult());
+    }
+
+    // -------------------------------------------------
+    // Test: Un Error también deja el trabajo como fallido y se propaga
+    // -------------------------------------------------
+    @Test
+    void errorMarksJobFailedAndIsRethrown() {
+        JobDTO submitted = jobService.submit("round-robin", 1L, progress -> {
+            throw new StackOverflowError();
+        });
+
+        assertThrows(StackOverflowError.class, () -> queued.get(0).run());
+
+        JobDTO job = jobService.getJob(submitted.getId());
+        assertEquals(JobStatus.FAILED, job.getStatus());
+        assertEquals(StackOverflowError.class.getName(), job.getError());
+    }
+
+    // -------------------------------------------------
+    // Test: La conservación cuenta desde el último cambio de estado, no desde el envío
+    // -------------------------------------------------
+    @Test
+    void retentionCountsFromLastStatusChange() {
+        JobDTO submitted = jobService.submit("round-robin", 1L, progress -> "done");
+
+        // Espera en cola casi todo el plazo antes de ejecutarse
+        advance(JobServiceImpl.RETENTION.minusMinutes(1));
+        queued.get(0).run();
+
+        advance(JobServiceImpl.RETENTION.minusMinutes(1));
+        assertEquals(JobStatus.COMPLETED, jobService.getJob(submitted.getId()).getStatus());
+
+        advance(Duration.ofMinutes(2));
+        assertThrows(JobNotFoundException.class, () -> jobService.getJob(submitted.getId()));
+    }
+
+    // -------------------------------------------------
+    // Test: Cola llena
+    // -------------------------------------------------
+    @Test
+    void submitRejectedWhenQueueFull() {
+        JobServiceImpl fullService = new JobServiceImpl(task -> {
+            throw new TaskRejectedException("queue full");
+        }, new TransactionTemplate(transactionManager));
+
+        assertThrows(JobRejectedException.class, () -> fullService.submit("first-round", 1L, progress -> null));
+    }
+
+    // -------------------------------------------------
+    // Test: Trabajo inexistente
+    // -------------------------------------------------
+    @Test
+    void getJobNotFound() {
+        assertThrows(JobNotFoundException.class, () -> jobService.getJob("missing"));
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
@@ -1,23 +1,41 @@
 package com.um.gestioncompeticiones.service;
 
+import com.um.gestioncompeticiones.dto.MatchDTO;
+import com.um.gestioncompeticiones.dto.ScheduleSummaryDTO;
+import com.um.gestioncompeticiones.dto.SwissRoundDTO;
+import com.um.gestioncompeticiones.exception.match.InvalidMatchResultException;
 import com.um.gestioncompeticiones.exception.match.MatchGenerationException;
 import com.um.gestioncompeticiones.exception.match.MatchNotFoundException;
+import com.um.gestioncompeticiones.exception.team.TeamNotFoundException;
 import com.um.gestioncompeticiones.model.Competition;
 import com.um.gestioncompeticiones.model.Match;
+import com.um.gestioncompeticiones.model.SwissBye;
 import com.um.gestioncompeticiones.model.Team;
 import com.um.gestioncompeticiones.repository.CompetitionRepository;
+import com.um.gestioncompeticiones.repository.MatchBatchRepository;
+import com.um.gestioncompeticiones.repository.MatchPairingRow;
 import com.um.gestioncompeticiones.repository.MatchRepository;
+import com.um.gestioncompeticiones.repository.MatchRowBuffer;
+import com.um.gestioncompeticiones.repository.SwissByeRepository;
+import com.um.gestioncompeticiones.repository.TeamRepository;
+import com.um.gestioncompeticiones.scheduling.RoundRobinScheduler;
+import com.um.gestioncompeticiones.scheduling.SwissPairing;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 public class MatchServiceTest {
@@ -28,6 +46,24 @@ public class MatchServiceTest {
     @Mock
     private MatchRepository matchRepository;
 
+    @Mock
+    private MatchBatchRepository matchBatchRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private SwissByeRepository swissByeRepository;
+
+    @Spy
+    private RoundRobinScheduler roundRobinScheduler = new RoundRobinScheduler();
+
+    @Spy
+    private SwissPairing swissPairing = new SwissPairing();
+
+    @Mock
+    private StandingsService standingsService;
+
     @InjectMocks
     private MatchServiceImpl matchService;
 
@@ -68,7 +104,7 @@ public class MatchServiceTest {
     // -------------------------------------------------
     @Test
     void generateFirstRoundOk() {
-        when(competitionRepository.findById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+        when(competitionRepository.findForUpdateById(COMPETITION_ID)).thenReturn(Optional.of(competition));
         when(matchRepository.saveAll(anyList())).thenReturn(Collections.emptyList());
 
         List<Match> matches = matchService.generateFirstRound(COMPETITION_ID);
@@ -80,12 +116,27 @@ public class MatchServiceTest {
         verify(matchRepository, times(1)).saveAll(matches);
     }
 
+    // -------------------------------------------------
+    // Test: Si la primera jornada ya existe se devuelve sin generar otra
+    // -------------------------------------------------
+    @Test
+    void generateFirstRoundReturnsExistingRound() {
+        Match existing = Match.builder().id(10L).competition(competition).team1(team1).team2(team2).round(1).build();
+        when(competitionRepository.findForUpdateById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+        when(matchRepository.findByCompetitionIdAndRound(COMPETITION_ID, 1)).thenReturn(List.of(existing));
+
+        List<Match> matches = matchService.generateFirstRound(COMPETITION_ID);
+
+        assertEquals(List.of(existing), matches);
+        verify(matchRepository, never()).saveAll(anyList());
+    }
+
     // -------------------------------------------------
     // Test: Generar primera jornada falla por competición inexistente
     // -------------------------------------------------
     @Test
     void generateFirstRoundFailedCompetitionNotFound() {
-        when(competitionRepository.findById(NON_EXISTENT_COMPETITION_ID)).thenReturn(Optional.empty());
+        when(competitionRepository.findForUpdateById(NON_EXISTENT_COMPETITION_ID)).thenReturn(Optional.empty());
 
         assertThrows(MatchNotFoundException.class,
                 () -> matchService.generateFirstRound(NON_EXISTENT_COMPETITION_ID));
@@ -100,12 +151,12 @@ public class MatchServiceTest {
     void generateFirstRoundFailedNotEnoughTeams() {
         competition.setTeams(Set.of(team1));
 
-        when(competitionRepository.findById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+        when(competitionRepository.findForUpdateById(COMPETITION_ID)).thenReturn(Optional.of(competition));
 
         assertThrows(MatchGenerationException.class,
                 () -> matchService.generateFirstRound(COMPETITION_ID));
 
-        verify(competitionRepository, times(1)).findById(COMPETITION_ID);
+        verify(competitionRepository, times(1)).findForUpdateById(COMPETITION_ID);
     }
 
     // -------------------------------------------------
@@ -132,7 +183,7 @@ public class MatchServiceTest {
                         Team.builder().id(100L).name("Equipo 10").build()
                 ))
                 .build();
-        when(competitionRepository.findById(COMPETITION_ID_COURT_LIMIT)).thenReturn(Optional.of(competitionCourtLimit));
+        when(competitionRepository.findForUpdateById(COMPETITION_ID_COURT_LIMIT)).thenReturn(Optional.of(competitionCourtLimit));
 
         List<Match> matches = matchService.generateFirstRound(COMPETITION_ID_COURT_LIMIT);
 
@@ -148,10 +199,272 @@ public class MatchServiceTest {
             assertEquals(competitionCourtLimit.getStartDate(), match.getMatchDate(), "Fecha del partido incorrecta");
         });
 
-        verify(competitionRepository, times(1)).findById(COMPETITION_ID_COURT_LIMIT);
+        verify(competitionRepository, times(1)).findForUpdateById(COMPETITION_ID_COURT_LIMIT);
         verify(matchRepository, times(1)).saveAll(matches);
     }
 
+    // -------------------------------------------------
+    // Test: Generar calendario completo correctamente
+    // -------------------------------------------------
+    @Test
+    void generateFullScheduleOk() {
+        when(competitionRepository.findForUpdateById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+
+        ScheduleSummaryDTO summary = matchService.generateFullSchedule(COMPETITION_ID, false);
+
+        assertEquals(COMPETITION_ID, summary.getCompetitionId());
+        assertEquals(3, summary.getTeams());
+        assertEquals(3, summary.getRounds());
+        assertEquals(3, summary.getMatches());
+        assertEquals(competition.getStartDate(), summary.getFirstMatchDate());
+        // Con 3 equipos todos los partidos comparten un equipo con el anterior y nadie juega
+        // dos veces el mismo día: un partido por día
+        assertEquals(competition.getStartDate().plusDays(2), summary.getLastMatchDate());
+        verify(matchBatchRepository, times(1)).insert(eq(COMPETITION_ID), any(MatchRowBuffer.class));
+        verify(matchRepository, never()).saveAll(anyList());
+    }
+
+    // -------------------------------------------------
+    // Test: Generar calendario falla si la competición ya tiene partidos
+    // -------------------------------------------------
+    @Test
+    void generateFullScheduleFailedAlreadyGenerated() {
+        when(competitionRepository.findForUpdateById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+        when(matchRepository.existsByCompetitionId(COMPETITION_ID)).thenReturn(true);
+
+        assertThrows(MatchGenerationException.class,
+                () -> matchService.generateFullSchedule(COMPETITION_ID, false));
+
+        verify(matchBatchRepository, never()).insert(anyLong(), any(MatchRowBuffer.class));
+    }
+
+    // -------------------------------------------------
+    // Test: Generar calendario falla si no cabe en las fechas
+    // -------------------------------------------------
+    @Test
+    void generateFullScheduleFailedWindowTooSmall() {
+        competition.setEndDate(competition.getStartDate());
+
+        when(competitionRepository.findForUpdateById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+
+        assertThrows(MatchGenerationException.class,
+                () -> matchService.generateFullSchedule(COMPETITION_ID, true));
+
+        verify(matchBatchRepository, never()).insert(anyLong(), any(MatchRowBuffer.class));
+    }
+
+    // -------------------------------------------------
+    // Test: Generar calendario falla si el descanso mínimo no cabe en las fechas
+    // -------------------------------------------------
+    @Test
+    void generateFullScheduleFailedRestDays() {
+        // 3 partidos con 2 días de descanso necesitan 7 días y la competición tiene 6
+        competition.setMinRestDays(2);
+
+        when(competitionRepository.findForUpdateById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+
+        assertThrows(MatchGenerationException.class,
+                () -> matchService.generateFullSchedule(COMPETITION_ID, false));
+    }
+
+    // -------------------------------------------------
+    // Test: Generar calendario falla por competición inexistente
+    // -------------------------------------------------
+    @Test
+    void generateFullScheduleFailedCompetitionNotFound() {
+        when(competitionRepository.findForUpdateById(NON_EXISTENT_COMPETITION_ID)).thenReturn(Optional.empty());
+
+        assertThrows(MatchNotFoundException.class,
+                () -> matchService.generateFullSchedule(NON_EXISTENT_COMPETITION_ID, false));
+
+        verify(matchBatchRepository, never()).insert(anyLong(), any(MatchRowBuffer.class));
+    }
+
+    // -------------------------------------------------
+    // Test: Generar la siguiente ronda suiza sin repetir enfrentamientos
+    // -------------------------------------------------
+    @Test
+    void generateSwissRoundOk() {
+        LocalDate firstRoundDate = competition.getStartDate();
+        when(competitionRepository.findForUpdateById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+        when(competitionRepository.findTeamIds(COMPETITION_ID)).thenReturn(List.of(TEAM_ID, TEAM_ID_2, TEAM_ID_3));
+        // Ronda 1: A gana a B y C descansa
+        when(matchRepository.findPairingRows(COMPETITION_ID)).thenReturn(List.of(
+                new MatchPairingRow(TEAM_ID, TEAM_ID_2, TEAM_ID, null, 1, firstRoundDate)));
+        when(swissByeRepository.findTeamIdsByCompetitionId(COMPETITION_ID)).thenReturn(List.of(TEAM_ID_3));
+        when(teamRepository.getReferenceById(TEAM_ID_2)).thenReturn(team2);
+
+        SwissRoundDTO result = matchService.generateSwissRound(COMPETITION_ID);
+
+        assertEquals(2, result.getRound());
+        assertEquals(1, result.getMatches());
+        // C ya descansó: descansa B, el peor clasificado
+        assertEquals(TEAM_ID_2, result.getByeTeamId());
+        assertEquals(firstRoundDate.plusDays(1), result.getFirstMatchDate());
+        verify(matchBatchRepository, times(1)).insert(eq(COMPETITION_ID), any(MatchRowBuffer.class));
+        ArgumentCaptor<SwissBye> bye = ArgumentCaptor.forClass(SwissBye.class);
+        verify(swissByeRepository, times(1)).save(bye.capture());
+        assertEquals(team2, bye.getValue().getTeam());
+        assertEquals(2, bye.getValue().getRound());
+    }
+
+    // -------------------------------------------------
+    // Test: Un equipo inscrito después de la primera ronda no suma un descanso que no tuvo
+    // -------------------------------------------------
+    @Test
+    void generateSwissRoundLateTeamHasNoBye() {
+        long lateTeamId = 4L;
+        when(competitionRepository.findForUpdateById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+        when(competitionRepository.findTeamIds(COMPETITION_ID))
+                .thenReturn(List.of(TEAM_ID, TEAM_ID_2, TEAM_ID_3, lateTeamId));
+        // Ronda 1 entre A, B y C: A gana a B y C descansa; D se inscribe después
+        when(matchRepository.findPairingRows(COMPETITION_ID)).thenReturn(List.of(
+                new MatchPairingRow(TEAM_ID, TEAM_ID_2, TEAM_ID, null, 1, competition.getStartDate())));
+        when(swissByeRepository.findTeamIdsByCompetitionId(COMPETITION_ID)).thenReturn(List.of(TEAM_ID_3));
+
+        SwissRoundDTO result = matchService.generateSwissRound(COMPETITION_ID);
+
+        ArgumentCaptor<int[]> scores = ArgumentCaptor.forClass(int[].class);
+        ArgumentCaptor<boolean[]> hadBye = ArgumentCaptor.forClass(boolean[].class);
+        verify(swissPairing).pair(eq(2), scores.capture(), any(), hadBye.capture(), any(), any(), any());
+        assertArrayEquals(new int[]{2, 0, 2, 0}, scores.getValue());
+        assertArrayEquals(new boolean[]{false, false, true, false}, hadBye.getValue());
+        assertNull(result.getByeTeamId());
+        verify(swissByeRepository, never()).save(any());
+    }
+
+    // -------------------------------------------------
+    // Test: Un empate cuenta como partido decidido y permite emparejar la siguiente ronda
+    // -------------------------------------------------
+    @Test
+    void generateSwissRoundAfterDraw() {
+        long teamId4 = 4L;
+        LocalDate firstRoundDate = competition.getStartDate();
+        when(competitionRepository.findForUpdateById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+        when(competitionRepository.findTeamIds(COMPETITION_ID))
+                .thenReturn(List.of(TEAM_ID, TEAM_ID_2, TEAM_ID_3, teamId4));
+        // Ronda 1: A y B empatan 1-1 (sin ganador) y C gana a D
+        when(matchRepository.findPairingRows(COMPETITION_ID)).thenReturn(List.of(
+                new MatchPairingRow(TEAM_ID, TEAM_ID_2, null, 1, 1, firstRoundDate),
+                new MatchPairingRow(TEAM_ID_3, teamId4, TEAM_ID_3, 2, 1, firstRoundDate)));
+
+        SwissRoundDTO result = matchService.generateSwissRound(COMPETITION_ID);
+
+        assertEquals(2, result.getRound());
+        assertEquals(2, result.getMatches());
+        assertNull(result.getByeTeamId());
+        verify(matchBatchRepository, times(1)).insert(eq(COMPETITION_ID), any(MatchRowBuffer.class));
+    }
+
+    // -------------------------------------------------
+    // Test: Generar ronda suiza falla si hay partidos sin resultado
+    // -------------------------------------------------
+    @Test
+    void generateSwissRoundFailedPendingResults() {
+        when(competitionRepository.findForUpdateById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+        when(competitionRepository.findTeamIds(COMPETITION_ID)).thenReturn(List.of(TEAM_ID, TEAM_ID_2, TEAM_ID_3));
+        when(matchRepository.findPairingRows(COMPETITION_ID)).thenReturn(List.of(
+                new MatchPairingRow(TEAM_ID, TEAM_ID_2, null, null, 1, competition.getStartDate())));
+
+        assertThrows(MatchGenerationException.class, () -> matchService.generateSwissRound(COMPETITION_ID));
+
+        verify(matchBatchRepository, never()).insert(anyLong(), any(MatchRowBuffer.class));
+    }
+
+    // -------------------------------------------------
+    // Test: Generar ronda suiza falla si solo quedan revanchas
+    // -------------------------------------------------
+    @Test
+    void generateSwissRoundFailedOnlyRematches() {
+        when(competitionRepository.findForUpdateById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+        when(competitionRepository.findTeamIds(COMPETITION_ID)).thenReturn(List.of(TEAM_ID, TEAM_ID_2));
+        when(matchRepository.findPairingRows(COMPETITION_ID)).thenReturn(List.of(
+                new MatchPairingRow(TEAM_ID, TEAM_ID_2, TEAM_ID_2, null, 1, competition.getStartDate())));
+
+        assertThrows(MatchGenerationException.class, () -> matchService.generateSwissRound(COMPETITION_ID));
+    }
+
+    // -------------------------------------------------
+    // Test: Registrar ganador de un partido
+    // -------------------------------------------------
+    @Test
+    void recordWinnerOk() {
+        Match match = Match.builder().id(10L).competition(competition).team1(team1).team2(team2).build();
+        when(matchRepository.findForUpdateById(10L)).thenReturn(Optional.of(match));
+
+        Match result = matchService.recordWinner(COMPETITION_ID, 10L, TEAM_ID_2);
+
+        assertEquals(team2, result.getWinner());
+        verify(standingsService).recordResult(match);
+    }
+
+    // -------------------------------------------------
+    // Test: Registrar ganador falla si el equipo no juega el partido
+    // -------------------------------------------------
+    @Test
+    void recordWinnerFailedTeamNotInMatch() {
+        Match match = Match.builder().id(10L).competition(competition).team1(team1).team2(team2).build();
+        when(matchRepository.findForUpdateById(10L)).thenReturn(Optional.of(match));
+
+        assertThrows(InvalidMatchResultException.class, () -> matchService.recordWinner(COMPETITION_ID, 10L, TEAM_ID_3));
+        assertNull(match.getWinner());
+    }
+
+    // -------------------------------------------------
+    // Test: Registrar ganador falla si el partido es del cuadro eliminatorio
+    // -------------------------------------------------
+    @Test
+    void recordWinnerFailedBracketMatch() {
+        Match match = Match.builder().id(10L).competition(competition).team1(team1).team2(team2).bracketNode(0).build();
+        when(matchRepository.findForUpdateById(10L)).thenReturn(Optional.of(match));
+
+        assertThrows(InvalidMatchResultException.class, () -> matchService.recordWinner(COMPETITION_ID, 10L, TEAM_ID));
+    }
+
+    // -------------------------------------------------
+    // Test: Registrar marcador de un partido
+    // -------------------------------------------------
+    @Test
+    void recordScoreOk() {
+        Match match = Match.builder().id(10L).competition(competition).team1(team1).team2(team2).build();
+        when(matchRepository.findForUpdateById(10L)).thenReturn(Optional.of(match));
+
+        Match result = matchService.recordScore(COMPETITION_ID, 10L, 1, 3);
+
+        assertEquals(1, result.getHomeScore());
+        assertEquals(3, result.getAwayScore());
+        assertEquals(team2, result.getWinner());
+        verify(standingsService).recordResult(match);
+    }
+
+    // -------------------------------------------------
+    // Test: Un empate deja el partido sin ganador
+    // -------------------------------------------------
+    @Test
+    void recordScoreDraw() {
+        Match match = Match.builder().id(10L).competition(competition).team1(team1).team2(team2).build();
+        when(matchRepository.findForUpdateById(10L)).thenReturn(Optional.of(match));
+
+        Match result = matchService.recordScore(COMPETITION_ID, 10L, 2, 2);
+
+        assertNull(result.getWinner());
+        assertEquals(2, result.getHomeScore());
+    }
+
+    // -------------------------------------------------
+    // Test: Registrar marcador falla si el partido ya tiene resultado
+    // -------------------------------------------------
+    @Test
+    void recordScoreFailedAlreadyPlayed() {
+        Match match = Match.builder().id(10L).competition(competition).team1(team1).team2(team2)
+                .homeScore(0).awayScore(0).build();
+        when(matchRepository.findForUpdateById(10L)).thenReturn(Optional.of(match));
+
+        assertThrows(InvalidMatchResultException.class, () -> matchService.recordScore(COMPETITION_ID, 10L, 1, 0));
+        assertThrows(InvalidMatchResultException.class, () -> matchService.recordWinner(COMPETITION_ID, 10L, TEAM_ID));
+        verifyNoInteractions(standingsService);
+    }
+
     // -------------------------------------------------
     // Test: Obtener partidos de una competición
     // -------------------------------------------------
@@ -198,22 +511,146 @@ public class MatchServiceTest {
         verify(competitionRepository, times(1)).findById(NON_EXISTENT_COMPETITION_ID);
     }
 
+    // -------------------------------------------------
+    // Test: Obtener partidos proyectados a DTO
+    // -------------------------------------------------
+    @Test
+    void getMatchDTOsByCompetitionOk() {
+        MatchDTO dto = MatchDTO.builder().id(1L).competitionId(COMPETITION_ID)
+                .team1Id(TEAM_ID).team1Name("Equipo A").team2Id(TEAM_ID_2).team2Name("Equipo B").build();
+
+        when(matchRepository.findDTOsByCompetitionId(COMPETITION_ID)).thenReturn(List.of(dto));
+
+        List<MatchDTO> result = matchService.getMatchDTOsByCompetition(COMPETITION_ID);
+
+        assertEquals(1, result.size());
+        assertEquals("Equipo A", result.get(0).team1Name());
+        verify(matchRepository, times(1)).findDTOsByCompetitionId(COMPETITION_ID);
+        verify(competitionRepository, never()).findById(anyLong());
+        verify(competitionRepository, never()).existsById(anyLong());
+    }
+
+    // -------------------------------------------------
+    // Test: Obtener partidos proyectados de una competición sin partidos
+    // -------------------------------------------------
+    @Test
+    void getMatchDTOsByCompetitionEmpty() {
+        when(matchRepository.findDTOsByCompetitionId(COMPETITION_ID)).thenReturn(List.of());
+        when(competitionRepository.existsById(COMPETITION_ID)).thenReturn(true);
+
+        List<MatchDTO> result = matchService.getMatchDTOsByCompetition(COMPETITION_ID);
+
+        assertTrue(result.isEmpty());
+        verify(competitionRepository, times(1)).existsById(COMPETITION_ID);
+    }
+
+    // -------------------------------------------------
+    // Test: Obtener partidos proyectados de una competición inexistente
+    // -------------------------------------------------
+    @Test
+    void getMatchDTOsByCompetitionNotFound() {
+        when(matchRepository.findDTOsByCompetitionId(NON_EXISTENT_COMPETITION_ID)).thenReturn(List.of());
+        when(competitionRepository.existsById(NON_EXISTENT_COMPETITION_ID)).thenReturn(false);
+
+        assertThrows(MatchNotFoundException.class,
+                () -> matchService.getMatchDTOsByCompetition(NON_EXISTENT_COMPETITION_ID));
+    }
+
+    // -------------------------------------------------
+    // Test: Obtener una página de partidos por clave
+    // -------------------------------------------------
+    @Test
+    void getMatchesByCompetitionAfterOk() {
+        MatchDTO dto = MatchDTO.builder().id(5L).competitionId(COMPETITION_ID).build();
+        when(matchRepository.findDTOsByCompetitionIdAfter(COMPETITION_ID, 4L, Limit.of(1))).thenReturn(List.of(dto));
+
+        List<MatchDTO> result = matchService.getMatchesByCompetitionAfter(COMPETITION_ID, 4L, 1);
+
+        assertEquals(List.of(dto), result);
+        verify(competitionRepository, never()).existsById(anyLong());
+    }
+
+    // -------------------------------------------------
+    // Test: Calendario de un equipo entre dos fechas
+    // -------------------------------------------------
+    @Test
+    void getMatchesByTeamOk() {
+        LocalDate from = LocalDate.of(2025, 10, 20);
+        LocalDate to = LocalDate.of(2025, 10, 31);
+        MatchDTO dto = MatchDTO.builder().id(1L).team1Id(TEAM_ID_2).team2Id(TEAM_ID).build();
+        when(matchRepository.findDTOsByTeamId(TEAM_ID, from, to)).thenReturn(List.of(dto));
+
+        List<MatchDTO> result = matchService.getMatchesByTeam(TEAM_ID, from, to);
+
+        assertEquals(List.of(dto), result);
+        verify(teamRepository, never()).existsById(anyLong());
+    }
+
+    // -------------------------------------------------
+    // Test: Calendario vacío de un equipo existente
+    // -------------------------------------------------
+    @Test
+    void getMatchesByTeamEmpty() {
+        when(matchRepository.findDTOsByTeamId(TEAM_ID, null, null)).thenReturn(Collections.emptyList());
+        when(teamRepository.existsById(TEAM_ID)).thenReturn(true);
+
+        assertTrue(matchService.getMatchesByTeam(TEAM_ID, null, null).isEmpty());
+    }
+
+    // -------------------------------------------------
+    // Test: Calendario de un equipo inexistente
+    // -------------------------------------------------
+    @Test
+    void getMatchesByTeamNotFound() {
+        when(matchRepository.findDTOsByTeamId(99L, null, null)).thenReturn(Collections.emptyList());
+        when(teamRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(TeamNotFoundException.class, () -> matchService.getMatchesByTeam(99L, null, null));
+    }
+
+    // -------------------------------------------------
+    // Test: Recorrer los partidos de una competición en streaming
+    // -------------------------------------------------
+    @Test
+    void forEachMatchByCompetitionOk() {
+        MatchDTO dto = MatchDTO.builder().id(1L).competitionId(COMPETITION_ID).build();
+        when(matchRepository.streamDTOsByCompetitionId(COMPETITION_ID)).thenReturn(Stream.of(dto));
+
+        List<MatchDTO> visited = new ArrayList<>();
+        matchService.forEachMatchByCompetition(COMPETITION_ID, visited::add);
+
+        assertEquals(List.of(dto), visited);
+        // Con partidos no hace falta comprobar que la competición existe
+        verify(competitionRepository, never()).existsById(anyLong());
+    }
+
+    // -------------------------------------------------
+    // Test: Recorrer partidos de una competición inexistente
+    // -------------------------------------------------
+    @Test
+    void forEachMatchByCompetitionNotFound() {
+        when(matchRepository.streamDTOsByCompetitionId(NON_EXISTENT_COMPETITION_ID)).thenReturn(Stream.empty());
+        when(competitionRepository.existsById(NON_EXISTENT_COMPETITION_ID)).thenReturn(false);
+
+        assertThrows(MatchNotFoundException.class,
+                () -> matchService.forEachMatchByCompetition(NON_EXISTENT_COMPETITION_ID, dto -> fail()));
+    }
+
     // -------------------------------------------------
     // Test: Obtener equipos no asignados a partidos
     // -------------------------------------------------
     @Test
     void getUnassignedTeamsOk() {
-        Match match = Match.builder().competition(competition).team1(team1).team2(team2).build();
-        competition.getMatches().add(match);
-
-        when(competitionRepository.findById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+        when(teamRepository.findUnassignedByCompetition(COMPETITION_ID)).thenReturn(List.of(team3));
 
         List<Team> unassignedTeams = matchService.getUnassignedTeams(COMPETITION_ID);
 
         assertNotNull(unassignedTeams);
         assertEquals(1, unassignedTeams.size());
         assertTrue(unassignedTeams.contains(team3));
-        verify(competitionRepository, times(1)).findById(COMPETITION_ID);
+        // No se cargan la competición ni sus partidos
+        verify(competitionRepository, never()).findById(anyLong());
+        verify(competitionRepository, never()).existsById(anyLong());
     }
 
     // -------------------------------------------------
@@ -221,17 +658,14 @@ public class MatchServiceTest {
     // -------------------------------------------------
     @Test
     void getUnassignedTeamsEmpty() {
-        Match match = Match.builder().competition(competition).team1(team1).team2(team2).build();
-        competition.getMatches().add(match);
-        competition.setTeams(Set.of(team1, team2));
-
-        when(competitionRepository.findById(COMPETITION_ID)).thenReturn(Optional.of(competition));
+        when(teamRepository.findUnassignedByCompetition(COMPETITION_ID)).thenReturn(List.of());
+        when(competitionRepository.existsById(COMPETITION_ID)).thenReturn(true);
 
         List<Team> unassignedTeams = matchService.getUnassignedTeams(COMPETITION_ID);
 
         assertNotNull(unassignedTeams);
         assertTrue(unassignedTeams.isEmpty());
-        verify(competitionRepository, times(1)).findById(COMPETITION_ID);
+        verify(competitionRepository, times(1)).existsById(COMPETITION_ID);
     }
 
     // -------------------------------------------------
@@ -239,12 +673,13 @@ public class MatchServiceTest {
     // -------------------------------------------------
     @Test
     void getUnassignedTeamsCompetitionNotFound() {
-        when(competitionRepository.findById(NON_EXISTENT_COMPETITION_ID)).thenReturn(Optional.empty());
+        when(teamRepository.findUnassignedByCompetition(NON_EXISTENT_COMPETITION_ID)).thenReturn(List.of());
+        when(competitionRepository.existsById(NON_EXISTENT_COMPETITION_ID)).thenReturn(false);
 
         assertThrows(MatchNotFoundException.class,
                 () -> matchService.getUnassignedTeams(NON_EXISTENT_COMPETITION_ID));
 
-        verify(competitionRepository, times(1)).findById(NON_EXISTENT_COMPETITION_ID);
+        verify(competitionRepository, times(1)).existsById(NON_EXISTENT_COMPETITION_ID);
     }
 
 }
@@ -0,0 +1,119 @@
+package com.um.gestioncompeticiones.service;
+
+import com.um.gestioncompeticiones.config.CacheConfig;
+import com.um.gestioncompeticiones.dto.StandingDTO;
+import com.um.gestioncompeticiones.dto.TeamDTO;
+import com.um.gestioncompeticiones.exception.competition.CompetitionNotFoundException;
+import com.um.gestioncompeticiones.model.Competition;
+import com.um.gestioncompeticiones.model.Match;
+import com.um.gestioncompeticiones.model.Team;
+import com.um.gestioncompeticiones.repository.CompetitionRepository;
+import com.um.gestioncompeticiones.repository.MatchRepository;
+import com.um.gestioncompeticiones.repository.MatchResultRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class StandingsServiceTest {
+
+    @Mock
+    private CompetitionRepository competitionRepository;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    private ConcurrentMapCacheManager cacheManager;
+
+    private StandingsServiceImpl standingsService;
+
+    private static final Long COMPETITION_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.STANDINGS);
+        standingsService = new StandingsServiceImpl(competitionRepository, matchRepository, cacheManager);
+
+        when(competitionRepository.existsById(COMPETITION_ID)).thenReturn(true);
+        when(competitionRepository.findTeamDTOs(COMPETITION_ID)).thenReturn(List.of(
+                new TeamDTO(1L, "Equipo A"), new TeamDTO(2L, "Equipo B")));
+    }
+
+    // -------------------------------------------------
+    // Test: La tabla se construye una vez a partir de los resultados guardados
+    // -------------------------------------------------
+    @Test
+    void getStandingsLoadsOnce() {
+        when(matchRepository.findResultRows(COMPETITION_ID)).thenReturn(List.of(
+                new MatchResultRow(10L, 1L, 2L, 0, 2, 2L)));
+
+        List<StandingDTO> standings = standingsService.getStandings(COMPETITION_ID);
+        standingsService.getStandings(COMPETITION_ID);
+
+        assertEquals(2L, standings.get(0).getTeamId());
+        assertEquals(3, standings.get(0).getPoints());
+        verify(matchRepository, times(1)).findResultRows(COMPETITION_ID);
+    }
+
+    // -------------------------------------------------
+    // Test: Los resultados nuevos se suman sin volver a leer los partidos
+    // -------------------------------------------------
+    @Test
+    void recordResultUpdatesLoadedTable() {
+        when(matchRepository.findResultRows(COMPETITION_ID)).thenReturn(List.of());
+        standingsService.getStandings(COMPETITION_ID);
+
+        standingsService.recordResult(match(11L, 3, 1, null));
+
+        List<StandingDTO> standings = standingsService.getStandings(COMPETITION_ID);
+        assertEquals(1L, standings.get(0).getTeamId());
+        assertEquals(3, standings.get(0).getPoints());
+        assertEquals(2, standings.get(0).getGoalDifference());
+        verify(matchRepository, times(1)).findResultRows(COMPETITION_ID);
+    }
+
+    // -------------------------------------------------
+    // Test: Los partidos del cuadro eliminatorio no cuentan
+    // -------------------------------------------------
+    @Test
+    void recordResultIgnoresBracketMatches() {
+        when(matchRepository.findResultRows(COMPETITION_ID)).thenReturn(List.of());
+        standingsService.getStandings(COMPETITION_ID);
+
+        standingsService.recordResult(match(11L, 3, 1, 0));
+
+        assertEquals(0, standingsService.getStandings(COMPETITION_ID).get(0).getPlayed());
+    }
+
+    // -------------------------------------------------
+    // Test: Competición inexistente
+    // -------------------------------------------------
+    @Test
+    void getStandingsNotFound() {
+        when(competitionRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(CompetitionNotFoundException.class, () -> standingsService.getStandings(99L));
+    }
+
+    private Match match(Long id, int homeScore, int awayScore, Integer bracketNode) {
+        Team home = Team.builder().id(1L).name("Equipo A").build();
+        Team away = Team.builder().id(2L).name("Equipo B").build();
+        return Match.builder()
+                .id(id)
+                .competition(Competition.builder().id(COMPETITION_ID).build())
+                .team1(home)
+                .team2(away)
+                .homeScore(homeScore)
+                .awayScore(awayScore)
+                .winner(homeScore > awayScore ? home : homeScore < awayScore ? away : null)
+                .bracketNode(bracketNode)
+                .build();
+    }
+}
@@ -1,24 +1,32 @@
 package com.um.gestioncompeticiones.service;
 
+import com.um.gestioncompeticiones.dto.BulkRegistrationResultDTO;
 import com.um.gestioncompeticiones.dto.TeamCreateDTO;
+import com.um.gestioncompeticiones.dto.TeamDTO;
+import com.um.gestioncompeticiones.exception.competition.CompetitionNotFoundException;
 import com.um.gestioncompeticiones.exception.team.TeamAlreadyRegisteredException;
 import com.um.gestioncompeticiones.exception.team.TeamNotFoundException;
 import com.um.gestioncompeticiones.model.Competition;
 import com.um.gestioncompeticiones.model.Team;
 import com.um.gestioncompeticiones.repository.CompetitionRepository;
+import com.um.gestioncompeticiones.repository.CompetitionTeamJdbcRepository;
 import com.um.gestioncompeticiones.repository.TeamRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 public class TeamServiceTest {
@@ -29,6 +37,9 @@ public class TeamServiceTest {
     @Mock
     private CompetitionRepository competitionRepository;
 
+    @Mock
+    private CompetitionTeamJdbcRepository competitionTeamJdbcRepository;
+
     @InjectMocks
     private TeamServiceImpl teamService;
 
@@ -79,21 +90,20 @@ public class TeamServiceTest {
     @Test
     void registerTeamToCompetitionOk() {
         when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(team));
-        when(competitionRepository.findById(COMPETITION_ID)).thenReturn(Optional.of(competition));
-        when(teamRepository.existsByCompetition(TEAM_ID, COMPETITION_ID)).thenReturn(false);
-        when(teamRepository.save(any(Team.class))).thenReturn(team);
-        when(competitionRepository.save(any(Competition.class))).thenReturn(competition);
+        when(competitionRepository.findNameById(COMPETITION_ID)).thenReturn(Optional.of("Liga Primavera"));
+        when(competitionTeamJdbcRepository.insertIfAbsent(COMPETITION_ID, TEAM_ID)).thenReturn(true);
 
         Team result = teamService.registerTeamToCompetition(TEAM_ID, COMPETITION_ID);
 
         assertNotNull(result);
-        assertTrue(result.getCompetitions().contains(competition));
-        assertTrue(competition.getTeams().contains(team));
+        assertEquals(TEAM_ID, result.getId());
 
         verify(teamRepository, times(1)).findById(TEAM_ID);
-        verify(competitionRepository, times(1)).findById(COMPETITION_ID);
-        verify(teamRepository, times(1)).save(any(Team.class));
-        verify(competitionRepository, times(1)).save(any(Competition.class));
+        verify(competitionTeamJdbcRepository, times(1)).insertIfAbsent(COMPETITION_ID, TEAM_ID);
+        // No se cargan ni se guardan las colecciones de la relación
+        verify(competitionRepository, never()).findById(anyLong());
+        verify(teamRepository, never()).save(any(Team.class));
+        verify(competitionRepository, never()).save(any(Competition.class));
     }
 
     // -------------------------------------------------
@@ -102,14 +112,16 @@ public class TeamServiceTest {
     @Test
     void registerTeamToCompetitionFailedAlreadyRegistered() {
         when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(team));
-        when(competitionRepository.findById(COMPETITION_ID)).thenReturn(Optional.of(competition));
-        when(teamRepository.existsByCompetition(TEAM_ID, COMPETITION_ID)).thenReturn(true);
+        when(competitionRepository.findNameById(COMPETITION_ID)).thenReturn(Optional.of("Liga Primavera"));
+        when(competitionTeamJdbcRepository.insertIfAbsent(COMPETITION_ID, TEAM_ID)).thenReturn(false);
 
-        assertThrows(TeamAlreadyRegisteredException.class,
+        TeamAlreadyRegisteredException ex = assertThrows(TeamAlreadyRegisteredException.class,
                 () -> teamService.registerTeamToCompetition(TEAM_ID, COMPETITION_ID));
 
+        assertTrue(ex.getMessage().contains("Liga Primavera"));
         verify(teamRepository, times(1)).findById(TEAM_ID);
-        verify(competitionRepository, times(1)).findById(COMPETITION_ID);
+        // Tras un INSERT rechazado no se lanza ninguna otra consulta en la transacción
+        verify(competitionRepository, never()).findById(anyLong());
         verify(teamRepository, never()).save(any(Team.class));
         verify(competitionRepository, never()).save(any(Competition.class));
     }
@@ -125,7 +137,8 @@ public class TeamServiceTest {
                 () -> teamService.registerTeamToCompetition(NON_EXISTENT_TEAM_ID, COMPETITION_ID));
 
         verify(teamRepository, times(1)).findById(NON_EXISTENT_TEAM_ID);
-        verify(competitionRepository, never()).findById(anyLong());
+        verify(competitionRepository, never()).findNameById(anyLong());
+        verify(competitionTeamJdbcRepository, never()).insertIfAbsent(anyLong(), anyLong());
     }
 
     // -------------------------------------------------
@@ -134,17 +147,52 @@ public class TeamServiceTest {
     @Test
     void registerTeamToCompetitionFailedCompetitionNotFound() {
         when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(team));
-        when(competitionRepository.findById(NON_EXISTENT_COMPETITION_ID)).thenReturn(Optional.empty());
+        when(competitionRepository.findNameById(NON_EXISTENT_COMPETITION_ID)).thenReturn(Optional.empty());
 
         assertThrows(TeamNotFoundException.class,
                 () -> teamService.registerTeamToCompetition(TEAM_ID, NON_EXISTENT_COMPETITION_ID));
 
         verify(teamRepository, times(1)).findById(TEAM_ID);
-        verify(competitionRepository, times(1)).findById(NON_EXISTENT_COMPETITION_ID);
+        verify(competitionRepository, times(1)).findNameById(NON_EXISTENT_COMPETITION_ID);
+        verify(competitionTeamJdbcRepository, never()).insertIfAbsent(anyLong(), anyLong());
+        verify(teamRepository, never()).save(any(Team.class));
+        verify(competitionRepository, never()).save(any(Competition.class));
+    }
+
+    // -------------------------------------------------
+    // Test: Registrar equipos en bloque separando nuevos, repetidos e inexistentes
+    // -------------------------------------------------
+    @Test
+    void registerTeamsToCompetitionOk() {
+        List<Long> requested = List.of(TEAM_ID, TEAM_ID_2, NON_EXISTENT_TEAM_ID, TEAM_ID_2);
+
+        when(competitionRepository.existsById(COMPETITION_ID)).thenReturn(true);
+        when(teamRepository.findExistingIds(anyCollection())).thenReturn(List.of(TEAM_ID, TEAM_ID_2));
+        when(teamRepository.findRegisteredIds(eq(COMPETITION_ID), anyCollection())).thenReturn(List.of(TEAM_ID));
+
+        BulkRegistrationResultDTO result = teamService.registerTeamsToCompetition(COMPETITION_ID, requested);
+
+        assertEquals(List.of(TEAM_ID_2), result.getRegistered());
+        assertEquals(List.of(TEAM_ID), result.getAlreadyRegistered());
+        assertEquals(List.of(NON_EXISTENT_TEAM_ID), result.getNotFound());
+        verify(competitionTeamJdbcRepository, times(1)).insert(COMPETITION_ID, new long[]{TEAM_ID_2});
         verify(teamRepository, never()).save(any(Team.class));
         verify(competitionRepository, never()).save(any(Competition.class));
     }
 
+    // -------------------------------------------------
+    // Test: Excepción al registrar en bloque si la competición no existe
+    // -------------------------------------------------
+    @Test
+    void registerTeamsToCompetitionFailedCompetitionNotFound() {
+        when(competitionRepository.existsById(NON_EXISTENT_COMPETITION_ID)).thenReturn(false);
+
+        assertThrows(CompetitionNotFoundException.class,
+                () -> teamService.registerTeamsToCompetition(NON_EXISTENT_COMPETITION_ID, List.of(TEAM_ID)));
+
+        verify(competitionTeamJdbcRepository, never()).insert(anyLong(), any(long[].class));
+    }
+
     // -------------------------------------------------
     // Test: Obtener todos los equipos
     // -------------------------------------------------
@@ -177,19 +225,49 @@ public class TeamServiceTest {
         verify(teamRepository, times(1)).findAll();
     }
 
+    // -------------------------------------------------
+    // Test: Obtener una página de equipos por clave
+    // -------------------------------------------------
+    @Test
+    void getTeamsAfterOk() {
+        TeamDTO dto = TeamDTO.builder().id(TEAM_ID_2).name("Equipo B").build();
+        when(teamRepository.findDTOsAfter(TEAM_ID, Limit.of(50))).thenReturn(List.of(dto));
+
+        List<TeamDTO> result = teamService.getTeamsAfter(TEAM_ID, 50);
+
+        assertEquals(List.of(dto), result);
+        verify(teamRepository, never()).findAll();
+    }
+
+    // -------------------------------------------------
+    // Test: Recorrer todos los equipos en streaming
+    // -------------------------------------------------
+    @Test
+    void forEachTeamOk() {
+        TeamDTO dto1 = TeamDTO.builder().id(TEAM_ID).name("Equipo A").build();
+        TeamDTO dto2 = TeamDTO.builder().id(TEAM_ID_2).name("Equipo B").build();
+        when(teamRepository.streamAllDTOs()).thenReturn(Stream.of(dto1, dto2));
+
+        List<TeamDTO> visited = new ArrayList<>();
+        teamService.forEachTeam(visited::add);
+
+        assertEquals(List.of(dto1, dto2), visited);
+        verify(teamRepository, never()).findAll();
+    }
+
     // -------------------------------------------------
     // Test: Obtener equipo por ID correctamente
     // -------------------------------------------------
     @Test
     void getTeamByIdOk() {
-        when(teamRepository.findById(TEAM_ID)).thenReturn(Optional.of(team));
+        when(teamRepository.findDTOById(TEAM_ID)).thenReturn(Optional.of(new TeamDTO(TEAM_ID, "Equipo A")));
 
-        Team result = teamService.getTeamById(TEAM_ID);
+        TeamDTO result = teamService.getTeamById(TEAM_ID);
 
         assertNotNull(result);
-        assertEquals(TEAM_ID, result.getId());
-        assertEquals("Equipo A", result.getName());
-        verify(teamRepository, times(1)).findById(TEAM_ID);
+        assertEquals(TEAM_ID, result.id());
+        assertEquals("Equipo A", result.name());
+        verify(teamRepository, times(1)).findDTOById(TEAM_ID);
     }
 
     // -------------------------------------------------
@@ -197,11 +275,11 @@ public class TeamServiceTest {
     // -------------------------------------------------
     @Test
     void getTeamByIdFailedNotFound() {
-        when(teamRepository.findById(NON_EXISTENT_TEAM_ID)).thenReturn(Optional.empty());
+        when(teamRepository.findDTOById(NON_EXISTENT_TEAM_ID)).thenReturn(Optional.empty());
 
         assertThrows(TeamNotFoundException.class,
                 () -> teamService.getTeamById(NON_EXISTENT_TEAM_ID));
 
-        verify(teamRepository, times(1)).findById(NON_EXISTENT_TEAM_ID);
+        verify(teamRepository, times(1)).findDTOById(NON_EXISTENT_TEAM_ID);
     }
 }
@@ -0,0 +1,119 @@
+package com.um.gestioncompeticiones.standings;
+
+import com.um.gestioncompeticiones.dto.StandingDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StandingsTableTest {
+
+    private static final long[] TEAM_IDS = {10L, 20L, 30L};
+    private static final String[] TEAM_NAMES = {"Equipo A", "Equipo B", "Equipo C"};
+
+    // -------------------------------------------------
+    // Test: Victorias, empates y goles se acumulan por equipo
+    // -------------------------------------------------
+    @Test
+    void recordAccumulatesResults() {
+        StandingsTable table = new StandingsTable(TEAM_IDS, TEAM_NAMES);
+
+        table.record(1L, 10L, 20L, 2, 0, 10L);
+        table.record(2L, 20L, 30L, 1, 1, null);
+        table.record(3L, 30L, 10L, 3, 1, 30L);
+
+        List<StandingDTO> standings = table.snapshot();
+
+        StandingDTO first = standings.get(0);
+        assertEquals(30L, first.getTeamId());
+        assertEquals(1, first.getPosition());
+        assertEquals(4, first.getPoints());
+        assertEquals(2, first.getPlayed());
+        assertEquals(1, first.getWon());
+        assertEquals(1, first.getDrawn());
+        assertEquals(4, first.getGoalsFor());
+        assertEquals(2, first.getGoalDifference());
+
+        StandingDTO second = standings.get(1);
+        assertEquals(10L, second.getTeamId());
+        assertEquals(3, second.getPoints());
+        assertEquals(1, second.getLost());
+        assertEquals(0, second.getGoalDifference());
+
+        StandingDTO third = standings.get(2);
+        assertEquals(20L, third.getTeamId());
+        assertEquals(1, third.getPoints());
+        assertEquals(-2, third.getGoalDifference());
+    }
+
+    // -------------------------------------------------
+    // Test: A igualdad de puntos decide la diferencia de goles, los goles a favor y el nombre
+    // -------------------------------------------------
+    @Test
+    void snapshotBreaksTies() {
+        StandingsTable table = new StandingsTable(TEAM_IDS, TEAM_NAMES);
+
+        table.record(1L, 10L, 20L, 1, 0, 10L);
+        table.record(2L, 30L, 20L, 3, 2, 30L);
+
+        List<StandingDTO> standings = table.snapshot();
+
+        // A y C tienen 3 puntos y +1, pero C ha marcado más goles
+        assertEquals(List.of(30L, 10L, 20L), standings.stream().map(StandingDTO::getTeamId).toList());
+
+        StandingsTable empty = new StandingsTable(new long[]{2L, 1L}, new String[]{"Zeta", "Alfa"});
+        assertEquals("Alfa", empty.snapshot().get(0).getTeamName());
+    }
+
+    // -------------------------------------------------
+    // Test: Un partido ya sumado o con equipos desconocidos no cambia la tabla
+    // -------------------------------------------------
+    @Test
+    void recordIgnoresDuplicatesAndUnknownTeams() {
+        StandingsTable table = new StandingsTable(TEAM_IDS, TEAM_NAMES);
+
+        assertTrue(table.record(1L, 10L, 20L, 2, 0, 10L));
+        assertFalse(table.record(1L, 10L, 20L, 2, 0, 10L));
+        assertFalse(table.record(2L, 10L, 99L, 2, 0, 10L));
+
+        StandingDTO first = table.snapshot().get(0);
+        assertEquals(1, first.getPlayed());
+        assertEquals(3, first.getPoints());
+    }
+
+    // -------------------------------------------------
+    // Test: Los partidos de un mismo local se reconocen aunque lleguen desordenados
+    // -------------------------------------------------
+    @Test
+    void recordIgnoresDuplicatesOutOfOrder() {
+        StandingsTable table = new StandingsTable(TEAM_IDS, TEAM_NAMES);
+        long[] matchIds = {50L, 10L, 30L, 70L, 20L, 60L, 40L};
+
+        for (long matchId : matchIds) {
+            assertTrue(table.record(matchId, 10L, 20L, 1, 1, null));
+        }
+        for (long matchId : matchIds) {
+            assertFalse(table.record(matchId, 10L, 20L, 1, 1, null));
+        }
+
+        StandingDTO home = table.snapshot().stream().filter(s -> s.getTeamId() == 10L).findFirst().orElseThrow();
+        assertEquals(matchIds.length, home.getPlayed());
+        assertEquals(matchIds.length, home.getDrawn());
+    }
+
+    // -------------------------------------------------
+    // Test: Un partido con solo ganador cuenta como victoria sin goles
+    // -------------------------------------------------
+    @Test
+    void recordWinnerWithoutScore() {
+        StandingsTable table = new StandingsTable(TEAM_IDS, TEAM_NAMES);
+
+        table.record(1L, 10L, 20L, 0, 0, 20L);
+
+        StandingDTO first = table.snapshot().get(0);
+        assertEquals(20L, first.getTeamId());
+        assertEquals(1, first.getWon());
+        assertEquals(0, first.getGoalsFor());
+    }
+}